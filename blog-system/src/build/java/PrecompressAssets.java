@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 构建时静态资源预压缩，由 Maven 在 process-resources 阶段以单文件源码方式运行：
+ * {@code java src/build/java/PrecompressAssets.java target/classes/static}
+ *
+ * <p>为文本类资源生成最高压缩级别的 {@code .gz} 副本；PATH 中有 {@code brotli} 命令时同时生成
+ * {@code .br}（JDK 没有 Brotli 编码器）。运行时由 {@code EncodedResourceResolver} 按 Accept-Encoding
+ * 直接输出这些副本。</p>
+ *
+ * <p>通过 {@code url(...)} 引用其他本地资源的样式表不生成副本：这类样式表需要在运行时把链接改写为
+ * 带内容摘要的地址，而压缩副本会跳过改写。</p>
+ *
+ * @author Weijue
+ */
+public class PrecompressAssets {
+
+    private static final Set<String> EXTENSIONS = Set.of("css", "js", "svg", "json", "txt");
+    private static final int MIN_SIZE = 512;
+    private static final Pattern LOCAL_URL = Pattern.compile("url\\(\\s*['\"]?(?!data:|https?:|//)");
+
+    /**
+     * 入口
+     *
+     * @param args 静态资源根目录
+     * @throws IOException          读写失败
+     * @throws InterruptedException 等待 brotli 进程时被中断
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> assets;
+        try (Stream<Path> files = Files.walk(root)) {
+            assets = files.filter(Files::isRegularFile).filter(PrecompressAssets::compressible).toList();
+        }
+        boolean brotli = brotliAvailable();
+        int written = 0;
+        for (Path asset : assets) {
+            byte[] content = Files.readAllBytes(asset);
+            if (references(asset, content)) {
+                continue;
+            }
+            byte[] gzip = gzip(content);
+            if (gzip.length < content.length) {
+                Files.write(sibling(asset, ".gz"), gzip);
+                written++;
+            }
+            if (brotli) {
+                Process process = new ProcessBuilder("brotli", "--best", "--force", "--keep", asset.toString())
+                        .inheritIO().start();
+                if (process.waitFor() != 0) {
+                    throw new IOException("brotli 压缩失败：" + asset);
+                }
+            }
+        }
+        System.out.printf("预压缩静态资源 %d 个（brotli：%s）%n", written, brotli ? "是" : "否");
+    }
+
+    /**
+     * 判断文件是否值得预压缩：文本类扩展名且不小于 {@value #MIN_SIZE} 字节
+     *
+     * @param file 文件
+     * @return 是否预压缩
+     */
+    private static boolean compressible(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && EXTENSIONS.contains(name.substring(dot + 1)) && file.toFile().length() >= MIN_SIZE;
+    }
+
+    /**
+     * 判断是否为引用了其他本地资源的样式表
+     *
+     * @param asset   文件
+     * @param content 文件内容
+     * @return 是否引用本地资源
+     */
+    private static boolean references(Path asset, byte[] content) {
+        return asset.getFileName().toString().endsWith(".css")
+                && LOCAL_URL.matcher(new String(content, StandardCharsets.UTF_8)).find();
+    }
+
+    /**
+     * 以最高压缩级别 gzip 压缩
+     *
+     * @param content 原始内容
+     * @return 压缩后的字节
+     * @throws IOException 压缩失败
+     */
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 同目录下追加后缀的文件
+     *
+     * @param asset  原文件
+     * @param suffix 后缀
+     * @return 副本路径
+     */
+    private static Path sibling(Path asset, String suffix) {
+        return asset.resolveSibling(asset.getFileName() + suffix);
+    }
+
+    /**
+     * 检测 PATH 中是否有 brotli 命令
+     *
+     * @return 是否可用
+     */
+    private static boolean brotliAvailable() {
+        try {
+            return new ProcessBuilder("brotli", "--version").redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD).start().waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
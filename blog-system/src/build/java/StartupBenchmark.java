@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipFile;
+
+/**
+ * 启动耗时基准测试，由 Maven 以单文件源码方式运行：
+ * {@code java src/build/java/StartupBenchmark.java target/fast-start blog-system-<版本>.jar 5 target/startup-benchmark.csv dev}
+ *
+ * <p>依次以普通 JVM、AOT、AOT + CDS 三种方式启动解压后的应用（与 AOT 处理相同的 profile，使用内存库），
+ * 从启动进程开始计时，到 {@code GET /} 第一次返回 200 为止，随后结束进程。每种方式先丢弃一次预热运行
+ * （填充操作系统文件缓存），再运行指定次数，输出最小值、中位数与最大值，并把每次结果写入 CSV 便于跟踪。
+ * 缺少 AOT 产物或 CDS 归档的方式被跳过。</p>
+ *
+ * @author Weijue
+ */
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    /**
+     * 启动方式
+     *
+     * @param name    名称
+     * @param jvmArgs JVM 参数
+     */
+    private record Mode(String name, List<String> jvmArgs) {
+    }
+
+    /**
+     * 入口
+     *
+     * @param args 解压目录、应用 jar 文件名、每种方式的运行次数、结果 CSV 路径、profile
+     * @throws Exception 启动或等待失败
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args[0]);
+        String jar = args[1];
+        int runs = Integer.parseInt(args[2]);
+        Path csv = Path.of(args[3]);
+        String profiles = args[4];
+        if (!Files.isRegularFile(directory.resolve(jar))) {
+            throw new IllegalStateException("未找到 " + directory.resolve(jar) + "，请先执行 ./mvnw -Pfast-start package");
+        }
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("jvm", List.of()));
+        if (aotProcessed(directory.resolve(jar))) {
+            modes.add(new Mode("aot", List.of("-Dspring.aot.enabled=true")));
+            if (Files.isRegularFile(directory.resolve("application.jsa"))) {
+                modes.add(new Mode("aot+cds",
+                        List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true")));
+            }
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        List<String> lines = new ArrayList<>(List.of("mode,run,millis"));
+        System.out.printf("%-8s %6s %8s %8s %8s%n", "mode", "runs", "min", "median", "max");
+        for (Mode mode : modes) {
+            startup(directory, jar, profiles, mode, client);
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = startup(directory, jar, profiles, mode, client);
+                lines.add(mode.name() + "," + (run + 1) + "," + millis[run]);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-8s %6d %6dms %6dms %6dms%n", mode.name(), runs,
+                    millis[0], millis[runs / 2], millis[runs - 1]);
+        }
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+        System.out.println("结果已写入 " + csv);
+    }
+
+    /**
+     * 启动一次应用，返回从启动进程到首页第一次返回 200 的毫秒数
+     *
+     * @param directory 解压目录
+     * @param jar       应用 jar 文件名
+     * @param profiles  启用的 profile
+     * @param mode      启动方式
+     * @param client    HTTP 客户端
+     * @return 耗时（毫秒）
+     * @throws Exception 启动失败或超时
+     */
+    private static long startup(Path directory, String jar, String profiles, Mode mode, HttpClient client)
+            throws Exception {
+        int port = freePort();
+        Path log = Files.createTempFile("startup-" + mode.name().replace('+', '-'), ".log");
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-jar", jar, "--server.port=" + port, "--spring.profiles.active=" + profiles,
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa", "--spring.datasource.password=",
+                "--app.security.admin.password=benchmark", "--app.blog.feed.site-url=http://localhost:" + port));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " 启动失败，日志见 " + log);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                        Files.deleteIfExists(log);
+                        return millis;
+                    }
+                } catch (ConnectException | HttpTimeoutException e) {
+                    // 尚未开始监听
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException(mode.name() + " 启动超时，日志见 " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    /**
+     * 应用 jar 是否包含 AOT 生成的初始化器
+     *
+     * @param jar 应用 jar
+     * @return 是否经过 AOT 处理
+     * @throws IOException 读取失败
+     */
+    private static boolean aotProcessed(Path jar) throws IOException {
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            return zip.stream().anyMatch(entry -> entry.getName().endsWith("__ApplicationContextInitializer.class"));
+        }
+    }
+
+    /**
+     * 获取一个空闲端口
+     *
+     * @return 端口号
+     * @throws IOException 分配失败
+     */
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * 基准测试语料，使用固定随机种子生成，保证多次运行之间可比
+ *
+ * @author Weijue
+ */
+public enum BenchmarkCorpus {
+
+    /**
+     * 短笔记：几段中英文混排文字，约 1 KB
+     */
+    SHORT_NOTE {
+        @Override
+        String generate(SplittableRandom random) {
+            StringBuilder markdown = new StringBuilder("## 今日笔记\n\n");
+            for (int i = 0; i < 4; i++) {
+                appendParagraph(markdown, random, 60);
+            }
+            return markdown.toString();
+        }
+    },
+
+    /**
+     * 表格密集：多张 GFM 表格，约 20 KB
+     */
+    TABLE_HEAVY {
+        @Override
+        String generate(SplittableRandom random) {
+            StringBuilder markdown = new StringBuilder("# 性能对比\n\n");
+            for (int table = 0; table < 8; table++) {
+                appendParagraph(markdown, random, 40);
+                markdown.append("| 场景 | 吞吐量 | p50 | p99 | 备注 |\n|---|---:|---:|---:|---|\n");
+                for (int row = 0; row < 20; row++) {
+                    markdown.append("| case-").append(row)
+                            .append(" | ").append(random.nextInt(1000, 50000))
+                            .append(" | ").append(random.nextInt(1, 20)).append("ms")
+                            .append(" | ").append(random.nextInt(20, 200)).append("ms")
+                            .append(" | **").append(WORDS[random.nextInt(WORDS.length)]).append("** |\n");
+                }
+                markdown.append('\n');
+            }
+            return markdown.toString();
+        }
+    },
+
+    /**
+     * 代码密集：大量 Java 代码块的长文，约 200 KB
+     */
+    CODE_HEAVY_200K {
+        @Override
+        String generate(SplittableRandom random) {
+            StringBuilder markdown = new StringBuilder("# Spring Boot 源码阅读\n\n");
+            int block = 0;
+            while (markdown.length() < 200 * 1024) {
+                markdown.append("### 片段 ").append(block++).append("\n\n");
+                appendParagraph(markdown, random, 80);
+                markdown.append("```java\n");
+                for (int line = 0; line < 30; line++) {
+                    markdown.append("    public String method").append(line)
+                            .append("(String input) {\n        return input + \"")
+                            .append(WORDS[random.nextInt(WORDS.length)]).append("\";\n    }\n");
+                }
+                markdown.append("```\n\n");
+            }
+            return markdown.toString();
+        }
+    };
+
+    private static final String[] WORDS = {
+        "Spring", "Boot", "自动配置", "起步依赖", "缓存", "索引", "渲染", "Thymeleaf",
+        "CommonMark", "延迟", "吞吐量", "留白", "设计", "未来", "JVM", "GC"
+    };
+
+    /**
+     * 生成语料
+     *
+     * @param random 随机数生成器
+     * @return Markdown 文本
+     */
+    abstract String generate(SplittableRandom random);
+
+    /**
+     * 使用固定种子生成语料
+     *
+     * @return Markdown 文本
+     */
+    public String markdown() {
+        return generate(new SplittableRandom(42));
+    }
+
+    /**
+     * 追加一段带行内格式的中英文混排段落
+     *
+     * @param markdown 输出缓冲
+     * @param random   随机数生成器
+     * @param words    词数
+     */
+    private static void appendParagraph(StringBuilder markdown, SplittableRandom random, int words) {
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            switch (random.nextInt(10)) {
+                case 0 -> markdown.append("**").append(word).append("**");
+                case 1 -> markdown.append('`').append(word).append('`');
+                case 2 -> markdown.append('[').append(word).append("](https://example.com/").append(i).append(')');
+                default -> markdown.append(word);
+            }
+            markdown.append(i % 12 == 11 ? "。" : " ");
+        }
+        markdown.append("\n\n");
+    }
+}
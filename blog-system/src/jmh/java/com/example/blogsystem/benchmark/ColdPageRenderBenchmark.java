@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.benchmark;
+
+import com.example.blogsystem.config.RenderProperties;
+import com.example.blogsystem.service.RenderExecutor;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 冷缓存下整页（N 篇文章）Markdown 渲染的墙钟时间，对比串行与并行渲染
+ *
+ * @author Weijue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColdPageRenderBenchmark {
+
+    @Param({"50"})
+    private int postCount;
+
+    @Param({"1", "4"})
+    private int maxPerRequest;
+
+    @Param({"TABLE_HEAVY"})
+    private BenchmarkCorpus corpus;
+
+    private MarkdownUtil markdownUtil;
+    private RenderExecutor renderExecutor;
+    private List<String> sources;
+
+    /**
+     * 初始化执行器与语料
+     */
+    @Setup
+    public void setUp() {
+        markdownUtil = new MarkdownUtil();
+        renderExecutor = new RenderExecutor(new RenderProperties(false, false, 100,
+                new RenderProperties.Cache(DataSize.ofMegabytes(64)),
+                new RenderProperties.Executor(0, maxPerRequest),
+                new RenderProperties.Highlight(DataSize.ofMegabytes(16))));
+        String markdown = corpus.markdown();
+        sources = new ArrayList<>();
+        for (int i = 0; i < postCount; i++) {
+            sources.add(markdown + "\n\n文章 " + i);
+        }
+    }
+
+    /**
+     * 关闭线程池
+     */
+    @TearDown
+    public void tearDown() {
+        renderExecutor.destroy();
+    }
+
+    /**
+     * 渲染整页文章
+     *
+     * @return 渲染结果
+     */
+    @Benchmark
+    public String[] renderPage() {
+        String[] html = new String[sources.size()];
+        List<Integer> indexes = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            indexes.add(i);
+        }
+        renderExecutor.forEach(indexes, i -> html[i] = markdownUtil.markdownToHtml(sources.get(i)));
+        return html;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.benchmark;
+
+import com.example.blogsystem.dto.PostCard;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 首页视图渲染基准测试，使用与应用相同的模板与 SpEL 方言渲染 N 篇文章节选
+ *
+ * @author Weijue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexRenderBenchmark {
+
+    @Param({"10", "50"})
+    private int postCount;
+
+    @Param({"SHORT_NOTE", "TABLE_HEAVY"})
+    private BenchmarkCorpus corpus;
+
+    private SpringTemplateEngine templateEngine;
+    private JakartaServletWebApplication application;
+    private Map<String, Object> variables;
+
+    /**
+     * 初始化模板引擎与视图模型
+     */
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        application = JakartaServletWebApplication.buildApplication(new MockServletContext());
+
+        MarkdownUtil markdownUtil = new MarkdownUtil();
+        String markdown = corpus.markdown();
+        String excerptHtml = markdownUtil.render(markdown).excerptHtml();
+        List<PostCard> posts = new ArrayList<>();
+        for (int i = 0; i < postCount; i++) {
+            posts.add(new PostCard((long) i, "基准测试文章 " + i, "Weijue",
+                    LocalDateTime.of(2025, 1, 1, 12, 0).minusHours(i), "post-" + i,
+                    MarkdownUtil.RENDERER_VERSION, excerptHtml));
+        }
+        variables = new HashMap<>();
+        variables.put("posts", posts);
+        variables.put("newerCursor", null);
+        variables.put("olderCursor", "1735732800000000_1");
+    }
+
+    /**
+     * 渲染完整首页
+     *
+     * @return 渲染输出
+     */
+    @Benchmark
+    public String renderIndex() {
+        WebContext context = new WebContext(
+                application.buildExchange(new MockHttpServletRequest(), new MockHttpServletResponse()),
+                Locale.SIMPLIFIED_CHINESE, variables);
+        StringWriter writer = new StringWriter(64 * 1024);
+        templateEngine.process("index", context, writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.benchmark;
+
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Markdown 渲染基准测试
+ *
+ * @author Weijue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkdownBenchmark {
+
+    @Param({"SHORT_NOTE", "TABLE_HEAVY", "CODE_HEAVY_200K"})
+    private BenchmarkCorpus corpus;
+
+    private MarkdownUtil markdownUtil;
+    private String markdown;
+
+    /**
+     * 初始化渲染器与语料
+     */
+    @Setup
+    public void setUp() {
+        markdownUtil = new MarkdownUtil();
+        markdown = corpus.markdown();
+    }
+
+    /**
+     * 解析并渲染一篇文章
+     *
+     * @return 渲染后的 HTML
+     */
+    @Benchmark
+    public String markdownToHtml() {
+        return markdownUtil.markdownToHtml(markdown);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.benchmark;
+
+import com.example.blogsystem.search.SearchIndex;
+import com.example.blogsystem.search.SearchResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全文检索基准测试，采样模式输出 p50/p99 等分位数
+ * <p>
+ * 词表由常用词与合成长尾词组成，按 Zipf 分布抽样，使倒排列表长度接近真实文章
+ *
+ * @author Weijue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SearchBenchmark {
+
+    private static final String[] WORDS = {
+        "Spring", "Boot", "自动配置", "起步依赖", "缓存", "索引", "渲染", "模板",
+        "设计之美", "少即是多", "留白", "呼吸感", "未来", "创造者", "终身学习", "边缘计算"
+    };
+
+    private static final int VOCABULARY_SIZE = 20_000;
+
+    private static final char[] HAN = "数据服务系统模型线程内存网络接口配置事务查询日志测试部署容器集群消息队列安全认证前端后端算法结构"
+            .toCharArray();
+
+    @Param({"100000"})
+    private int postCount;
+
+    @Param({"spring 缓存", "设计之美", "终身学习 未来"})
+    private String query;
+
+    private SearchIndex index;
+
+    /**
+     * 构建索引
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] vocabulary = vocabulary(random);
+        double[] cumulative = zipf(vocabulary.length);
+        index = new SearchIndex();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (long id = 1; id <= postCount; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 120; i++) {
+                content.append(vocabulary[sample(cumulative, random)]).append(i % 10 == 9 ? "。" : " ");
+            }
+            index.index(id, "文章 " + vocabulary[sample(cumulative, random)], "Weijue", now, content.toString());
+        }
+    }
+
+    /**
+     * 构造词表：常用词排在最前，其余为合成的中英文长尾词
+     *
+     * @param random 随机数生成器
+     * @return 按词频排名排列的词表
+     */
+    private static String[] vocabulary(SplittableRandom random) {
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        System.arraycopy(WORDS, 0, vocabulary, 0, WORDS.length);
+        for (int i = WORDS.length; i < VOCABULARY_SIZE; i++) {
+            vocabulary[i] = i % 2 == 0
+                    ? "term" + Integer.toString(i, 36)
+                    : "" + HAN[random.nextInt(HAN.length)] + HAN[random.nextInt(HAN.length)] + HAN[random.nextInt(HAN.length)];
+        }
+        return vocabulary;
+    }
+
+    /**
+     * 计算 Zipf 分布（s = 1）的累积概率
+     *
+     * @param size 词表大小
+     * @return 累积概率
+     */
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * 按累积概率抽取一个词的排名
+     *
+     * @param cumulative 累积概率
+     * @param random     随机数生成器
+     * @return 词的排名
+     */
+    private static int sample(double[] cumulative, SplittableRandom random) {
+        int found = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(found >= 0 ? found : -found - 1, cumulative.length - 1);
+    }
+
+    /**
+     * 检索前 20 条结果
+     *
+     * @return 检索结果
+     */
+    @Benchmark
+    public List<SearchResult> search() {
+        return index.search(query, 20);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.benchmark;
+
+import com.example.blogsystem.stats.LongAdderMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 阅读数累加基准测试：多线程对少量热门文章计数，对比分段累加表与 ConcurrentHashMap
+ *
+ * @author Weijue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ViewCounterBenchmark {
+
+    @Param({"16", "10000"})
+    private int postCount;
+
+    private LongAdderMap adderMap;
+    private ConcurrentHashMap<Long, LongAdder> concurrentMap;
+
+    /**
+     * 预先放入全部文章，只测量已存在键的累加
+     */
+    @Setup
+    public void setUp() {
+        adderMap = new LongAdderMap(Runtime.getRuntime().availableProcessors() * 4);
+        concurrentMap = new ConcurrentHashMap<>();
+        for (long id = 1; id <= postCount; id++) {
+            adderMap.increment(id);
+            concurrentMap.computeIfAbsent(id, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 分段累加表
+     */
+    @Benchmark
+    public void longAdderMap() {
+        adderMap.increment(ThreadLocalRandom.current().nextInt(postCount) + 1L);
+    }
+
+    /**
+     * ConcurrentHashMap 装箱键加 LongAdder
+     */
+    @Benchmark
+    public void concurrentHashMap() {
+        concurrentMap.computeIfAbsent(ThreadLocalRandom.current().nextInt(postCount) + 1L, key -> new LongAdder())
+                .increment();
+    }
+}
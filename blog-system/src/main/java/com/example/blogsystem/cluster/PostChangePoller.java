@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.cluster;
+
+import com.example.blogsystem.config.ClusterProperties;
+import com.example.blogsystem.datasource.ReadWriteRoutingDataSource;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.entity.PostChange;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.event.PostChangedEvent.ChangeType;
+import com.example.blogsystem.repository.PostChangeRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文章变更日志轮询器，让每个节点的本地缓存跟上其他节点的写入
+ *
+ * <p>后台线程按 id 递增读取变更日志（主键索引上的范围查询），跳过本节点写入的记录；对其他节点的变更，
+ * 先逐出二级缓存中的该文章与全部查询结果，再以 {@code remote=true} 在本节点重新发布
+ * {@link PostChangedEvent}，由各监听方（渲染缓存、订阅源、检索索引、静态站点）按单篇文章增量刷新。</p>
+ *
+ * <p>自增 id 按分配顺序而非提交顺序可见：较小 id 的事务可能晚于较大 id 提交。因此只有连续处理过的
+ * id 才推进水位，缺口等待 {@code gap-timeout} 后才跳过（事务已回滚或长时间未提交）。</p>
+ *
+ * <p>轮询与清理在主库上执行，但不改变公开内容，提交后不设置读写分离的写入屏障。</p>
+ *
+ * @author Weijue
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.blog.cluster", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostChangePoller implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PostChangePoller.class);
+
+    /**
+     * 两次清理过期变更日志之间的最小间隔
+     */
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final PostChangeRepository postChangeRepository;
+    private final PostChangeRecorder recorder;
+    private final ClusterProperties clusterProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache secondLevelCache;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 此 id 及之前的变更均已处理（或放弃等待），仅由轮询线程访问
+     */
+    private long watermark;
+    private final TreeSet<Long> applied = new TreeSet<>();
+    private final Map<Long, Long> gapFirstSeen = new HashMap<>();
+    private long lastPurge = System.nanoTime() - PURGE_INTERVAL_NANOS;
+
+    /**
+     * 构造函数，以当前最大 id 作为起始水位（此前的变更已体现在启动时构建的本地缓存中）
+     *
+     * @param postChangeRepository 变更日志仓储
+     * @param recorder             变更日志记录器，提供本节点标识
+     * @param clusterProperties    多节点配置
+     * @param eventPublisher       事件发布器
+     * @param entityManagerFactory 实体管理器工厂，用于逐出二级缓存
+     */
+    public PostChangePoller(PostChangeRepository postChangeRepository, PostChangeRecorder recorder,
+                            ClusterProperties clusterProperties, ApplicationEventPublisher eventPublisher,
+                            EntityManagerFactory entityManagerFactory) {
+        this.postChangeRepository = postChangeRepository;
+        this.recorder = recorder;
+        this.clusterProperties = clusterProperties;
+        this.eventPublisher = eventPublisher;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.watermark = postChangeRepository.findMaxId();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-change-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 应用启动完成后开始轮询
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = clusterProperties.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::pollSafely, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("文章变更日志轮询已启动：节点 {}，起始 id {}", recorder.nodeId(), watermark);
+    }
+
+    /**
+     * 执行一次轮询，异常只记录日志，不中断后续轮询
+     */
+    private void pollSafely() {
+        try {
+            poll();
+            purgeExpired();
+        } catch (Exception e) {
+            log.warn("文章变更日志轮询失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 读取水位之后的变更，应用其他节点的变更并推进水位
+     */
+    void poll() {
+        List<PostChange> changes = ReadWriteRoutingDataSource.withoutWriteFence(() -> postChangeRepository
+                .findAfter(watermark, PageRequest.of(0, clusterProperties.batchSize())));
+        for (PostChange change : changes) {
+            if (applied.add(change.getId()) && !recorder.nodeId().equals(change.getNodeId())) {
+                apply(change);
+            }
+        }
+        advanceWatermark();
+    }
+
+    /**
+     * 逐出受影响的二级缓存条目并在本节点重新发布变更事件
+     *
+     * @param change 其他节点的变更
+     */
+    private void apply(PostChange change) {
+        if (change.getChangeType() == ChangeType.BULK || change.getPostId() == null) {
+            secondLevelCache.evict(Post.class);
+        } else {
+            secondLevelCache.evict(Post.class, change.getPostId());
+        }
+        secondLevelCache.evictQueryRegions();
+        eventPublisher.publishEvent(new PostChangedEvent(change.getPostId(), change.getChangeType(),
+                change.getPreviousContentHash(), true));
+    }
+
+    /**
+     * 沿连续的已处理 id 推进水位；遇到缺口时等待其提交，超过 gap-timeout 后跳过
+     */
+    private void advanceWatermark() {
+        long now = System.nanoTime();
+        while (!applied.isEmpty()) {
+            long next = watermark + 1;
+            if (applied.first() == next) {
+                applied.pollFirst();
+                gapFirstSeen.remove(next);
+                watermark = next;
+                continue;
+            }
+            long firstSeen = gapFirstSeen.computeIfAbsent(next, id -> now);
+            if (now - firstSeen < clusterProperties.gapTimeout().toNanos()) {
+                break;
+            }
+            gapFirstSeen.remove(next);
+            watermark = next;
+        }
+    }
+
+    /**
+     * 定期删除超过保留时长的变更日志；多个节点同时执行也只是重复删除
+     */
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        if (now - lastPurge < PURGE_INTERVAL_NANOS) {
+            return;
+        }
+        lastPurge = now;
+        int purged = ReadWriteRoutingDataSource.withoutWriteFence(() -> postChangeRepository
+                .deleteOlderThan(LocalDateTime.now().minus(clusterProperties.retention())));
+        if (purged > 0) {
+            log.info("已清理 {} 条过期的文章变更日志", purged);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.cluster;
+
+import com.example.blogsystem.config.ClusterProperties;
+import com.example.blogsystem.entity.PostChange;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.repository.PostChangeRepository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 文章变更日志记录器
+ *
+ * <p>同步监听本节点发布的文章变更事件，在写入事务内追加一条变更日志：文章写入回滚时日志一并回滚，
+ * 提交后其他节点即可轮询到。其他节点重放的事件不再记录。</p>
+ *
+ * @author Weijue
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.blog.cluster", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostChangeRecorder {
+
+    private final PostChangeRepository postChangeRepository;
+    private final String nodeId;
+
+    /**
+     * 构造函数
+     *
+     * @param postChangeRepository 变更日志仓储
+     * @param clusterProperties    多节点配置
+     */
+    public PostChangeRecorder(PostChangeRepository postChangeRepository, ClusterProperties clusterProperties) {
+        this.postChangeRepository = postChangeRepository;
+        this.nodeId = clusterProperties.nodeId() == null || clusterProperties.nodeId().isBlank()
+                ? UUID.randomUUID().toString() : clusterProperties.nodeId();
+    }
+
+    /**
+     * 获取本节点标识
+     *
+     * @return 节点标识
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 在当前事务内追加变更日志；批量导入等不在事务内发布的事件单独提交
+     *
+     * @param event 文章变更事件
+     */
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!event.remote()) {
+            postChangeRepository.save(new PostChange(event.postId(), event.type(), event.previousContentHash(),
+                    nodeId));
+        }
+    }
+}
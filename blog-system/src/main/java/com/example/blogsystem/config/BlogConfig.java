@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 博客业务配置类
+ *
+ * @author Weijue
+ */
+@Configuration
+@EnableConfigurationProperties({BlogProperties.class, RenderProperties.class, SearchProperties.class,
+        FeedProperties.class, StaticSiteProperties.class, TransferProperties.class, SeedProperties.class,
+        EntityCacheProperties.class, DataSourceRoutingProperties.class, ClusterProperties.class,
+        ViewCounterProperties.class, WarmupProperties.class})
+public class BlogConfig {
+}
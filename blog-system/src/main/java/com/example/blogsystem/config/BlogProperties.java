@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 博客展示相关配置属性类
+ *
+ * @param pageSize       首页每页文章数
+ * @param adminPageSize  管理页每页文章数
+ * @param streamIndex    首页较早方向的翻页是否流式输出（边查询边渲染）
+ * @param indexChunkSize 流式首页每次查询的文章数
+ * @param sidebarTags    侧栏标签云展示的标签数
+ * @param siteVersion    页面模板版本，写入公开页面的 ETag；修改模板或样式后递增，各节点须一致
+ * @param siteVersionTime 页面模板版本的生效时间，作为公开页面 Last-Modified 的下限；与 siteVersion 一同修改，
+ *                        未配置时 Last-Modified 只取内容修改时间
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog")
+public record BlogProperties(
+        @DefaultValue("10") int pageSize,
+        @DefaultValue("20") int adminPageSize,
+        @DefaultValue("true") boolean streamIndex,
+        @DefaultValue("5") int indexChunkSize,
+        @DefaultValue("30") int sidebarTags,
+        @DefaultValue("1") String siteVersion,
+        OffsetDateTime siteVersionTime) {
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 多节点缓存失效配置属性类
+ *
+ * @param enabled      是否记录文章变更日志并轮询其他节点的变更
+ * @param nodeId       本节点标识，为空时启动时随机生成
+ * @param pollInterval 变更日志轮询间隔
+ * @param batchSize    每次轮询最多读取的变更条数
+ * @param gapTimeout   id 缺口（未提交或已回滚的写入）最多等待多久后跳过
+ * @param retention    变更日志保留时长，超过的记录由轮询节点定期删除
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.cluster")
+public record ClusterProperties(
+        @DefaultValue("true") boolean enabled,
+        String nodeId,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("30s") Duration gapTimeout,
+        @DefaultValue("1d") Duration retention) {
+}
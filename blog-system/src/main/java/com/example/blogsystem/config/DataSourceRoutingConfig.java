@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import com.example.blogsystem.datasource.ReadWriteRoutingDataSource;
+import com.example.blogsystem.datasource.ReplicaLagMonitor;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 读写分离数据源配置类，{@code app.blog.datasource.routing.enabled=true} 时取代默认的单一连接池
+ *
+ * <p>主库与每个副本各自一个 Hikari 连接池（池名为 {@code primary}、{@code replica-1}……），
+ * 连接池指标以 {@code hikaricp.connections.*{pool=...}} 按目标暴露。</p>
+ *
+ * @author Weijue
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.blog.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final Binder binder;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 构造函数
+     *
+     * @param dataSourceProperties 主库连接配置
+     * @param environment          环境，用于绑定连接池参数
+     * @param meterRegistry        指标注册表
+     */
+    public DataSourceRoutingConfig(DataSourceProperties dataSourceProperties, Environment environment,
+                                   MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.binder = Binder.get(environment);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 创建副本连接池与延迟监视器
+     *
+     * @param properties 读写分离配置
+     * @return 副本延迟监视器
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceRoutingProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> configured =
+                properties.replicas() == null ? List.of() : properties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configured.get(i);
+            String name = "replica-" + (i + 1);
+            HikariDataSource pool = pool(name, replica.url(),
+                    StringUtils.hasText(replica.username())
+                            ? replica.username() : dataSourceProperties.determineUsername(),
+                    StringUtils.hasText(replica.password())
+                            ? replica.password() : dataSourceProperties.determinePassword());
+            pool.setReadOnly(true);
+            replicas.put(name, pool);
+        }
+        return new ReplicaLagMonitor(replicas, properties.lagQuery(), properties.maxLag(),
+                properties.lagCheckInterval(), meterRegistry);
+    }
+
+    /**
+     * 创建主库连接池与路由数据源
+     *
+     * @param monitor    副本延迟监视器
+     * @param properties 读写分离配置
+     * @return 路由数据源
+     */
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(ReplicaLagMonitor monitor,
+                                                                 DataSourceRoutingProperties properties) {
+        HikariDataSource primary = pool(ReadWriteRoutingDataSource.PRIMARY,
+                dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        primary.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        return new ReadWriteRoutingDataSource(primary, monitor, properties.maxLag(), meterRegistry);
+    }
+
+    /**
+     * 应用使用的数据源：延迟到第一条语句执行时才取物理连接，使路由能看到事务的只读属性
+     *
+     * @param routingDataSource 路由数据源
+     * @return 数据源
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 创建连接池，池参数取自 {@code spring.datasource.hikari.*}
+     *
+     * @param name     连接池名称
+     * @param url      JDBC 地址
+     * @param username 用户名
+     * @param password 密码
+     * @return 尚未启动的连接池
+     */
+    private HikariDataSource pool(String name, String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 读写分离配置属性类
+ *
+ * @param enabled          是否启用读写分离；启用后主库仍取自 {@code spring.datasource.*}
+ * @param replicas         只读副本，连接池参数沿用 {@code spring.datasource.hikari.*}
+ * @param maxLag           允许的最大复制延迟，超过时该副本退出读路由；写事务提交后同样时长内只读事务留在主库
+ * @param lagCheckInterval 副本延迟检查间隔
+ * @param lagQuery         在副本上执行、返回落后主库秒数的查询，默认适用于 PostgreSQL 流复制
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("2s") Duration lagCheckInterval,
+        @DefaultValue(POSTGRES_LAG_QUERY) String lagQuery) {
+
+    /**
+     * PostgreSQL 副本延迟查询：已接收的 WAL 全部回放时为 0，否则为距最后回放事务的秒数；在主库上执行时为 0
+     */
+    public static final String POSTGRES_LAG_QUERY = "select case when not pg_is_in_recovery() then 0 "
+            + "when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+            + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    /**
+     * 只读副本连接配置
+     *
+     * @param url      JDBC 地址
+     * @param username 用户名，为空时与主库相同
+     * @param password 密码，为空时与主库相同
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 二级缓存配置类
+ *
+ * <p>文章实体缓存在 {@value Post#CACHE_REGION} 区域，首页列表、内容版本等查询结果缓存在
+ * {@value PostRepository#LISTING_REGION} 区域；缓存由 Caffeine 的 JCache 实现提供，
+ * 各区域的容量与过期时间取自 {@code app.blog.entity-cache.regions.*}。写入经 Hibernate 提交后，
+ * 实体缓存随之更新，涉及 posts 表的查询结果按更新时间戳区域自动失效。</p>
+ *
+ * @author Weijue
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    /**
+     * 创建二级缓存使用的 JCache 缓存管理器并预建各区域
+     *
+     * <p>每个应用上下文使用独立的管理器 URI，避免同一进程内多个上下文（如测试）共享或重复创建区域。
+     * 更新时间戳区域必须比查询结果存活更久，因此不设容量与过期时间。</p>
+     *
+     * @param properties 二级缓存配置
+     * @return 缓存管理器
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.blog.entity-cache", name = "enabled", matchIfMissing = true)
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("blog-system-entity-cache-" + UUID.randomUUID()),
+                        EntityCacheConfig.class.getClassLoader());
+        for (String region : new String[]{Post.CACHE_REGION, PostRepository.LISTING_REGION,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME}) {
+            EntityCacheProperties.Region config = properties.region(region);
+            cacheManager.createCache(region, new CaffeineConfiguration<>()
+                    .setStoreByValue(false)
+                    .setMaximumSize(OptionalLong.of(config.maxEntries()))
+                    .setExpireAfterWrite(OptionalLong.of(config.ttl().toNanos())));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    /**
+     * 向 Hibernate 传入二级缓存设置；未启用时显式关闭，避免类路径上的 JCache 被隐式启用
+     *
+     * @param cacheManager 缓存管理器，未启用时不存在
+     * @return Hibernate 属性定制器
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(ObjectProvider<CacheManager> cacheManager) {
+        return hibernateProperties -> {
+            CacheManager manager = cacheManager.getIfAvailable();
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, manager != null);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, manager != null);
+            if (manager != null) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, manager);
+                // 命中率指标（hibernate.second.level.cache.requests 等）依赖统计
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+                hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate 二级缓存（实体缓存与查询缓存）配置属性类
+ *
+ * @param enabled 是否启用二级缓存与查询缓存
+ * @param regions 按区域名配置的容量与过期时间，未配置的区域使用 {@link #DEFAULT_REGION}
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.entity-cache")
+public record EntityCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        Map<String, Region> regions) {
+
+    /**
+     * 未单独配置的区域的默认容量与过期时间
+     */
+    public static final Region DEFAULT_REGION = new Region(10_000L, Duration.ofHours(1));
+
+    /**
+     * 获取区域配置
+     *
+     * @param name 区域名
+     * @return 区域配置，未配置时为默认值
+     */
+    public Region region(String name) {
+        Region region = regions == null ? null : regions.get(name);
+        return region != null ? region : DEFAULT_REGION;
+    }
+
+    /**
+     * 单个缓存区域的配置
+     *
+     * @param maxEntries 最多缓存的条目数
+     * @param ttl        条目写入后的存活时间
+     */
+    public record Region(@DefaultValue("10000") long maxEntries, @DefaultValue("1h") Duration ttl) {
+    }
+}
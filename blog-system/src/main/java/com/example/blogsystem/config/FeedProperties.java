@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 订阅源（Atom / RSS）配置属性类
+ *
+ * @param size    订阅源包含的最新文章数
+ * @param siteUrl 站点对外访问地址，用于生成订阅源中的绝对链接（末尾不带斜杠）
+ * @param title   订阅源标题
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.feed")
+public record FeedProperties(
+        @DefaultValue("20") int size,
+        @DefaultValue("http://localhost:8080") String siteUrl,
+        @DefaultValue("Weijue's Blog") String title) {
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import com.example.blogsystem.metrics.HandlerTaggingObservationConvention;
+import com.example.blogsystem.metrics.ViewRenderTimingInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 监控指标配置类
+ *
+ * @author Weijue
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 构造函数
+     *
+     * @param meterRegistry 指标注册表
+     */
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 为 http.server.requests 增加处理器方法标签
+     *
+     * @return 请求观测约定
+     */
+    @Bean
+    public HandlerTaggingObservationConvention handlerTaggingObservationConvention() {
+        return new HandlerTaggingObservationConvention();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderTimingInterceptor(meterRegistry));
+    }
+}
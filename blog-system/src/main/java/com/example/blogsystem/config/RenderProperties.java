@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Markdown 渲染配置属性类
+ *
+ * @param backfillOnStartup 启动时是否重新渲染过期的文章
+ * @param verifyHashes      回填时是否逐行校验内容摘要（全表扫描，用于内容被外部修改的场景）
+ * @param batchSize         回填每批处理的文章数
+ * @param cache             进程内渲染结果缓存配置
+ * @param executor          多篇文章并行渲染配置
+ * @param highlight         代码块着色配置
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.render")
+public record RenderProperties(
+        @DefaultValue("true") boolean backfillOnStartup,
+        @DefaultValue("false") boolean verifyHashes,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue Cache cache,
+        @DefaultValue Executor executor,
+        @DefaultValue Highlight highlight) {
+
+    /**
+     * 渲染结果缓存配置
+     *
+     * @param maxSize 缓存 HTML 的总大小上限（按字节计）
+     */
+    public record Cache(@DefaultValue("64MB") DataSize maxSize) {
+    }
+
+    /**
+     * 并行渲染配置
+     *
+     * @param parallelism   共享渲染线程池的并行度，0 表示使用 CPU 核数
+     * @param maxPerRequest 单个请求最多同时占用的渲染任务数（含请求线程自身），1 表示串行渲染
+     */
+    public record Executor(@DefaultValue("0") int parallelism, @DefaultValue("4") int maxPerRequest) {
+    }
+
+    /**
+     * 代码块着色配置
+     *
+     * @param cacheMaxSize 着色结果缓存的总大小上限（按字节计）
+     */
+    public record Highlight(@DefaultValue("16MB") DataSize cacheMaxSize) {
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 全文检索配置属性类
+ *
+ * @param enabled    是否启用全文检索（关闭时不构建内存索引）
+ * @param maxResults 单次检索最多返回的结果数
+ * @param batchSize  启动时构建索引每批加载的文章数
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.search")
+public record SearchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int maxResults,
+        @DefaultValue("500") int batchSize) {
+}
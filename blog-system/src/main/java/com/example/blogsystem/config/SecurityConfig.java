@@ -6,7 +6,12 @@ package com.example.blogsystem.config;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -18,12 +23,34 @@ import org.springframework.security.web.SecurityFilterChain;
 /**
  * Spring Security 安全配置类
  *
+ * <p>公开页面与静态资源的 GET/HEAD 请求由单独的无状态过滤链处理；监控端点与批量导入导出接口各有一条
+ * HTTP Basic 认证的无状态过滤链；其余请求（登录、管理、写操作）仍由完整的过滤链处理。</p>
+ *
  * @author Weijue
  */
 @Configuration
 @EnableConfigurationProperties(AdminUserProperties.class)
 public class SecurityConfig {
 
+    /**
+     * 公开只读路径：公开页面、订阅源、静态资源与健康检查
+     */
+    private static final String[] PUBLIC_READ_PATHS = {
+            "/", "/search", "/posts/*", "/p/*", "/tags/*", "/archive/*/*", "/feed.xml", "/rss.xml",
+            "/css/**", "/js/**", "/fonts/**", "/favicon.ico",
+            "/actuator/health", "/actuator/health/**"
+    };
+
+    /**
+     * 公开的阅读数上报接口：文章页脚本以 POST 调用，不依赖会话，也不需要 CSRF 令牌
+     */
+    private static final String PUBLIC_VIEWS_PATH = "/posts/*/views";
+
+    /**
+     * 批量导入导出接口，供迁移脚本等非浏览器客户端调用
+     */
+    private static final String[] TRANSFER_PATHS = {"/admin/posts/import", "/admin/posts/export"};
+
     /**
      * 创建密码编码器
      *
@@ -60,6 +87,98 @@ public class SecurityConfig {
         return new InMemoryUserDetailsManager(admin);
     }
 
+    /**
+     * 创建公开只读请求的过滤链：不读写会话、不生成 CSRF 令牌、不缓存请求，只保留安全响应头与匿名身份
+     *
+     * <p>匿名读者与爬虫的请求不会分配 HttpSession；已登录的管理员访问这些页面时同样按匿名处理，
+     * 公开页面不依赖登录状态。阅读数上报虽是 POST，只累加计数、不修改内容，同样由这条链处理。</p>
+     *
+     * @param http HttpSecurity 配置
+     * @return 安全过滤链
+     * @throws Exception 配置异常
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatchers(matchers -> matchers
+                        .requestMatchers(HttpMethod.GET, PUBLIC_READ_PATHS)
+                        .requestMatchers(HttpMethod.HEAD, PUBLIC_READ_PATHS)
+                        .requestMatchers(HttpMethod.POST, PUBLIC_VIEWS_PATH)
+                )
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().permitAll()
+                )
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .headers(headers -> headers
+                        .frameOptions(frameOptions -> frameOptions.sameOrigin())
+                );
+
+        return http.build();
+    }
+
+    /**
+     * 创建监控端点的过滤链：除健康检查外均需 {@code ROLE_ADMIN}，以 HTTP Basic 认证、不创建会话，
+     * 供 Prometheus 等抓取程序携带凭据访问；指标中含处理器、缓存、连接池与内容规模等信息，不对外公开
+     *
+     * @param http HttpSecurity 配置
+     * @return 安全过滤链
+     * @throws Exception 配置异常
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/**")
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasRole("ADMIN")
+                )
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    /**
+     * 创建批量导入导出接口的过滤链：需要 {@code ROLE_ADMIN}，以 HTTP Basic 认证、不创建会话、不校验 CSRF，
+     * 迁移脚本可直接携带凭据调用，无需先抓取登录页与 CSRF 令牌
+     *
+     * <p>会话 Cookie 在这条链上不参与认证，浏览器中已登录的页面无法借用管理员身份跨站提交导入请求。</p>
+     *
+     * @param http HttpSecurity 配置
+     * @return 安全过滤链
+     * @throws Exception 配置异常
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain transferFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(TRANSFER_PATHS)
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().hasRole("ADMIN")
+                )
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
     /**
      * 创建安全过滤链配置
      *
@@ -68,12 +187,15 @@ public class SecurityConfig {
      * @throws Exception 配置异常
      */
     @Bean
+    @Order(4)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/", "/login", "/error", "/css/**", "/js/**").permitAll()
+                        .requestMatchers("/", "/search", "/posts/*", "/p/*", "/tags/*", "/archive/*/*",
+                                "/feed.xml", "/rss.xml").permitAll()
+                        .requestMatchers("/login", "/error", "/css/**", "/js/**", "/fonts/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/admin", "/post/**").hasRole("ADMIN")
+                        .requestMatchers("/admin", "/admin/**", "/post/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(formLogin -> formLogin
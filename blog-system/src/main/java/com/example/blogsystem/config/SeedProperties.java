@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 合成数据配置属性类（{@code seed} profile 使用）
+ *
+ * @param posts      启动时把文章总数补足到该数量，0 表示不生成
+ * @param randomSeed 随机种子，相同种子下第 i 篇文章的内容总是相同
+ * @param years      文章创建时间分布的年数（截至当前时间）
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.seed")
+public record SeedProperties(
+        @DefaultValue("0") long posts,
+        @DefaultValue("42") long randomSeed,
+        @DefaultValue("5") int years) {
+}
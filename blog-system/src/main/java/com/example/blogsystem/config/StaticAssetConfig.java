@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * 静态资源配置类
+ *
+ * <p>样式、脚本与字体的链接在模板渲染时改写为带内容摘要的文件名（如 {@code /css/style-<md5>.css}），
+ * 内容变化即换新地址，因此这类响应可以标记为一年内不可变；不带摘要的原始地址（如
+ * {@code /css/style.css}）内容会随发布变化，只允许缓存后重新验证。构建时生成的
+ * {@code .gz}/{@code .br} 副本按请求的 Accept-Encoding 直接输出。</p>
+ *
+ * @author Weijue
+ */
+@Configuration
+public class StaticAssetConfig implements WebMvcConfigurer {
+
+    private static final String[] ASSET_DIRECTORIES = {"css", "js", "fonts"};
+
+    /**
+     * 内容版本策略写入文件名的 MD5 摘要，如 {@code style-<md5>.css}
+     */
+    private static final Pattern VERSIONED_FILE = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : ASSET_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * 资源处理器本身不写 Cache-Control，由拦截器按请求地址是否带摘要决定缓存策略
+     *
+     * @param registry 拦截器注册表
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlFor(request.getRequestURI()));
+                return true;
+            }
+        }).addPathPatterns(assetPatterns());
+    }
+
+    /**
+     * 带摘要的地址内容不会再变，一年内不可变；原始地址每次使用前向服务端重新验证
+     *
+     * @param path 请求路径
+     * @return Cache-Control 头的值
+     */
+    static String cacheControlFor(String path) {
+        return VERSIONED_FILE.matcher(path).find() ? IMMUTABLE : REVALIDATE;
+    }
+
+    /**
+     * 静态资源目录对应的请求路径模式
+     *
+     * @return 如 {@code /css/**}
+     */
+    private static String[] assetPatterns() {
+        String[] patterns = new String[ASSET_DIRECTORIES.length];
+        for (int i = 0; i < ASSET_DIRECTORIES.length; i++) {
+            patterns[i] = "/" + ASSET_DIRECTORIES[i] + "/**";
+        }
+        return patterns;
+    }
+
+    /**
+     * 模板中的 {@code @{/css/...}} 等链接经响应的 encodeURL 改写为带摘要的地址
+     *
+     * @return 资源链接改写过滤器
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import com.example.blogsystem.staticsite.StaticSiteFilter;
+import com.example.blogsystem.staticsite.StaticSiteGenerator;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 静态站点模式配置类
+ *
+ * @author Weijue
+ */
+@Configuration
+public class StaticSiteConfig {
+
+    /**
+     * 注册静态站点过滤器，排在 Spring Security 过滤链之前；未启用静态站点模式时不注册
+     *
+     * @param generator            静态站点导出器
+     * @param staticSiteProperties 静态站点配置
+     * @return 过滤器注册
+     */
+    @Bean
+    public FilterRegistrationBean<StaticSiteFilter> staticSiteFilter(
+            StaticSiteGenerator generator, StaticSiteProperties staticSiteProperties) {
+        FilterRegistrationBean<StaticSiteFilter> registration =
+                new FilterRegistrationBean<>(new StaticSiteFilter(generator));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.setEnabled(staticSiteProperties.enabled());
+        return registration;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 静态站点模式配置属性类
+ *
+ * @param enabled   是否启用静态站点模式：启动时导出全部公开页面，写入后增量更新，并由过滤器直接输出文件
+ * @param directory 导出目录
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.static-site")
+public record StaticSiteProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("static-site") Path directory) {
+}
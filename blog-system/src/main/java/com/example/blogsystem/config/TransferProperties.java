@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 批量导入导出配置属性类
+ *
+ * @param batchSize   每个事务写入（或每次查询导出）的文章数，宜与 {@code hibernate.jdbc.batch_size} 一致
+ * @param maxPostSize 单篇文章 Markdown 正文按 UTF-8 编码的字节数上限，防止异常文件耗尽内存
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.transfer")
+public record TransferProperties(
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("10MB") DataSize maxPostSize) {
+}
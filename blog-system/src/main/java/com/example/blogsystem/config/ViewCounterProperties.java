@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 文章阅读数配置属性类
+ *
+ * @param enabled       是否统计并显示阅读数
+ * @param flushInterval 内存累加值批量写入 post_stats 的间隔
+ * @param displayTtl    文章页显示的已持久化阅读数在本节点缓存的时长
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.views")
+public record ViewCounterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10s") Duration flushInterval,
+        @DefaultValue("1m") Duration displayTtl) {
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 启动预热配置属性类
+ *
+ * @param enabled        是否在报告就绪之前预热
+ * @param posts          预渲染的最新文章数
+ * @param iterations     合成渲染的轮数（Markdown 渲染与页面请求各执行该轮数）
+ * @param requestTimeout 预热页面请求的超时时间
+ * @author Weijue
+ */
+@ConfigurationProperties(prefix = "app.blog.warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int posts,
+        @DefaultValue("20") int iterations,
+        @DefaultValue("10s") Duration requestTimeout) {
+}
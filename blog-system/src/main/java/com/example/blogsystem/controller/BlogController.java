@@ -3,11 +3,30 @@
  */
 package com.example.blogsystem.controller;
 
+import com.example.blogsystem.config.BlogProperties;
+import com.example.blogsystem.dto.PostSummary;
+import com.example.blogsystem.dto.TagCount;
 import com.example.blogsystem.entity.Post;
 import com.example.blogsystem.repository.PostRepository;
-import com.example.blogsystem.util.MarkdownUtil;
+import com.example.blogsystem.service.ContentVersionService;
+import com.example.blogsystem.service.EntityCacheStatistics;
+import com.example.blogsystem.service.IndexStream;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.service.RenderCache;
+import com.example.blogsystem.service.PublicPageService;
+import com.example.blogsystem.service.TaxonomyService;
+import com.example.blogsystem.stats.ViewCounter;
+import com.example.blogsystem.util.PostCursor;
 
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -16,8 +35,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 博客控制器，处理文章相关请求
@@ -27,36 +56,212 @@ import java.util.List;
 @Controller
 public class BlogController {
 
+    /**
+     * 公开页面的缓存策略：允许共享缓存存储，但每次使用前必须向服务端校验
+     */
+    private static final String PUBLIC_CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
     private final PostRepository postRepository;
-    private final MarkdownUtil markdownUtil;
+    private final PostService postService;
+    private final RenderCache renderCache;
+    private final PublicPageService publicPageService;
+    private final TaxonomyService taxonomyService;
+    private final ContentVersionService contentVersionService;
+    private final EntityCacheStatistics entityCacheStatistics;
+    private final ViewCounter viewCounter;
+    private final BlogProperties blogProperties;
 
     /**
      * 构造函数
      *
-     * @param postRepository 文章仓储
-     * @param markdownUtil   Markdown 工具
+     * @param postRepository        文章仓储
+     * @param postService           文章写入服务
+     * @param renderCache           渲染结果缓存
+     * @param publicPageService     公开页面数据服务
+     * @param taxonomyService       标签与归档服务
+     * @param contentVersionService 内容版本服务
+     * @param entityCacheStatistics 二级缓存统计服务
+     * @param viewCounter           阅读数统计服务
+     * @param blogProperties        博客配置
      */
-    public BlogController(PostRepository postRepository, MarkdownUtil markdownUtil) {
+    public BlogController(PostRepository postRepository, PostService postService,
+                          RenderCache renderCache, PublicPageService publicPageService,
+                          TaxonomyService taxonomyService, ContentVersionService contentVersionService,
+                          EntityCacheStatistics entityCacheStatistics, ViewCounter viewCounter,
+                          BlogProperties blogProperties) {
         this.postRepository = postRepository;
-        this.markdownUtil = markdownUtil;
+        this.postService = postService;
+        this.renderCache = renderCache;
+        this.publicPageService = publicPageService;
+        this.taxonomyService = taxonomyService;
+        this.contentVersionService = contentVersionService;
+        this.entityCacheStatistics = entityCacheStatistics;
+        this.viewCounter = viewCounter;
+        this.blogProperties = blogProperties;
     }
 
     /**
-     * 首页 - 显示所有文章
+     * 首页 - 按 (createTime, id) 游标分页显示文章
      *
-     * @param model 视图模型
-     * @return 首页模板
+     * @param before     下一页游标，返回比该游标更早的文章
+     * @param after      上一页游标，返回比该游标更新的文章
+     * @param webRequest 当前请求，用于条件请求校验
+     * @param response   HTTP 响应
+     * @param model      视图模型
+     * @return 首页模板；内容未变化时返回 {@code null}（304）
      */
     @GetMapping("/")
-    public String index(Model model) {
-        List<Post> posts = postRepository.findAll(Sort.by(Sort.Direction.DESC, "createTime"));
-        // 渲染 Markdown 为 HTML
-        posts.forEach(post -> post.setRenderedContent(
-                markdownUtil.markdownToHtml(post.getContent())));
-        model.addAttribute("posts", posts);
+    public String index(
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest,
+            HttpServletResponse response,
+            Model model) {
+        if (checkNotModified(webRequest, response)) {
+            return null;
+        }
+        PostCursor beforeCursor = PostCursor.parse(before);
+        PostCursor afterCursor = beforeCursor == null ? PostCursor.parse(after) : null;
+        model.addAttribute("sidebar", taxonomyService.sidebar());
+        if (blogProperties.streamIndex() && afterCursor == null) {
+            IndexStream stream = publicPageService.streamIndexPage(beforeCursor, () -> flush(response));
+            model.addAttribute("posts", stream);
+            model.addAttribute("newerCursor", stream.getNewerCursor());
+            model.addAttribute("olderCursor", stream.getOlderCursor());
+            return "index";
+        }
+        // “较新文章”方向需要倒序后输出，整页查询
+        PublicPageService.IndexPage page = publicPageService.indexPage(beforeCursor, afterCursor);
+        model.addAttribute("posts", page.posts());
+        model.addAttribute("newerCursor", page.newerCursor());
+        model.addAttribute("olderCursor", page.olderCursor());
         return "index";
     }
 
+    /**
+     * 显示单篇文章
+     *
+     * @param id         文章ID
+     * @param webRequest 当前请求，用于条件请求校验
+     * @param response   HTTP 响应
+     * @param model      视图模型
+     * @return 文章页视图名称；内容未变化时返回 {@code null}（304）
+     */
+    @GetMapping("/posts/{id}")
+    public String post(@PathVariable Long id, WebRequest webRequest, HttpServletResponse response, Model model) {
+        LocalDateTime updateTime = postRepository.findUpdateTimeById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "文章不存在: " + id));
+        ContentVersionService.Validator validator = contentVersionService.validatorFor(id, updateTime);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, PUBLIC_CACHE_CONTROL);
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+        Post post = publicPageService.postPage(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "文章不存在: " + id));
+        model.addAttribute("post", post);
+        model.addAttribute("tags", taxonomyService.tagsOf(id));
+        // 阅读数不写入页面：页面由脚本在显示后调用 recordView 计数并显示
+        model.addAttribute("viewsEnabled", viewCounter.isEnabled());
+        return "post";
+    }
+
+    /**
+     * 记录一次阅读并返回文章的阅读数，由文章页脚本在页面显示后调用
+     *
+     * <p>文章页可被 304 与共享缓存复用，静态站点模式下直接以文件响应，因此计数与显示都不经过文章页本身：
+     * 每次页面显示（包括复用缓存的页面）计一次，HEAD 请求不会到达这里。预取与预渲染请求只返回阅读数、不计数。
+     * 文章是否存在与阅读数都取自计数服务的缓存，缓存命中时不访问数据库；计数只在内存中累加，由后台批量写入。</p>
+     *
+     * @param id         文章ID
+     * @param webRequest 当前请求，用于识别预取请求
+     * @return 纯文本的阅读数，不可缓存
+     */
+    @PostMapping("/posts/{id}/views")
+    public ResponseEntity<String> recordView(@PathVariable Long id, WebRequest webRequest) {
+        if (!viewCounter.isEnabled() || !viewCounter.exists(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "文章不存在: " + id);
+        }
+        if (!isPrefetch(webRequest)) {
+            viewCounter.record(id);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(Long.toString(viewCounter.views(id)));
+    }
+
+    /**
+     * 按短链接标识显示单篇文章
+     *
+     * @param slug       短链接标识
+     * @param webRequest 当前请求，用于条件请求校验
+     * @param response   HTTP 响应
+     * @param model      视图模型
+     * @return 文章页视图名称；内容未变化时返回 {@code null}（304）
+     */
+    @GetMapping("/p/{slug}")
+    public String postBySlug(@PathVariable String slug, WebRequest webRequest, HttpServletResponse response,
+                             Model model) {
+        Long id = postRepository.findIdBySlug(slug)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "文章不存在: " + slug));
+        return post(id, webRequest, response, model);
+    }
+
+    /**
+     * 标签页 - 按 (createTime, id) 游标分页显示带该标签的文章
+     *
+     * @param slug       标签链接标识
+     * @param before     下一页游标，返回比该游标更早的文章
+     * @param webRequest 当前请求，用于条件请求校验
+     * @param response   HTTP 响应
+     * @param model      视图模型
+     * @return 列表页模板；内容未变化时返回 {@code null}（304）
+     */
+    @GetMapping("/tags/{slug}")
+    public String tag(@PathVariable String slug, @RequestParam(required = false) String before,
+                      WebRequest webRequest, HttpServletResponse response, Model model) {
+        if (checkNotModified(webRequest, response)) {
+            return null;
+        }
+        TagCount tag = taxonomyService.findTag(slug)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "标签不存在: " + slug));
+        PostCursor beforeCursor = PostCursor.parse(before);
+        model.addAttribute("heading", "#" + tag.name());
+        model.addAttribute("postCount", tag.postCount());
+        model.addAttribute("path", "/tags/" + tag.slug());
+        return listing(publicPageService.tagPage(tag.id(), beforeCursor), beforeCursor == null, model);
+    }
+
+    /**
+     * 月度归档页 - 按 (createTime, id) 游标分页显示该月发布的文章
+     *
+     * @param year       年份（四位数字）
+     * @param month      月份（一到两位数字）
+     * @param before     下一页游标，返回比该游标更早的文章
+     * @param webRequest 当前请求，用于条件请求校验
+     * @param response   HTTP 响应
+     * @param model      视图模型
+     * @return 列表页模板；内容未变化时返回 {@code null}（304）
+     */
+    @GetMapping("/archive/{year:\\d{4}}/{month:\\d{1,2}}")
+    public String archive(@PathVariable int year, @PathVariable int month,
+                          @RequestParam(required = false) String before,
+                          WebRequest webRequest, HttpServletResponse response, Model model) {
+        LocalDate monthStart;
+        try {
+            monthStart = LocalDate.of(year, month, 1);
+        } catch (DateTimeException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "归档不存在: " + year + "/" + month);
+        }
+        if (checkNotModified(webRequest, response)) {
+            return null;
+        }
+        PostCursor beforeCursor = PostCursor.parse(before);
+        model.addAttribute("heading", year + " 年 " + month + " 月");
+        model.addAttribute("path", String.format("/archive/%04d/%02d", year, month));
+        return listing(publicPageService.archivePage(monthStart, beforeCursor), beforeCursor == null, model);
+    }
+
     /**
      * 登录页面
      *
@@ -74,36 +279,78 @@ public class BlogController {
     }
 
     /**
-     * 管理页面
+     * 管理页面 - 分页显示文章摘要，支持按标题筛选
      *
+     * @param page  页码，从 0 开始
+     * @param q     标题关键字
      * @param model 视图模型
      * @return 管理模板
      */
     @GetMapping("/admin")
-    public String admin(Model model) {
-        model.addAttribute("posts", postRepository.findAll(
-                Sort.by(Sort.Direction.DESC, "createTime")));
+    public String admin(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String q,
+            Model model) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), blogProperties.adminPageSize(),
+                Sort.by(Sort.Direction.DESC, "createTime").and(Sort.by(Sort.Direction.DESC, "id")));
+        String keyword = q == null ? "" : q.strip();
+        Page<PostSummary> summaries = keyword.isEmpty()
+                ? postRepository.findSummaries(pageRequest)
+                : postRepository.findSummariesByTitle(keyword, pageRequest);
+        model.addAttribute("posts", summaries.getContent());
+        model.addAttribute("page", summaries);
+        model.addAttribute("q", keyword);
         return "admin";
     }
 
+    /**
+     * 渲染结果缓存统计
+     *
+     * @return 命中、未命中、淘汰与加载耗时等统计
+     */
+    @GetMapping("/admin/render-cache")
+    @ResponseBody
+    public Map<String, Object> renderCacheStats() {
+        return renderCache.stats();
+    }
+
+    /**
+     * Hibernate 二级缓存（文章实体与列表查询结果）统计
+     *
+     * @return 各区域的命中、未命中、写入次数与命中率
+     */
+    @GetMapping("/admin/entity-cache")
+    @ResponseBody
+    public Map<String, Object> entityCacheStats() {
+        return entityCacheStatistics.stats();
+    }
+
     /**
      * 发布新文章
      *
      * @param title        文章标题
      * @param content      文章内容
+     * @param tags         逗号分隔的标签
      * @param authentication 认证信息
-     * @return 重定向到管理页面
+     * @param model        视图模型
+     * @return 重定向到管理页面；标签不合法时带着提示与已填内容重新渲染管理页面
      */
     @PostMapping("/post")
     public String createPost(
             @RequestParam String title,
             @RequestParam String content,
-            Authentication authentication) {
-        Post post = new Post();
-        post.setTitle(title);
-        post.setContent(content);
-        post.setAuthor(authentication == null ? "admin" : authentication.getName());
-        postRepository.save(post);
+            @RequestParam(required = false) String tags,
+            Authentication authentication,
+            Model model) {
+        List<String> tagNames;
+        try {
+            tagNames = TaxonomyService.parseTags(tags);
+        } catch (IllegalArgumentException e) {
+            addDraft(model, e.getMessage(), title, content, tags);
+            return admin(0, null, model);
+        }
+        postService.createPost(title, content,
+                authentication == null ? "admin" : authentication.getName(), tagNames);
 
         return "redirect:/admin";
     }
@@ -116,7 +363,7 @@ public class BlogController {
      */
     @PostMapping("/post/delete/{id}")
     public String deletePost(@PathVariable Long id) {
-        postRepository.deleteById(id);
+        postService.deletePost(id);
         return "redirect:/admin";
     }
 
@@ -132,6 +379,9 @@ public class BlogController {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
         model.addAttribute("post", post);
+        model.addAttribute("tags", taxonomyService.tagsOf(id).stream()
+                .map(TagCount::name)
+                .collect(Collectors.joining(", ")));
         return "edit";
     }
 
@@ -141,25 +391,104 @@ public class BlogController {
      * @param id            文章ID
      * @param title         新标题
      * @param content       新内容
+     * @param tags          逗号分隔的标签，未提交时保留原标签
      * @param authentication 认证信息
-     * @return 重定向到管理页面
+     * @param model         视图模型
+     * @return 重定向到管理页面；标签不合法时带着提示与已填内容重新渲染编辑页面
      */
     @PostMapping("/post/update/{id}")
     public String updatePost(
             @PathVariable Long id,
             @RequestParam String title,
             @RequestParam String content,
-            Authentication authentication) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
-
-        post.setTitle(title);
-        post.setContent(content);
-        if (authentication != null) {
-            post.setAuthor(authentication.getName());
+            @RequestParam(required = false) String tags,
+            Authentication authentication,
+            Model model) {
+        List<String> tagNames;
+        try {
+            tagNames = tags == null ? null : TaxonomyService.parseTags(tags);
+        } catch (IllegalArgumentException e) {
+            model.addAttribute("post", postRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id)));
+            model.addAttribute("tags", tags);
+            addDraft(model, e.getMessage(), title, content, tags);
+            return "edit";
         }
-        postRepository.save(post);
+        postService.updatePost(id, title, content,
+                authentication == null ? null : authentication.getName(), tagNames);
 
         return "redirect:/admin";
     }
+
+    /**
+     * 表单校验失败时回填提示与已提交的内容，避免管理员重新输入
+     *
+     * @param model   视图模型
+     * @param error   校验失败的原因
+     * @param title   已提交的标题
+     * @param content 已提交的正文
+     * @param tags    已提交的标签
+     */
+    private static void addDraft(Model model, String error, String title, String content, String tags) {
+        model.addAttribute("error", error);
+        model.addAttribute("draftTitle", title);
+        model.addAttribute("draftContent", content);
+        model.addAttribute("draftTags", tags);
+    }
+
+    /**
+     * 填充列表页（标签页与归档页）的公共视图模型
+     *
+     * @param page      一页文章卡片
+     * @param firstPage 是否为第一页
+     * @param model     视图模型
+     * @return 列表页模板
+     */
+    private String listing(PublicPageService.IndexPage page, boolean firstPage, Model model) {
+        model.addAttribute("posts", page.posts());
+        model.addAttribute("olderCursor", page.olderCursor());
+        model.addAttribute("firstPage", firstPage);
+        model.addAttribute("sidebar", taxonomyService.sidebar());
+        return "listing";
+    }
+
+    /**
+     * 是否为预取请求（浏览器预取、预渲染或启动预热），依据 {@code Sec-Purpose} 与旧式 {@code Purpose} 请求头
+     *
+     * @param webRequest 当前请求
+     * @return 是否为预取请求
+     */
+    private static boolean isPrefetch(WebRequest webRequest) {
+        String purpose = webRequest.getHeader("Sec-Purpose");
+        if (purpose == null) {
+            purpose = webRequest.getHeader("Purpose");
+        }
+        return purpose != null && purpose.startsWith("prefetch");
+    }
+
+    /**
+     * 把已生成的输出推送给客户端（流式首页逐块查询前调用）
+     *
+     * @param response HTTP 响应
+     */
+    private static void flush(HttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 在查询文章与渲染模板之前校验条件请求，并设置公开页面的缓存头
+     *
+     * @param webRequest 当前请求
+     * @param response   HTTP 响应
+     * @return 客户端缓存仍然有效时返回 {@code true}，此时已设置 304 状态
+     */
+    private boolean checkNotModified(WebRequest webRequest, HttpServletResponse response) {
+        ContentVersionService.Validator validator = contentVersionService.currentValidator();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, PUBLIC_CACHE_CONTROL);
+        return webRequest.checkNotModified(validator.etag(), validator.lastModified());
+    }
 }
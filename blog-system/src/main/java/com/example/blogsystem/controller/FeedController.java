@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.controller;
+
+import com.example.blogsystem.feed.EncodedFeed;
+import com.example.blogsystem.feed.FeedService;
+import com.example.blogsystem.util.EncodingUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 订阅源控制器，直接输出预编码的字节，不做任何逐请求的序列化
+ *
+ * @author Weijue
+ */
+@Controller
+public class FeedController {
+
+    /**
+     * 订阅源的缓存策略：阅读器通常每隔几分钟轮询一次，期间可直接使用本地副本
+     */
+    private static final String FEED_CACHE_CONTROL = CacheControl.maxAge(5, TimeUnit.MINUTES)
+            .cachePublic().getHeaderValue();
+
+    private final FeedService feedService;
+
+    /**
+     * 构造函数
+     *
+     * @param feedService 订阅源服务
+     */
+    public FeedController(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    /**
+     * 输出 Atom 订阅源
+     *
+     * @param request  HTTP 请求
+     * @param response HTTP 响应
+     * @throws IOException 写出异常
+     */
+    @GetMapping("/feed.xml")
+    public void atom(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(feedService.atom(), request, response);
+    }
+
+    /**
+     * 输出 RSS 2.0 订阅源
+     *
+     * @param request  HTTP 请求
+     * @param response HTTP 响应
+     * @throws IOException 写出异常
+     */
+    @GetMapping("/rss.xml")
+    public void rss(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(feedService.rss(), request, response);
+    }
+
+    /**
+     * 按 Accept-Encoding 选择压缩版本，校验 ETag 后写出字节
+     *
+     * @param feed     预编码的订阅源
+     * @param request  HTTP 请求
+     * @param response HTTP 响应
+     * @throws IOException 写出异常
+     */
+    private static void write(EncodedFeed feed, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = EncodingUtil.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, FEED_CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(gzip ? feed.gzipEtag() : feed.etag())) {
+            return;
+        }
+        byte[] body = gzip ? feed.gzip() : feed.identity();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(feed.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.controller;
+
+import com.example.blogsystem.transfer.ImportResult;
+import com.example.blogsystem.transfer.PostExportService;
+import com.example.blogsystem.transfer.PostImportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 文章批量导入导出控制器（仅管理员），请求体与响应体均以流的方式处理
+ *
+ * @author Weijue
+ */
+@Controller
+public class PostTransferController {
+
+    private static final String ZIP_VALUE = "application/zip";
+
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
+
+    /**
+     * 构造函数
+     *
+     * @param postImportService 批量导入服务
+     * @param postExportService 批量导出服务
+     */
+    public PostTransferController(PostImportService postImportService, PostExportService postExportService) {
+        this.postImportService = postImportService;
+        this.postExportService = postExportService;
+    }
+
+    /**
+     * 导入 NDJSON（每行一篇文章）
+     *
+     * @param body           请求体
+     * @param authentication 认证信息，用作缺省作者
+     * @return 导入结果
+     * @throws IOException 读取请求体失败
+     */
+    @PostMapping(value = "/admin/posts/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    public ImportResult importNdjson(InputStream body, Authentication authentication) throws IOException {
+        try {
+            return postImportService.importNdjson(body, authentication.getName());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 导入 zip（每个 Markdown 文件一篇文章）
+     *
+     * @param body           请求体
+     * @param authentication 认证信息，用作缺省作者
+     * @return 导入结果
+     * @throws IOException 读取请求体失败
+     */
+    @PostMapping(value = "/admin/posts/import", consumes = ZIP_VALUE)
+    @ResponseBody
+    public ImportResult importZip(InputStream body, Authentication authentication) throws IOException {
+        try {
+            return postImportService.importZip(body, authentication.getName());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 导出全部文章
+     *
+     * @param format   导出格式：{@code ndjson}（默认）或 {@code zip}
+     * @param response HTTP 响应
+     * @throws IOException 写出失败
+     */
+    @GetMapping("/admin/posts/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        boolean zip = switch (format) {
+            case "zip" -> true;
+            case "ndjson" -> false;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "不支持的导出格式: " + format);
+        };
+        response.setContentType(zip ? ZIP_VALUE : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(zip ? "posts.zip" : "posts.ndjson").build().toString());
+        OutputStream out = response.getOutputStream();
+        if (zip) {
+            postExportService.exportZip(out);
+        } else {
+            postExportService.exportNdjson(out);
+        }
+    }
+}
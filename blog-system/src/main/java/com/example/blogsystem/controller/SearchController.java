@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.controller;
+
+import com.example.blogsystem.search.SearchService;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * 全文检索控制器
+ *
+ * @author Weijue
+ */
+@Controller
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 构造函数
+     *
+     * @param searchService 全文检索服务
+     */
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * 检索页面
+     *
+     * @param q     查询文本
+     * @param model 视图模型
+     * @return 检索结果模板
+     */
+    @GetMapping("/search")
+    public String search(@RequestParam(required = false) String q, Model model) {
+        String query = q == null ? "" : q.strip();
+        model.addAttribute("q", query);
+        model.addAttribute("results", query.isEmpty() ? List.of() : searchService.search(query));
+        return "search";
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 读写分离路由数据源
+ *
+ * <p>只读事务（{@code @Transactional(readOnly = true)}，以及 Spring Data 仓储默认的查询方法）轮询分配到
+ * 复制延迟在上限内的副本，其余连接一律使用主库。写事务提交后的一个延迟上限时间内，只读事务也留在主库，
+ * 保证刚发布或修改的文章立即可见，也避免把副本上的旧数据写入二级缓存。不改变公开内容的后台事务
+ * （阅读数写入、变更日志轮询）在 {@link #withoutWriteFence(Supplier)} 内执行，提交后不设置写入屏障。</p>
+ *
+ * <p>路由发生在取物理连接时，因此必须包一层
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}，使事务管理器在事务属性
+ * 生效之后、第一条语句执行时才取连接。每次路由按目标计入 {@code blog.datasource.routes}。</p>
+ *
+ * @author Weijue
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /**
+     * 主库的路由键
+     */
+    public static final String PRIMARY = "primary";
+
+    /**
+     * 当前线程的事务是否免于设置写入屏障
+     */
+    private static final ThreadLocal<Boolean> UNFENCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+    private final long writeFenceNanos;
+    private final Map<String, Counter> routes = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile long writeFenceUntil = System.nanoTime();
+
+    /**
+     * 构造函数
+     *
+     * @param primary       主库数据源
+     * @param monitor       副本延迟监视器，提供副本数据源与可用列表
+     * @param writeFence    写事务提交后只读事务仍使用主库的时长
+     * @param meterRegistry 指标注册表
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaLagMonitor monitor, Duration writeFence,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.monitor = monitor;
+        this.writeFenceNanos = writeFence.toNanos();
+        Map<Object, Object> targets = new HashMap<>(monitor.replicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        for (Object target : targets.keySet()) {
+            routes.put((String) target, Counter.builder("blog.datasource.routes")
+                    .description("按目标数据源统计的物理连接获取次数")
+                    .tag("target", (String) target)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = selectTarget();
+        routes.get(target).increment();
+        return target;
+    }
+
+    /**
+     * 为当前线程的事务选择目标数据源
+     *
+     * @return 路由键
+     */
+    private String selectTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive() && UNFENCED.get() == null) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        writeFenceUntil = System.nanoTime() + writeFenceNanos;
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (System.nanoTime() - writeFenceUntil < 0) {
+            return PRIMARY;
+        }
+        List<String> available = monitor.available();
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * 在当前线程执行操作，其中的写事务仍使用主库，但提交后不设置写入屏障，只读事务照常分配到副本
+     *
+     * <p>只用于不改变公开内容的事务：它们的结果不会被公开页面读取，不需要读己之写。未启用读写分离时
+     * 直接执行。</p>
+     *
+     * @param action 操作
+     * @param <T>    返回值类型
+     * @return 操作的返回值
+     */
+    public static <T> T withoutWriteFence(Supplier<T> action) {
+        if (UNFENCED.get() != null) {
+            return action.get();
+        }
+        UNFENCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            UNFENCED.remove();
+        }
+    }
+
+    /**
+     * 关闭主库与全部副本的连接池
+     *
+     * @throws Exception 关闭失败
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : monitor.replicas().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 只读副本复制延迟监视器
+ *
+ * <p>后台线程按固定间隔在每个副本上执行延迟查询（返回落后主库的秒数），延迟不超过上限的副本才参与读路由；
+ * 查询失败（副本不可达、连接池耗尽）同样视为不可用，直到下一次检查成功。每个副本的延迟与可用状态以
+ * {@code blog.datasource.replica.lag}、{@code blog.datasource.replica.available} 指标暴露。</p>
+ *
+ * @author Weijue
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> available = List.of();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 构造函数，立即执行一次检查后按间隔定期检查
+     *
+     * @param replicas      副本名称到数据源的映射（按配置顺序）
+     * @param lagQuery      延迟查询，返回单个数值（秒）
+     * @param maxLag        允许的最大复制延迟
+     * @param checkInterval 检查间隔
+     * @param meterRegistry 指标注册表
+     */
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, Duration maxLag,
+                             Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        for (String name : this.replicas.keySet()) {
+            Gauge.builder("blog.datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                    .description("只读副本落后主库的秒数，不可达时为 NaN")
+                    .baseUnit("seconds")
+                    .tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("blog.datasource.replica.available", this, monitor -> monitor.isAvailable(name) ? 1 : 0)
+                    .description("只读副本当前是否参与读路由")
+                    .tag("target", name)
+                    .register(meterRegistry);
+        }
+        check();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 获取全部副本数据源
+     *
+     * @return 副本名称到数据源的映射
+     */
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * 获取当前可参与读路由的副本
+     *
+     * @return 副本名称列表（按配置顺序）
+     */
+    public List<String> available() {
+        return available;
+    }
+
+    /**
+     * 判断副本当前是否可参与读路由
+     *
+     * @param name 副本名称
+     * @return 是否可用
+     */
+    public boolean isAvailable(String name) {
+        return available.contains(name);
+    }
+
+    /**
+     * 检查全部副本的复制延迟并更新可用列表
+     */
+    void check() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            String name = replica.getKey();
+            try {
+                double lag = queryLag(replica.getValue());
+                lagSeconds.put(name, lag);
+                if (lag <= maxLagSeconds) {
+                    healthy.add(name);
+                } else if (isAvailable(name)) {
+                    log.warn("只读副本 {} 复制延迟 {} 秒超过上限，读请求改由主库处理", name, lag);
+                }
+            } catch (Exception e) {
+                lagSeconds.remove(name);
+                if (isAvailable(name)) {
+                    log.warn("只读副本 {} 延迟检查失败，读请求改由主库处理: {}", name, e.getMessage());
+                }
+            }
+        }
+        available = List.copyOf(healthy);
+    }
+
+    /**
+     * 在副本上执行延迟查询
+     *
+     * @param dataSource 副本数据源
+     * @return 复制延迟（秒），查询结果为空时视为无延迟
+     * @throws Exception 查询失败
+     */
+    private double queryLag(DataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return 0.0;
+            }
+            double lag = resultSet.getDouble(1);
+            return resultSet.wasNull() ? 0.0 : lag;
+        }
+    }
+
+    /**
+     * 停止后台检查
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+/**
+ * 内容统计投影（文章总数与正文总字节数）
+ *
+ * @author Weijue
+ */
+public interface ContentStats {
+
+    /**
+     * 获取文章总数
+     *
+     * @return 文章总数
+     */
+    long getPostCount();
+
+    /**
+     * 获取全部文章 Markdown 正文的总字节数
+     *
+     * @return 总字节数，无文章时为 null
+     */
+    Long getContentBytes();
+}
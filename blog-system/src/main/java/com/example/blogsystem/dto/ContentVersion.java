@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章内容版本投影，用于生成条件请求校验值
+ *
+ * @author Weijue
+ */
+public interface ContentVersion {
+
+    /**
+     * 获取所有文章中最新的修改时间
+     *
+     * @return 最新修改时间，无文章时为 {@code null}
+     */
+    LocalDateTime getLastModified();
+
+    /**
+     * 获取文章总数
+     *
+     * @return 文章总数
+     */
+    long getPostCount();
+}
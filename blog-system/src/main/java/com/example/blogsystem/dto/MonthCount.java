@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 月度归档及其文章数
+ *
+ * @param monthStart 月份的第一天
+ * @param postCount  文章数
+ * @author Weijue
+ */
+public record MonthCount(LocalDate monthStart, int postCount) {
+
+    /**
+     * 获取年份
+     *
+     * @return 年份
+     */
+    public int year() {
+        return monthStart.getYear();
+    }
+
+    /**
+     * 获取月份
+     *
+     * @return 月份（1–12）
+     */
+    public int month() {
+        return monthStart.getMonthValue();
+    }
+}
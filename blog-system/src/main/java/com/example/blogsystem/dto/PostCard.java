@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 首页文章卡片，只包含元数据与节选 HTML，不加载正文与全文 HTML
+ *
+ * @author Weijue
+ */
+public class PostCard {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createTime;
+    private final String slug;
+    private final Integer renderVersion;
+    private String excerptHtml;
+
+    /**
+     * 构造函数，供 JPQL 构造表达式使用
+     *
+     * @param id            文章ID
+     * @param title         文章标题
+     * @param author        作者
+     * @param createTime    创建时间
+     * @param slug          短链接标识
+     * @param renderVersion 渲染器版本
+     * @param excerptHtml   节选 HTML
+     */
+    public PostCard(Long id, String title, String author, LocalDateTime createTime,
+                    String slug, Integer renderVersion, String excerptHtml) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createTime = createTime;
+        this.slug = slug;
+        this.renderVersion = renderVersion;
+        this.excerptHtml = excerptHtml;
+    }
+
+    /**
+     * 获取文章ID
+     *
+     * @return 文章ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 获取文章标题
+     *
+     * @return 文章标题
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * 获取作者
+     *
+     * @return 作者
+     */
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * 获取创建时间
+     *
+     * @return 创建时间
+     */
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    /**
+     * 获取短链接标识
+     *
+     * @return 短链接标识，尚未回填时为 null
+     */
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * 获取节选渲染时的渲染器版本
+     *
+     * @return 渲染器版本
+     */
+    public Integer getRenderVersion() {
+        return renderVersion;
+    }
+
+    /**
+     * 获取节选 HTML
+     *
+     * @return 节选 HTML
+     */
+    public String getExcerptHtml() {
+        return excerptHtml;
+    }
+
+    /**
+     * 设置节选 HTML（存储的节选缺失或过期时由缓存渲染补齐）
+     *
+     * @param excerptHtml 节选 HTML
+     */
+    public void setExcerptHtml(String excerptHtml) {
+        this.excerptHtml = excerptHtml;
+    }
+}
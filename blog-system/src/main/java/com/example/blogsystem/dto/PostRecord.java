@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 导入导出格式中的一篇文章（NDJSON 的一行，或 zip 中一个带 front matter 的 Markdown 文件）
+ *
+ * @param id         文章ID，仅导出时填写；导入时忽略，由序列重新分配
+ * @param title      标题
+ * @param author     作者，导入时缺省为当前管理员
+ * @param createTime 创建时间，导入时缺省为当前时间
+ * @param slug       短链接标识，导入时缺省由标题生成，重名时追加序号
+ * @param content    Markdown 正文
+ * @param tags       标签名，缺省为空；导入时按链接标识复用已有标签
+ * @author Weijue
+ */
+public record PostRecord(Long id, String title, String author, LocalDateTime createTime, String slug,
+                         String content, List<String> tags) {
+
+    /**
+     * 规范化构造函数，标签缺省为空列表
+     */
+    public PostRecord {
+        tags = tags == null ? List.of() : tags;
+    }
+
+    /**
+     * 构造不带标签的记录（导出查询的构造表达式与合成数据使用）
+     *
+     * @param id         文章ID
+     * @param title      标题
+     * @param author     作者
+     * @param createTime 创建时间
+     * @param slug       短链接标识
+     * @param content    Markdown 正文
+     */
+    public PostRecord(Long id, String title, String author, LocalDateTime createTime, String slug,
+                      String content) {
+        this(id, title, author, createTime, slug, content, List.of());
+    }
+
+    /**
+     * 复制记录并替换标签
+     *
+     * @param tags 标签名
+     * @return 新记录
+     */
+    public PostRecord withTags(List<String> tags) {
+        return new PostRecord(id, title, author, createTime, slug, content, tags);
+    }
+}
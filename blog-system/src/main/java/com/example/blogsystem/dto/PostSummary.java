@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章摘要投影，管理列表只需要这些字段，无需加载文章正文
+ *
+ * @author Weijue
+ */
+public interface PostSummary {
+
+    /**
+     * 获取文章ID
+     *
+     * @return 文章ID
+     */
+    Long getId();
+
+    /**
+     * 获取文章标题
+     *
+     * @return 文章标题
+     */
+    String getTitle();
+
+    /**
+     * 获取作者
+     *
+     * @return 作者名称
+     */
+    String getAuthor();
+
+    /**
+     * 获取创建时间
+     *
+     * @return 创建时间
+     */
+    LocalDateTime getCreateTime();
+
+    /**
+     * 获取正文长度（字符数），由数据库计算
+     *
+     * @return 正文长度
+     */
+    Integer getContentLength();
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+/**
+ * 文章标签名投影（文章ID与标签名），用于批量导出
+ *
+ * @author Weijue
+ */
+public interface PostTagName {
+
+    /**
+     * 获取文章ID
+     *
+     * @return 文章ID
+     */
+    Long getPostId();
+
+    /**
+     * 获取标签名
+     *
+     * @return 标签名
+     */
+    String getName();
+}
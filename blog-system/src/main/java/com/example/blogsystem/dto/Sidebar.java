@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+import java.util.List;
+
+/**
+ * 公开页面侧栏：标签云与月度归档
+ *
+ * @param tags   按文章数倒序排列的标签
+ * @param months 按时间倒序排列的月份
+ * @author Weijue
+ */
+public record Sidebar(List<TagCount> tags, List<MonthCount> months) {
+}
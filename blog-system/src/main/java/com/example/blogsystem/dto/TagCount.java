@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.dto;
+
+/**
+ * 标签及其文章数，用于标签云与文章页的标签列表
+ *
+ * @param id        标签ID
+ * @param name      标签名
+ * @param slug      链接标识
+ * @param postCount 文章数
+ * @author Weijue
+ */
+public record TagCount(Long id, String name, String slug, int postCount) {
+}
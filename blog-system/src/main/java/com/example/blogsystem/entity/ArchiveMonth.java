@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+
+/**
+ * 月度归档实体类，记录每个月发布的文章数（由文章写入事务增量维护）
+ *
+ * @author Weijue
+ */
+@Entity
+@Table(name = "archive_months")
+public class ArchiveMonth {
+
+    /**
+     * 月份的第一天
+     */
+    @Id
+    @Column(name = "month_start")
+    private LocalDate monthStart;
+
+    @Column(name = "post_count", nullable = false)
+    private int postCount;
+
+    /**
+     * 默认构造函数，供 JPA 使用
+     */
+    protected ArchiveMonth() {
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param monthStart 月份的第一天
+     * @param postCount  文章数
+     */
+    public ArchiveMonth(LocalDate monthStart, int postCount) {
+        this.monthStart = monthStart;
+        this.postCount = postCount;
+    }
+
+    /**
+     * 获取月份的第一天
+     *
+     * @return 月份的第一天
+     */
+    public LocalDate getMonthStart() {
+        return monthStart;
+    }
+
+    /**
+     * 获取文章数
+     *
+     * @return 文章数
+     */
+    public int getPostCount() {
+        return postCount;
+    }
+}
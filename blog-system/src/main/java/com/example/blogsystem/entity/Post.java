@@ -3,16 +3,25 @@
  */
 package com.example.blogsystem.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * 博客文章实体类
@@ -21,10 +30,21 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "posts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Post.CACHE_REGION)
 public class Post {
 
+    /**
+     * 文章实体的二级缓存区域
+     */
+    public static final String CACHE_REGION = "post";
+
+    /**
+     * 主键取自序列，每次预取 50 个（pooled 优化器），插入可按 {@code hibernate.jdbc.batch_size} 批量执行
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -39,9 +59,33 @@ public class Post {
     @Column(name = "create_time", nullable = false)
     private LocalDateTime createTime;
 
-    @Transient
+    @Column(name = "update_time", nullable = false)
+    private LocalDateTime updateTime;
+
+    @Column(name = "rendered_html", columnDefinition = "TEXT")
     private String renderedContent;
 
+    @Column(name = "excerpt_html", columnDefinition = "TEXT")
+    private String excerptHtml;
+
+    @Column(length = 200, unique = true)
+    private String slug;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "render_version")
+    private Integer renderVersion;
+
+    @Transient
+    private String loadedTitle;
+
+    @Transient
+    private String loadedContent;
+
+    @Transient
+    private String loadedAuthor;
+
     /**
      * 默认构造函数
      */
@@ -138,6 +182,24 @@ public class Post {
         this.createTime = createTime;
     }
 
+    /**
+     * 获取最后修改时间
+     *
+     * @return 最后修改时间
+     */
+    public LocalDateTime getUpdateTime() {
+        return updateTime;
+    }
+
+    /**
+     * 设置最后修改时间
+     *
+     * @param updateTime 最后修改时间
+     */
+    public void setUpdateTime(LocalDateTime updateTime) {
+        this.updateTime = updateTime;
+    }
+
     /**
      * 获取渲染后的HTML内容
      *
@@ -157,12 +219,111 @@ public class Post {
     }
 
     /**
-     * 持久化前回调，自动设置创建时间
+     * 获取渲染后的节选 HTML
+     *
+     * @return 节选 HTML
+     */
+    public String getExcerptHtml() {
+        return excerptHtml;
+    }
+
+    /**
+     * 设置渲染后的节选 HTML
+     *
+     * @param excerptHtml 节选 HTML
+     */
+    public void setExcerptHtml(String excerptHtml) {
+        this.excerptHtml = excerptHtml;
+    }
+
+    /**
+     * 获取文章短链接标识
+     *
+     * @return 短链接标识
+     */
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * 设置文章短链接标识
+     *
+     * @param slug 短链接标识
+     */
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    /**
+     * 获取渲染时所用源内容的摘要
+     *
+     * @return 内容摘要（SHA-256 十六进制）
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 设置渲染时所用源内容的摘要
+     *
+     * @param contentHash 内容摘要（SHA-256 十六进制）
+     */
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 获取渲染器版本
+     *
+     * @return 渲染器版本
+     */
+    public Integer getRenderVersion() {
+        return renderVersion;
+    }
+
+    /**
+     * 设置渲染器版本
+     *
+     * @param renderVersion 渲染器版本
+     */
+    public void setRenderVersion(Integer renderVersion) {
+        this.renderVersion = renderVersion;
+    }
+
+    /**
+     * 持久化前回调，自动设置创建时间和修改时间
      */
     @PrePersist
     public void prePersist() {
         if (createTime == null) {
             createTime = LocalDateTime.now();
         }
+        if (updateTime == null) {
+            updateTime = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 更新前回调：标题、正文或作者有变化时刷新修改时间；
+     * 只回填渲染结果、内容摘要或短链接标识等派生列时保留原修改时间，避免订阅源与条件请求误判为内容已修改
+     */
+    @PreUpdate
+    public void preUpdate() {
+        if (!Objects.equals(title, loadedTitle) || !Objects.equals(content, loadedContent)
+                || !Objects.equals(author, loadedAuthor)) {
+            updateTime = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 加载、插入或更新后记录当前的标题、正文与作者，供下次更新时比较
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberEditable() {
+        loadedTitle = title;
+        loadedContent = content;
+        loadedAuthor = author;
     }
 }
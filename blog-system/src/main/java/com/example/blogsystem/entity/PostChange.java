@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.entity;
+
+import com.example.blogsystem.event.PostChangedEvent.ChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章变更日志实体（发件箱），与文章写入在同一事务内追加，只增不改
+ *
+ * @author Weijue
+ */
+@Entity
+@Table(name = "post_changes")
+public class PostChange {
+
+    /**
+     * 自增主键，各节点按 id 递增顺序轮询
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "previous_content_hash", length = 64)
+    private String previousContentHash;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(name = "create_time", nullable = false)
+    private LocalDateTime createTime;
+
+    /**
+     * 默认构造函数，供 JPA 使用
+     */
+    protected PostChange() {
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param postId              文章ID，批量变更时为 {@code null}
+     * @param changeType          变更类型
+     * @param previousContentHash 变更前的内容摘要
+     * @param nodeId              执行写入的节点
+     */
+    public PostChange(Long postId, ChangeType changeType, String previousContentHash, String nodeId) {
+        this.postId = postId;
+        this.changeType = changeType;
+        this.previousContentHash = previousContentHash;
+        this.nodeId = nodeId;
+        this.createTime = LocalDateTime.now();
+    }
+
+    /**
+     * 获取变更日志ID
+     *
+     * @return 变更日志ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 获取文章ID
+     *
+     * @return 文章ID，批量变更时为 {@code null}
+     */
+    public Long getPostId() {
+        return postId;
+    }
+
+    /**
+     * 获取变更类型
+     *
+     * @return 变更类型
+     */
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * 获取变更前的内容摘要
+     *
+     * @return 内容摘要
+     */
+    public String getPreviousContentHash() {
+        return previousContentHash;
+    }
+
+    /**
+     * 获取执行写入的节点
+     *
+     * @return 节点标识
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 获取记录时间
+     *
+     * @return 记录时间
+     */
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+}
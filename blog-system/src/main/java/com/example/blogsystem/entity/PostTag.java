@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 文章与标签的关联实体
+ *
+ * <p>冗余文章创建时间，按标签列出文章时由 (tag_id, create_time, post_id) 复合索引直接完成键集分页。
+ * 主键由调用方给出，实现 {@link Persistable} 使保存新关联时直接插入，而不是先查询再合并。</p>
+ *
+ * @author Weijue
+ */
+@Entity
+@Table(name = "post_tags")
+@IdClass(PostTag.Key.class)
+public class PostTag implements Persistable<PostTag.Key> {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "create_time", nullable = false, updatable = false)
+    private LocalDateTime createTime;
+
+    @Transient
+    private boolean persisted;
+
+    /**
+     * 默认构造函数，供 JPA 使用
+     */
+    protected PostTag() {
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param post  文章（已分配主键）
+     * @param tagId 标签ID
+     */
+    public PostTag(Post post, Long tagId) {
+        this.postId = post.getId();
+        this.tagId = tagId;
+        this.createTime = post.getCreateTime();
+    }
+
+    /**
+     * 获取文章ID
+     *
+     * @return 文章ID
+     */
+    public Long getPostId() {
+        return postId;
+    }
+
+    /**
+     * 获取标签ID
+     *
+     * @return 标签ID
+     */
+    public Long getTagId() {
+        return tagId;
+    }
+
+    /**
+     * 获取文章创建时间
+     *
+     * @return 文章创建时间
+     */
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(postId, tagId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * 从数据库加载后标记为已存在
+     */
+    @PostLoad
+    void markPersisted() {
+        persisted = true;
+    }
+
+    /**
+     * 关联主键
+     */
+    public static class Key implements Serializable {
+
+        private Long postId;
+        private Long tagId;
+
+        /**
+         * 默认构造函数，供 JPA 使用
+         */
+        protected Key() {
+        }
+
+        /**
+         * 构造函数
+         *
+         * @param postId 文章ID
+         * @param tagId  标签ID
+         */
+        public Key(Long postId, Long tagId) {
+            this.postId = postId;
+            this.tagId = tagId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(postId, other.postId) && Objects.equals(tagId, other.tagId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, tagId);
+        }
+    }
+}
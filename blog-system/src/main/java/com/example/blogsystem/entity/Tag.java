@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 标签实体类
+ *
+ * <p>{@code postCount} 由文章写入事务以 {@code post_count = post_count + ?} 增量维护，
+ * 实体本身从不修改该字段。</p>
+ *
+ * @author Weijue
+ */
+@Entity
+@Table(name = "tags")
+public class Tag {
+
+    /**
+     * 标签名最大长度（字符数）
+     */
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    @Column(nullable = false, length = 80)
+    private String slug;
+
+    @Column(name = "post_count", nullable = false)
+    private int postCount;
+
+    /**
+     * 默认构造函数，供 JPA 使用
+     */
+    protected Tag() {
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param name 标签名（首次使用时的写法）
+     * @param slug 链接标识，同一标识只对应一个标签
+     */
+    public Tag(String name, String slug) {
+        this.name = name;
+        this.slug = slug;
+    }
+
+    /**
+     * 获取标签ID
+     *
+     * @return 标签ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 获取标签名
+     *
+     * @return 标签名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取链接标识
+     *
+     * @return 链接标识
+     */
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * 获取文章数
+     *
+     * @return 加载时的文章数
+     */
+    public int getPostCount() {
+        return postCount;
+    }
+}
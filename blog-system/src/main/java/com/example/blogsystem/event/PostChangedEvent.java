@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.event;
+
+/**
+ * 文章变更事件，由写入路径在文章创建、更新或删除后发布
+ *
+ * @param postId              文章ID，批量变更时为 {@code null}
+ * @param type                变更类型
+ * @param previousContentHash 变更前的内容摘要，新建文章时为 {@code null}
+ * @param remote              是否为其他节点的写入（由变更日志轮询重放），本地监听方照常刷新，但不再记入变更日志
+ * @author Weijue
+ */
+public record PostChangedEvent(Long postId, ChangeType type, String previousContentHash, boolean remote) {
+
+    /**
+     * 本节点写入产生的变更事件
+     *
+     * @param postId              文章ID，批量变更时为 {@code null}
+     * @param type                变更类型
+     * @param previousContentHash 变更前的内容摘要，新建文章时为 {@code null}
+     */
+    public PostChangedEvent(Long postId, ChangeType type, String previousContentHash) {
+        this(postId, type, previousContentHash, false);
+    }
+
+    /**
+     * 文章变更类型
+     */
+    public enum ChangeType {
+        /**
+         * 新建
+         */
+        CREATED,
+        /**
+         * 更新
+         */
+        UPDATED,
+        /**
+         * 删除
+         */
+        DELETED,
+        /**
+         * 批量变更（如批量导入），可能涉及任意文章，监听方应整体刷新
+         */
+        BULK
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.feed;
+
+/**
+ * 预先编码好的订阅源字节，构建后不再修改
+ *
+ * @param contentType 响应类型
+ * @param identity    未压缩的 UTF-8 字节
+ * @param gzip        gzip 压缩后的字节
+ * @param etag        未压缩版本的强 ETag（含引号），压缩版本在引号内追加 {@code -gzip}
+ * @author Weijue
+ */
+public record EncodedFeed(String contentType, byte[] identity, byte[] gzip, String etag) {
+
+    /**
+     * 获取 gzip 版本的 ETag
+     *
+     * @return 强 ETag（含引号）
+     */
+    public String gzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.feed;
+
+import com.example.blogsystem.config.FeedProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.RenderCache;
+import com.example.blogsystem.util.EncodingUtil;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.UriUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 订阅源服务，生成 Atom 与 RSS 2.0 订阅源并缓存为预压缩的字节数组
+ *
+ * <p>订阅源只在内容变化后的第一次请求时构建一次（一次查询、直接使用写入时存储的节选 HTML），
+ * 之后所有轮询直接输出缓存的字节，不访问数据库也不渲染 Markdown。文章变更提交后仅丢弃缓存；
+ * 构建期间发生的变更通过代次号识别，过期的构建结果只服务当次请求、不会写回缓存。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class FeedService {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String ATOM_TYPE = "application/atom+xml;charset=UTF-8";
+    private static final String RSS_TYPE = "application/rss+xml;charset=UTF-8";
+
+    private final PostRepository postRepository;
+    private final RenderCache renderCache;
+    private final FeedProperties feedProperties;
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Feeds feeds;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository 文章仓储
+     * @param renderCache    渲染结果缓存
+     * @param feedProperties 订阅源配置
+     */
+    public FeedService(PostRepository postRepository, RenderCache renderCache, FeedProperties feedProperties) {
+        this.postRepository = postRepository;
+        this.renderCache = renderCache;
+        this.feedProperties = feedProperties;
+    }
+
+    /**
+     * 获取 Atom 订阅源
+     *
+     * @return 预编码的订阅源
+     */
+    public EncodedFeed atom() {
+        return current().atom();
+    }
+
+    /**
+     * 获取 RSS 2.0 订阅源
+     *
+     * @return 预编码的订阅源
+     */
+    public EncodedFeed rss() {
+        return current().rss();
+    }
+
+    /**
+     * 文章变更提交后丢弃缓存的订阅源；最先执行，之后的监听器（如静态站点导出）读到的都是新订阅源
+     *
+     * @param event 文章变更事件
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        feeds = null;
+    }
+
+    /**
+     * 获取当前订阅源，缓存为空时构建；并发请求只构建一次
+     *
+     * @return 订阅源
+     */
+    private Feeds current() {
+        Feeds current = feeds;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = feeds;
+            if (current == null) {
+                long startGeneration = generation.get();
+                current = build();
+                if (generation.get() == startGeneration) {
+                    feeds = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 查询最新文章并生成两种格式的订阅源
+     *
+     * @return 订阅源
+     */
+    private Feeds build() {
+        List<Post> posts = postRepository.findRecent(PageRequest.of(0, feedProperties.size()));
+        posts.stream()
+                .filter(post -> post.getExcerptHtml() == null
+                        || !Objects.equals(post.getRenderVersion(), MarkdownUtil.RENDERER_VERSION))
+                .forEach(post -> post.setExcerptHtml(renderCache.render(post.getContent()).excerptHtml()));
+        try {
+            return new Feeds(encode(ATOM_TYPE, writeAtom(posts)), encode(RSS_TYPE, writeRss(posts)));
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("订阅源生成失败", e);
+        }
+    }
+
+    /**
+     * 生成 Atom 订阅源
+     *
+     * @param posts 按创建时间倒序排列的文章
+     * @return UTF-8 字节
+     * @throws XMLStreamException XML 写入异常
+     */
+    private byte[] writeAtom(List<Post> posts) throws XMLStreamException {
+        String siteUrl = feedProperties.siteUrl();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+        XMLStreamWriter xml = xmlOutputFactory.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("feed");
+        xml.writeDefaultNamespace(ATOM_NS);
+        element(xml, "title", feedProperties.title());
+        link(xml, siteUrl + "/feed.xml", "self");
+        link(xml, siteUrl + "/", null);
+        element(xml, "id", siteUrl + "/");
+        element(xml, "updated", posts.stream()
+                .map(Post::getUpdateTime)
+                .max(LocalDateTime::compareTo)
+                .map(FeedService::isoTime)
+                .orElseGet(() -> isoTime(LocalDateTime.now())));
+        for (Post post : posts) {
+            xml.writeStartElement("entry");
+            element(xml, "title", post.getTitle());
+            link(xml, postUrl(post), null);
+            element(xml, "id", siteUrl + "/posts/" + post.getId());
+            element(xml, "published", isoTime(post.getCreateTime()));
+            element(xml, "updated", isoTime(post.getUpdateTime()));
+            xml.writeStartElement("author");
+            element(xml, "name", post.getAuthor());
+            xml.writeEndElement();
+            xml.writeStartElement("summary");
+            xml.writeAttribute("type", "html");
+            xml.writeCharacters(post.getExcerptHtml());
+            xml.writeEndElement();
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * 生成 RSS 2.0 订阅源
+     *
+     * @param posts 按创建时间倒序排列的文章
+     * @return UTF-8 字节
+     * @throws XMLStreamException XML 写入异常
+     */
+    private byte[] writeRss(List<Post> posts) throws XMLStreamException {
+        String siteUrl = feedProperties.siteUrl();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+        XMLStreamWriter xml = xmlOutputFactory.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeStartElement("channel");
+        element(xml, "title", feedProperties.title());
+        element(xml, "link", siteUrl + "/");
+        element(xml, "description", feedProperties.title());
+        for (Post post : posts) {
+            xml.writeStartElement("item");
+            element(xml, "title", post.getTitle());
+            element(xml, "link", postUrl(post));
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "false");
+            xml.writeCharacters(siteUrl + "/posts/" + post.getId());
+            xml.writeEndElement();
+            element(xml, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(zoned(post.getCreateTime())));
+            element(xml, "description", post.getExcerptHtml());
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * 压缩并计算 ETag
+     *
+     * @param contentType 响应类型
+     * @param identity    未压缩字节
+     * @return 预编码的订阅源
+     */
+    private static EncodedFeed encode(String contentType, byte[] identity) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new EncodedFeed(contentType, identity, EncodingUtil.gzip(identity), etag);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+
+    /**
+     * 生成文章页的绝对地址，优先使用短链接
+     *
+     * @param post 文章
+     * @return 绝对地址
+     */
+    private String postUrl(Post post) {
+        return post.getSlug() == null
+                ? feedProperties.siteUrl() + "/posts/" + post.getId()
+                : feedProperties.siteUrl() + "/p/" + UriUtils.encodePathSegment(post.getSlug(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 写入只含文本的元素
+     *
+     * @param xml  XML 写入器
+     * @param name 元素名
+     * @param text 文本
+     * @throws XMLStreamException XML 写入异常
+     */
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text == null ? "" : text);
+        xml.writeEndElement();
+    }
+
+    /**
+     * 写入 Atom 链接元素
+     *
+     * @param xml  XML 写入器
+     * @param href 链接地址
+     * @param rel  链接关系，为 {@code null} 时省略
+     * @throws XMLStreamException XML 写入异常
+     */
+    private static void link(XMLStreamWriter xml, String href, String rel) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("href", href);
+        if (rel != null) {
+            xml.writeAttribute("rel", rel);
+        }
+    }
+
+    /**
+     * 按系统时区将本地时间转换为带时区的时间
+     *
+     * @param time 本地时间
+     * @return 带时区的时间
+     */
+    private static ZonedDateTime zoned(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * 格式化为 RFC 3339 时间
+     *
+     * @param time 本地时间
+     * @return 带偏移量的 ISO 时间
+     */
+    private static String isoTime(LocalDateTime time) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(zoned(time));
+    }
+
+    /**
+     * 同一内容版本的两种订阅源
+     *
+     * @param atom Atom 订阅源
+     * @param rss  RSS 订阅源
+     */
+    private record Feeds(EncodedFeed atom, EncodedFeed rss) {
+    }
+}
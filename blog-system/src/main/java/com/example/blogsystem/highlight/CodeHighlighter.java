@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.highlight;
+
+import com.example.blogsystem.config.RenderProperties;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+
+/**
+ * 代码块着色服务
+ *
+ * <p>着色结果按 (语言, 代码摘要) 缓存（内容寻址）：只修改文章正文的文字时，未改动的代码块直接复用，
+ * 不同文章中相同的代码块也共享同一份结果。容量按缓存 HTML 的总大小限制。</p>
+ *
+ * @author Weijue
+ */
+@Component
+public class CodeHighlighter {
+
+    /**
+     * 每个缓存条目的固定开销估算（键字符串、节点对象等），单位字节
+     */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<String, String> cache;
+
+    /**
+     * 构造函数，使用默认容量且不上报指标（用于基准测试等脱离容器的场景）
+     */
+    public CodeHighlighter() {
+        this(DataSize.ofMegabytes(16), new CompositeMeterRegistry());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param renderProperties 渲染配置
+     * @param meterRegistry    指标注册表
+     */
+    @Autowired
+    public CodeHighlighter(RenderProperties renderProperties, MeterRegistry meterRegistry) {
+        this(renderProperties.highlight().cacheMaxSize(), meterRegistry);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxSize       缓存 HTML 的总大小上限
+     * @param meterRegistry 指标注册表
+     */
+    private CodeHighlighter(DataSize maxSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, String html) -> ENTRY_OVERHEAD + 2 * (key.length() + html.length()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "highlight");
+    }
+
+    /**
+     * 着色代码块，命中缓存时直接返回
+     *
+     * @param language 围栏代码块声明的语言名
+     * @param code     源代码
+     * @return {@code <code>} 元素内的 HTML；语言不支持时为空
+     */
+    public Optional<String> highlight(String language, String code) {
+        return Language.of(language).map(supported -> cache.get(
+                supported.name() + ':' + MarkdownUtil.contentHash(code), key -> supported.highlight(code)));
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 缓存统计
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
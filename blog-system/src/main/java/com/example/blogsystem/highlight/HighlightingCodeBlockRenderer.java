@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.highlight;
+
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.Node;
+import org.commonmark.renderer.NodeRenderer;
+import org.commonmark.renderer.html.HtmlNodeRendererContext;
+import org.commonmark.renderer.html.HtmlWriter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 围栏代码块渲染器，替换 CommonMark 内置的代码块渲染
+ *
+ * <p>输出结构与内置渲染一致（{@code <pre><code class="language-xxx">}），支持的语言在服务端着色为
+ * {@code <span class="hl-...">}，其余语言仍按纯文本转义输出。</p>
+ *
+ * @author Weijue
+ */
+public class HighlightingCodeBlockRenderer implements NodeRenderer {
+
+    private final HtmlNodeRendererContext context;
+    private final HtmlWriter html;
+    private final CodeHighlighter codeHighlighter;
+
+    /**
+     * 构造函数
+     *
+     * @param context         渲染上下文
+     * @param codeHighlighter 代码块着色服务
+     */
+    public HighlightingCodeBlockRenderer(HtmlNodeRendererContext context, CodeHighlighter codeHighlighter) {
+        this.context = context;
+        this.html = context.getWriter();
+        this.codeHighlighter = codeHighlighter;
+    }
+
+    /**
+     * 只接管围栏代码块
+     *
+     * @return 节点类型
+     */
+    @Override
+    public Set<Class<? extends Node>> getNodeTypes() {
+        return Set.of(FencedCodeBlock.class);
+    }
+
+    /**
+     * 渲染围栏代码块
+     *
+     * @param node 围栏代码块节点
+     */
+    @Override
+    public void render(Node node) {
+        FencedCodeBlock block = (FencedCodeBlock) node;
+        String literal = block.getLiteral();
+        String info = block.getInfo();
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Optional<String> highlighted = Optional.empty();
+        if (info != null && !info.isEmpty()) {
+            int space = info.indexOf(' ');
+            String language = space == -1 ? info : info.substring(0, space);
+            attributes.put("class", "language-" + language);
+            highlighted = codeHighlighter.highlight(language, literal);
+        }
+        html.line();
+        html.tag("pre", context.extendAttributes(block, "pre", Map.of()));
+        html.tag("code", context.extendAttributes(block, "code", attributes));
+        if (highlighted.isPresent()) {
+            html.raw(highlighted.get());
+        } else {
+            html.text(literal);
+        }
+        html.tag("/code");
+        html.tag("/pre");
+        html.line();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.highlight;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 支持服务端着色的代码语言
+ *
+ * <p>着色只区分注释、字符串、关键字、数字等少数几类记号，不做语法分析；新增语言或修改规则会改变
+ * 已存储的 HTML，需要递增 {@link com.example.blogsystem.util.MarkdownUtil#RENDERER_VERSION}。</p>
+ *
+ * @author Weijue
+ */
+public enum Language {
+
+    /**
+     * Java，含文本块与注解
+     */
+    JAVA(Lexer.builder()
+            .rule("comment", "//[^\\n]*+|/\\*[\\s\\S]*?(?:\\*/|\\z)")
+            .rule("string", "\"\"\"[\\s\\S]*?(?:\"\"\"|\\z)|\"(?:[^\"\\\\\\n]++|\\\\.)*+\"?|'(?:[^'\\\\\\n]|\\\\.)*+'?")
+            .rule("annotation", "@(?!interface\\b)[A-Za-z_][\\w.]*+")
+            .words("keyword", "abstract assert boolean break byte case catch char class const continue default do "
+                    + "double else enum extends final finally float for goto if implements import instanceof int "
+                    + "interface long native new non-sealed package permits private protected public record return "
+                    + "sealed short static strictfp super switch synchronized this throw throws transient try var "
+                    + "void volatile while yield")
+            .words("literal", "true false null")
+            .rule("number", "\\b(?:0[xX][\\da-fA-F_]++|0[bB][01_]++|\\d[\\d_]*+(?:\\.\\d[\\d_]*+)?(?:[eE][+-]?\\d++)?)"
+                    + "[lLfFdD]?\\b")
+            .rule(null, "\\w++")
+            .build(), "java"),
+
+    /**
+     * SQL，关键字不区分大小写
+     */
+    SQL(Lexer.builder()
+            .rule("comment", "--[^\\n]*+|/\\*[\\s\\S]*?(?:\\*/|\\z)")
+            .rule("string", "'(?:[^']++|'')*+'?")
+            .rule(null, "\"[^\"\\n]*+\"?")
+            .wordsIgnoreCase("keyword", "add all alter and any as asc begin between by cascade case check column "
+                    + "commit constraint create cross default delete desc distinct drop else end exists foreign from "
+                    + "full group having if in index inner insert intersect into is join key left like limit not "
+                    + "offset on or order outer primary references returning right rollback select sequence set table "
+                    + "then transaction union unique update using values view when where with")
+            .wordsIgnoreCase("type", "bigint bigserial boolean char date decimal double int integer numeric real "
+                    + "serial smallint text timestamp varchar")
+            .wordsIgnoreCase("literal", "true false null")
+            .rule("number", "\\b\\d++(?:\\.\\d++)?(?:[eE][+-]?\\d++)?\\b")
+            .rule(null, "\\w++")
+            .build(), "sql", "mysql", "postgresql", "postgres", "psql", "plsql"),
+
+    /**
+     * XML / HTML，标签内再区分属性名与属性值
+     */
+    XML(Lexer.builder()
+            .rule("comment", "<!--[\\s\\S]*?(?:-->|\\z)")
+            .rule("string", "<!\\[CDATA\\[[\\s\\S]*?(?:]]>|\\z)")
+            .rule("meta", "<[?!][^>]*+>?")
+            .nested("</?[\\w:.-]++(?:[^<>\"']++|\"[^\"]*+\"|'[^']*+')*+/?>?", Lexer.builder()
+                    .rule("tag", "^</?[\\w:.-]++|/?>$")
+                    .rule("string", "\"[^\"]*+\"?|'[^']*+'?")
+                    .rule("attr", "[\\w:.-]++(?=\\s*+=)")
+                    .build())
+            .rule("literal", "&#?\\w++;")
+            .build(), "xml", "html", "xhtml", "svg", "pom", "mybatis"),
+
+    /**
+     * Spring 配置文件（.properties）
+     */
+    PROPERTIES(Lexer.builder()
+            .rule("comment", "(?m:^[ \\t]*+[#!][^\\n]*+)")
+            .rule("key", "(?m:^[ \\t]*+(?:\\\\.|[^=:\\s\\\\#!])(?:\\\\.|[^=:\\s\\\\])*+)")
+            .rule("variable", "\\$\\{[^}\\n]*+}?")
+            .build(), "properties", "props", "ini"),
+
+    /**
+     * Shell 脚本与命令行
+     */
+    BASH(Lexer.builder()
+            .rule("comment", "(?m:(?:^|(?<=\\s))#[^\\n]*+)")
+            .rule("string", "\"(?:[^\"\\\\]++|\\\\[\\s\\S])*+\"?|'[^']*+'?")
+            .rule("variable", "\\$(?:\\{[^}\\n]*+}?|\\w++|[@*#?$!-])")
+            .words("keyword", "case cd do done echo elif else esac exec exit export fi for function if in local "
+                    + "read readonly return set shift source then trap unset until while")
+            .rule("attr", "(?<=\\s)--?[A-Za-z][\\w-]*+")
+            .rule(null, "[\\w-]++")
+            .build(), "bash", "sh", "shell", "zsh", "console"),
+
+    /**
+     * JSON，区分键与字符串值
+     */
+    JSON(Lexer.builder()
+            .rule("key", "\"(?:[^\"\\\\\\n]++|\\\\.)*+\"(?=\\s*+:)")
+            .rule("string", "\"(?:[^\"\\\\\\n]++|\\\\.)*+\"?")
+            .words("literal", "true false null")
+            .rule("number", "-?\\b\\d++(?:\\.\\d++)?(?:[eE][+-]?\\d++)?\\b")
+            .build(), "json", "jsonc");
+
+    private static final Map<String, Language> BY_ALIAS = Stream.of(values())
+            .flatMap(language -> Stream.of(language.aliases).map(alias -> Map.entry(alias, language)))
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+
+    private final Lexer lexer;
+    private final String[] aliases;
+
+    /**
+     * 构造函数
+     *
+     * @param lexer   着色器
+     * @param aliases 围栏代码块信息串中可用的语言名（小写）
+     */
+    Language(Lexer lexer, String... aliases) {
+        this.lexer = lexer;
+        this.aliases = aliases;
+    }
+
+    /**
+     * 按围栏代码块声明的语言名查找（不区分大小写）
+     *
+     * @param name 语言名
+     * @return 支持的语言，不支持时为空
+     */
+    public static Optional<Language> of(String name) {
+        if (name == null || name.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(BY_ALIAS.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * 着色代码，返回 {@code <code>} 元素内的 HTML
+     *
+     * @param code 源代码
+     * @return 着色后的 HTML
+     */
+    public String highlight(String code) {
+        StringBuilder out = new StringBuilder(code.length() + code.length() / 2);
+        lexer.highlight(code, out);
+        return out.toString();
+    }
+}
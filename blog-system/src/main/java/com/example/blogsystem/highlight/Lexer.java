@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.highlight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 基于正则的词法着色器
+ *
+ * <p>各条规则按声明顺序合并为一个多选正则，一次从左到右扫描：先声明的规则优先（注释、字符串应排在关键字之前），
+ * 匹配到的片段包裹为 {@code <span class="hl-样式">}，其余文本原样转义输出。规则可以指定内层着色器，
+ * 对匹配到的片段再着色（如 XML 标签内的属性）。规则中的分组必须是非捕获分组。</p>
+ *
+ * @author Weijue
+ */
+final class Lexer {
+
+    private final Pattern pattern;
+    private final String[] styles;
+    private final Lexer[] inner;
+
+    /**
+     * 构造函数
+     *
+     * @param pattern 合并后的正则，每条规则对应一个捕获分组
+     * @param styles  各规则的样式名，为 null 时不包裹
+     * @param inner   各规则的内层着色器，可为 null
+     */
+    private Lexer(Pattern pattern, String[] styles, Lexer[] inner) {
+        this.pattern = pattern;
+        this.styles = styles;
+        this.inner = inner;
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @return 构建器
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 着色并以 HTML 输出
+     *
+     * @param code 源代码
+     * @param out  输出
+     */
+    void highlight(String code, StringBuilder out) {
+        Matcher matcher = pattern.matcher(code);
+        int last = 0;
+        while (matcher.find()) {
+            int start = matcher.start();
+            int end = matcher.end();
+            if (start == end) {
+                continue;
+            }
+            int rule = matchedRule(matcher);
+            escape(code, last, start, out);
+            if (inner[rule] != null) {
+                inner[rule].highlight(code.substring(start, end), out);
+            } else if (styles[rule] != null) {
+                out.append("<span class=\"hl-").append(styles[rule]).append("\">");
+                escape(code, start, end, out);
+                out.append("</span>");
+            } else {
+                escape(code, start, end, out);
+            }
+            last = end;
+        }
+        escape(code, last, code.length(), out);
+    }
+
+    /**
+     * 找到本次匹配命中的规则下标
+     *
+     * @param matcher 匹配器
+     * @return 规则下标
+     */
+    private int matchedRule(Matcher matcher) {
+        for (int i = 0; i < styles.length; i++) {
+            if (matcher.start(i + 1) >= 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("没有命中任何规则");
+    }
+
+    /**
+     * 按 HTML 文本转义输出（与 CommonMark 渲染代码块的转义一致）
+     *
+     * @param text  文本
+     * @param start 起始下标（含）
+     * @param end   结束下标（不含）
+     * @param out   输出
+     */
+    static void escape(String text, int start, int end, StringBuilder out) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * 着色器构建器
+     */
+    static final class Builder {
+
+        private final List<String> regexes = new ArrayList<>();
+        private final List<String> styles = new ArrayList<>();
+        private final List<Lexer> inner = new ArrayList<>();
+
+        /**
+         * 添加规则
+         *
+         * @param style 样式名，为 null 时匹配到的片段不包裹（用于吞掉不应被后续规则匹配的文本）
+         * @param regex 正则，只能包含非捕获分组
+         * @return 构建器
+         */
+        Builder rule(String style, String regex) {
+            return add(style, regex, null);
+        }
+
+        /**
+         * 添加由内层着色器处理的规则
+         *
+         * @param regex 正则，只能包含非捕获分组
+         * @param lexer 内层着色器
+         * @return 构建器
+         */
+        Builder nested(String regex, Lexer lexer) {
+            return add(null, regex, lexer);
+        }
+
+        /**
+         * 添加关键字规则（整词匹配）
+         *
+         * @param style    样式名
+         * @param keywords 以空格分隔的关键字
+         * @return 构建器
+         */
+        Builder words(String style, String keywords) {
+            return rule(style, "\\b(?:" + String.join("|", keywords.trim().split("\\s+")) + ")\\b");
+        }
+
+        /**
+         * 添加不区分大小写的关键字规则（整词匹配）
+         *
+         * @param style    样式名
+         * @param keywords 以空格分隔的关键字
+         * @return 构建器
+         */
+        Builder wordsIgnoreCase(String style, String keywords) {
+            return rule(style, "(?i:\\b(?:" + String.join("|", keywords.trim().split("\\s+")) + ")\\b)");
+        }
+
+        /**
+         * 添加规则
+         *
+         * @param style 样式名
+         * @param regex 正则
+         * @param lexer 内层着色器
+         * @return 构建器
+         */
+        private Builder add(String style, String regex, Lexer lexer) {
+            regexes.add(regex);
+            styles.add(style);
+            inner.add(lexer);
+            return this;
+        }
+
+        /**
+         * 构建着色器
+         *
+         * @return 着色器
+         */
+        Lexer build() {
+            StringJoiner alternation = new StringJoiner("|");
+            for (String regex : regexes) {
+                alternation.add("(" + regex + ")");
+            }
+            Pattern pattern = Pattern.compile(alternation.toString());
+            if (pattern.matcher("").groupCount() != regexes.size()) {
+                throw new IllegalArgumentException("规则中只能使用非捕获分组");
+            }
+            return new Lexer(pattern, styles.toArray(String[]::new), inner.toArray(Lexer[]::new));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.metrics;
+
+import com.example.blogsystem.dto.ContentStats;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.repository.PostRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 内容规模指标：文章总数与正文总字节数
+ *
+ * <p>统计需要扫描全表正文，因此结果被缓存，仅在文章变更后且距上次统计超过刷新间隔时，
+ * 由下一次指标采集重新查询，避免每次抓取或每次写入都触发全表聚合。</p>
+ *
+ * @author Weijue
+ */
+@Component
+public class ContentMetrics {
+
+    /**
+     * 两次统计查询之间的最小间隔
+     */
+    private static final long REFRESH_INTERVAL_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final PostRepository postRepository;
+    private volatile Snapshot snapshot = new Snapshot(0L, 0L, 0L);
+    private volatile boolean dirty = true;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository 文章仓储
+     * @param meterRegistry  指标注册表
+     */
+    public ContentMetrics(PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        Gauge.builder("blog.posts.count", this, metrics -> metrics.snapshot().postCount())
+                .description("文章总数")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.content.bytes", this, metrics -> metrics.snapshot().contentBytes())
+                .description("全部文章 Markdown 正文的总字节数")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 文章变更提交后标记统计过期
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        dirty = true;
+    }
+
+    /**
+     * 获取统计快照，过期且超过刷新间隔时重新查询
+     *
+     * @return 统计快照
+     */
+    Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (dirty && (current.takenAt() == 0L || System.nanoTime() - current.takenAt() >= REFRESH_INTERVAL_NANOS)) {
+            synchronized (this) {
+                if (snapshot == current) {
+                    dirty = false;
+                    ContentStats stats = postRepository.findContentStats();
+                    Long bytes = stats.getContentBytes();
+                    snapshot = new Snapshot(stats.getPostCount(), bytes == null ? 0L : bytes, System.nanoTime());
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 统计快照
+     *
+     * @param postCount    文章总数
+     * @param contentBytes 正文总字节数
+     * @param takenAt      统计时间（System.nanoTime），0 表示尚未统计
+     */
+    record Snapshot(long postCount, long contentBytes, long takenAt) {
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 请求观测约定，在默认标签之外增加处理器方法标签（如 BlogController#index），
+ * 使 http.server.requests 可以按控制器方法拆分延迟
+ *
+ * @author Weijue
+ */
+public class HandlerTaggingObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final KeyValue HANDLER_NONE = KeyValue.of("handler", "none");
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(handler(context));
+    }
+
+    /**
+     * 从请求属性中解析匹配到的处理器方法
+     *
+     * @param context 请求观测上下文
+     * @return 处理器标签
+     */
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        if (context.getCarrier() != null
+                && context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of("handler",
+                    handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return HANDLER_NONE;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.UrlBasedViewResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 视图渲染计时拦截器
+ *
+ * <p>postHandle 在处理器返回后、视图渲染前调用，afterCompletion 在渲染完成后调用，
+ * 两者之间即为 Thymeleaf 模板渲染耗时，按视图名打标签。</p>
+ *
+ * @author Weijue
+ */
+public class ViewRenderTimingInterceptor implements HandlerInterceptor {
+
+    /**
+     * 视图渲染耗时指标名
+     */
+    public static final String VIEW_RENDER_TIMER = "blog.view.render";
+
+    private static final String START_ATTRIBUTE = ViewRenderTimingInterceptor.class.getName() + ".START";
+    private static final String VIEW_ATTRIBUTE = ViewRenderTimingInterceptor.class.getName() + ".VIEW";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 构造函数
+     *
+     * @param meterRegistry 指标注册表
+     */
+    public ViewRenderTimingInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null) {
+            return;
+        }
+        String viewName = modelAndView.getViewName();
+        if (viewName == null || viewName.startsWith(UrlBasedViewResolver.REDIRECT_URL_PREFIX)) {
+            return;
+        }
+        request.setAttribute(VIEW_ATTRIBUTE, viewName);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        Timer.builder(VIEW_RENDER_TIMER)
+                .description("Thymeleaf 视图渲染耗时")
+                .tag("view", (String) request.getAttribute(VIEW_ATTRIBUTE))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.repository;
+
+import com.example.blogsystem.dto.MonthCount;
+import com.example.blogsystem.entity.ArchiveMonth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 月度归档数据访问仓储接口
+ *
+ * @author Weijue
+ */
+public interface ArchiveMonthRepository extends JpaRepository<ArchiveMonth, LocalDate> {
+
+    /**
+     * 查询有文章的月份，直接读取维护好的计数，不做聚合
+     *
+     * @return 按时间倒序排列的月份及文章数
+     */
+    @Query("select new com.example.blogsystem.dto.MonthCount(a.monthStart, a.postCount) from ArchiveMonth a "
+            + "where a.postCount > 0 order by a.monthStart desc")
+    List<MonthCount> findNonEmpty();
+
+    /**
+     * 增量调整某月的文章数
+     *
+     * @param monthStart 月份的第一天
+     * @param delta      增量，可为负数
+     * @return 更新的行数，该月尚无记录时为 0
+     */
+    @Modifying
+    @Query("update ArchiveMonth a set a.postCount = a.postCount + :delta where a.monthStart = :monthStart")
+    int adjustPostCount(LocalDate monthStart, int delta);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.repository;
+
+import com.example.blogsystem.entity.PostChange;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章变更日志数据访问仓储接口
+ *
+ * <p>轮询查询显式使用读写事务，启用读写分离时读主库，不受副本复制延迟影响。</p>
+ *
+ * @author Weijue
+ */
+public interface PostChangeRepository extends JpaRepository<PostChange, Long> {
+
+    /**
+     * 查询当前最大的变更日志 id
+     *
+     * @return 最大 id，没有记录时为 0
+     */
+    @Transactional
+    @Query("select coalesce(max(c.id), 0) from PostChange c")
+    long findMaxId();
+
+    /**
+     * 按 id 顺序查询指定 id 之后的变更日志
+     *
+     * @param afterId  已处理的最大 id
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 变更日志
+     */
+    @Transactional
+    @Query("select c from PostChange c where c.id > :afterId order by c.id")
+    List<PostChange> findAfter(long afterId, Pageable pageable);
+
+    /**
+     * 删除早于指定时间的变更日志
+     *
+     * @param before 截止时间
+     * @return 删除的条数
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from PostChange c where c.createTime < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -3,9 +3,26 @@
  */
 package com.example.blogsystem.repository;
 
+import com.example.blogsystem.dto.ContentStats;
+import com.example.blogsystem.dto.ContentVersion;
+import com.example.blogsystem.dto.PostCard;
+import com.example.blogsystem.dto.PostRecord;
+import com.example.blogsystem.dto.PostSummary;
 import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.util.PostCursor;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 文章数据访问仓储接口
@@ -13,4 +30,279 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @author Weijue
  */
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    /**
+     * 首页文章卡片的构造表达式，不选取正文与全文 HTML
+     */
+    String CARD = "new com.example.blogsystem.dto.PostCard(p.id, p.title, p.author, p.createTime, "
+            + "p.slug, p.renderVersion, p.excerptHtml)";
+
+    /**
+     * 分页键（创建时间与ID）的构造表达式
+     */
+    String KEY = "new com.example.blogsystem.util.PostCursor(p.createTime, p.id)";
+
+    /**
+     * 读路径查询结果的缓存区域；posts 表有写入提交后，区域内的结果按更新时间戳自动失效
+     */
+    String LISTING_REGION = "post-listings";
+
+    /**
+     * 查询当前内容版本（最新修改时间与文章总数），用于条件请求校验
+     *
+     * @return 内容版本
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select max(p.updateTime) as lastModified, count(p) as postCount from Post p")
+    ContentVersion findContentVersion();
+
+    /**
+     * 统计文章总数与正文总字节数，用于监控指标
+     *
+     * @return 内容统计
+     */
+    @Query("select count(p) as postCount, sum(octet_length(p.content)) as contentBytes from Post p")
+    ContentStats findContentStats();
+
+    /**
+     * 查询最新的文章卡片（首页第一页）
+     *
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from Post p order by p.createTime desc, p.id desc")
+    List<PostCard> findLatest(Pageable pageable);
+
+    /**
+     * 查询游标之前（更早）的文章卡片，走 (create_time, id) 复合索引
+     *
+     * @param createTime 游标创建时间
+     * @param id         游标文章ID
+     * @param pageable   分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from Post p where (p.createTime, p.id) < (:createTime, :id) "
+            + "order by p.createTime desc, p.id desc")
+    List<PostCard> findBefore(LocalDateTime createTime, Long id, Pageable pageable);
+
+    /**
+     * 查询最新文章的 (createTime, id) 键，只读复合索引，用于流式首页预先确定分页边界
+     *
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的键
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + KEY + " from Post p order by p.createTime desc, p.id desc")
+    List<PostCursor> findLatestKeys(Pageable pageable);
+
+    /**
+     * 查询游标之前（更早）文章的 (createTime, id) 键
+     *
+     * @param createTime 游标创建时间
+     * @param id         游标文章ID
+     * @param pageable   分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的键
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + KEY + " from Post p where (p.createTime, p.id) < (:createTime, :id) "
+            + "order by p.createTime desc, p.id desc")
+    List<PostCursor> findKeysBefore(LocalDateTime createTime, Long id, Pageable pageable);
+
+    /**
+     * 查询游标之后（更新）的文章卡片，用于“上一页”
+     *
+     * @param createTime 游标创建时间
+     * @param id         游标文章ID
+     * @param pageable   分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 正序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from Post p where (p.createTime, p.id) > (:createTime, :id) "
+            + "order by p.createTime asc, p.id asc")
+    List<PostCard> findAfter(LocalDateTime createTime, Long id, Pageable pageable);
+
+    /**
+     * 查询带某标签的最新文章卡片，排序与游标比较均由 post_tags 的 (tag_id, create_time, post_id) 复合索引完成
+     *
+     * @param tagId    标签ID
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from PostTag t join Post p on p.id = t.postId where t.tagId = :tagId "
+            + "order by t.createTime desc, t.postId desc")
+    List<PostCard> findLatestByTag(Long tagId, Pageable pageable);
+
+    /**
+     * 查询带某标签、游标之前（更早）的文章卡片
+     *
+     * @param tagId      标签ID
+     * @param createTime 游标创建时间
+     * @param id         游标文章ID
+     * @param pageable   分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from PostTag t join Post p on p.id = t.postId where t.tagId = :tagId "
+            + "and (t.createTime, t.postId) < (:createTime, :id) order by t.createTime desc, t.postId desc")
+    List<PostCard> findByTagBefore(Long tagId, LocalDateTime createTime, Long id, Pageable pageable);
+
+    /**
+     * 查询时间区间内最新的文章卡片（月度归档第一页），走 (create_time, id) 复合索引的区间扫描
+     *
+     * @param from     区间起点（含）
+     * @param to       区间终点（不含）
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from Post p where p.createTime >= :from and p.createTime < :to "
+            + "order by p.createTime desc, p.id desc")
+    List<PostCard> findLatestInRange(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * 查询时间区间内、游标之前（更早）的文章卡片
+     *
+     * @param from       区间起点（含）
+     * @param createTime 游标创建时间
+     * @param id         游标文章ID
+     * @param pageable   分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select " + CARD + " from Post p where p.createTime >= :from "
+            + "and (p.createTime, p.id) < (:createTime, :id) order by p.createTime desc, p.id desc")
+    List<PostCard> findInRangeBefore(LocalDateTime from, LocalDateTime createTime, Long id, Pageable pageable);
+
+    /**
+     * 查询文章的最后修改时间，用于文章页的条件请求校验
+     *
+     * @param id 文章ID
+     * @return 最后修改时间，文章不存在时为空
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select p.updateTime from Post p where p.id = :id")
+    Optional<LocalDateTime> findUpdateTimeById(Long id);
+
+    /**
+     * 按短链接标识查询文章ID
+     *
+     * @param slug 短链接标识
+     * @return 文章ID
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select p.id from Post p where p.slug = :slug")
+    Optional<Long> findIdBySlug(String slug);
+
+    /**
+     * 判断短链接标识是否已被占用
+     *
+     * @param slug 短链接标识
+     * @return 是否已存在
+     */
+    boolean existsBySlug(String slug);
+
+    /**
+     * 查询一组短链接标识中已被占用的部分
+     *
+     * @param slugs 候选标识
+     * @return 已存在的标识
+     */
+    @Query("select p.slug from Post p where p.slug in :slugs")
+    List<String> findExistingSlugs(Collection<String> slugs);
+
+    /**
+     * 按 id 顺序查询渲染结果（全文或节选）缺失、渲染器版本过期或缺少短链接标识的文章
+     * （分批扫描不读写二级缓存，避免挤出热点文章）
+     *
+     * @param afterId  上一批最后一篇文章的 id
+     * @param version  当前渲染器版本
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 需要重新渲染的文章
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("select p from Post p where p.id > :afterId and (p.renderVersion is null "
+            + "or p.renderVersion <> :version or p.contentHash is null or p.renderedContent is null "
+            + "or p.excerptHtml is null or p.slug is null) "
+            + "order by p.id")
+    List<Post> findStaleRendered(Long afterId, int version, Pageable pageable);
+
+    /**
+     * 查询最新的完整文章，用于生成订阅源
+     *
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 按 (createTime, id) 倒序排列的文章
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query("select p from Post p order by p.createTime desc, p.id desc")
+    List<Post> findRecent(Pageable pageable);
+
+    /**
+     * 按 id 顺序分批查询文章
+     * （全表扫描不读写二级缓存，避免挤出热点文章）
+     *
+     * @param afterId  上一批最后一篇文章的 id
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 文章列表
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("select p from Post p where p.id > :afterId order by p.id")
+    List<Post> findBatchAfter(Long afterId, Pageable pageable);
+
+    /**
+     * 按 id 顺序分批查询导出记录，不选取渲染结果
+     *
+     * @param afterId  上一批最后一篇文章的 id
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 导出记录
+     */
+    @Query("select new com.example.blogsystem.dto.PostRecord(p.id, p.title, p.author, p.createTime, p.slug, p.content) "
+            + "from Post p where p.id > :afterId order by p.id")
+    List<PostRecord> findRecordsAfter(Long afterId, Pageable pageable);
+
+    /**
+     * 分页查询文章摘要（不加载正文）
+     *
+     * @param pageable 分页与排序参数
+     * @return 文章摘要分页
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query(value = "select p.id as id, p.title as title, p.author as author, "
+            + "p.createTime as createTime, length(p.content) as contentLength from Post p",
+            countQuery = "select count(p) from Post p")
+    Page<PostSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 按标题关键字分页查询文章摘要（不区分大小写，不加载正文）
+     *
+     * <p>关键字中的 {@code %}、{@code _} 按字面匹配，不作为通配符。</p>
+     *
+     * @param keyword  标题关键字
+     * @param pageable 分页与排序参数
+     * @return 文章摘要分页
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_REGION)})
+    @Query(value = "select p.id as id, p.title as title, p.author as author, "
+            + "p.createTime as createTime, length(p.content) as contentLength from Post p "
+            + "where lower(p.title) like lower(concat('%', :#{escape(#keyword)}, '%')) escape :#{escapeCharacter()}",
+            countQuery = "select count(p) from Post p "
+                    + "where lower(p.title) like lower(concat('%', :#{escape(#keyword)}, '%')) escape :#{escapeCharacter()}")
+    Page<PostSummary> findSummariesByTitle(String keyword, Pageable pageable);
 }
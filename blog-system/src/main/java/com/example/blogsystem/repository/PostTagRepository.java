@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.repository;
+
+import com.example.blogsystem.entity.PostTag;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 文章标签关联数据访问仓储接口
+ *
+ * @author Weijue
+ */
+public interface PostTagRepository extends JpaRepository<PostTag, PostTag.Key> {
+
+    /**
+     * 查询文章当前的标签ID
+     *
+     * @param postId 文章ID
+     * @return 标签ID
+     */
+    @Query("select pt.tagId from PostTag pt where pt.postId = :postId")
+    List<Long> findTagIds(Long postId);
+
+    /**
+     * 删除文章的部分标签关联
+     *
+     * @param postId 文章ID
+     * @param tagIds 要移除的标签ID
+     * @return 删除的行数
+     */
+    @Modifying
+    @Query("delete from PostTag pt where pt.postId = :postId and pt.tagId in :tagIds")
+    int deleteTags(Long postId, Collection<Long> tagIds);
+}
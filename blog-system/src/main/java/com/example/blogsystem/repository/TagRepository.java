@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.repository;
+
+import com.example.blogsystem.dto.PostTagName;
+import com.example.blogsystem.dto.TagCount;
+import com.example.blogsystem.entity.Tag;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 标签数据访问仓储接口
+ *
+ * @author Weijue
+ */
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    /**
+     * 标签及文章数的构造表达式
+     */
+    String TAG_COUNT = "new com.example.blogsystem.dto.TagCount(t.id, t.name, t.slug, t.postCount)";
+
+    /**
+     * 按链接标识查询标签
+     *
+     * @param slug 链接标识
+     * @return 标签及文章数
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PostRepository.LISTING_REGION)})
+    @Query("select " + TAG_COUNT + " from Tag t where t.slug = :slug")
+    Optional<TagCount> findCountBySlug(String slug);
+
+    /**
+     * 按链接标识批量查询标签，用于写入时复用已有标签
+     *
+     * @param slugs 链接标识
+     * @return 已存在的标签
+     */
+    List<Tag> findBySlugIn(Collection<String> slugs);
+
+    /**
+     * 查询标签云：有文章的标签按文章数倒序，直接读取维护好的计数，不做聚合
+     *
+     * @param pageable 分页参数，仅使用其中的 limit
+     * @return 标签及文章数
+     */
+    @Query("select " + TAG_COUNT + " from Tag t where t.postCount > 0 order by t.postCount desc, t.name")
+    List<TagCount> findCloud(Pageable pageable);
+
+    /**
+     * 查询文章的标签
+     *
+     * @param postId 文章ID
+     * @return 按名称排列的标签
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PostRepository.LISTING_REGION)})
+    @Query("select " + TAG_COUNT + " from PostTag pt join Tag t on t.id = pt.tagId "
+            + "where pt.postId = :postId order by t.name")
+    List<TagCount> findByPostId(Long postId);
+
+    /**
+     * 增量调整标签的文章数
+     *
+     * @param ids   标签ID
+     * @param delta 增量，可为负数
+     * @return 更新的行数
+     */
+    @Modifying
+    @Query("update Tag t set t.postCount = t.postCount + :delta where t.id in :ids")
+    int adjustPostCounts(Collection<Long> ids, int delta);
+
+    /**
+     * 批量查询一批文章的标签名，用于导出
+     *
+     * @param postIds 文章ID
+     * @return 文章ID与标签名，按文章ID、标签名排列
+     */
+    @Query("select pt.postId as postId, t.name as name from PostTag pt join Tag t on t.id = pt.tagId "
+            + "where pt.postId in :postIds order by pt.postId, t.name")
+    List<PostTagName> findNamesByPostIds(Collection<Long> postIds);
+}
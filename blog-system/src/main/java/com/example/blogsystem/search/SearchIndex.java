@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 内存倒排索引，使用 BM25 排序
+ *
+ * <p>每篇文章分配一个递增的整数序号，倒排表以 {@code int[]} 存储序号与词频，序号单调递增，
+ * 因此新增文章只需追加。删除与更新采用墓碑标记，墓碑过多时整体压缩，无需从数据库重建。</p>
+ *
+ * <p>线程安全：检索持有读锁，写入持有写锁。</p>
+ *
+ * @author Weijue
+ */
+public class SearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * 标题词项的词频权重
+     */
+    private static final int TITLE_BOOST = 3;
+
+    /**
+     * 触发压缩的最少墓碑数
+     */
+    private static final int MIN_COMPACT_DELETED = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private SearchResult[] docs = new SearchResult[256];
+    private int[] docLengths = new int[256];
+    private BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * 索引或重新索引一篇文章
+     *
+     * @param id         文章ID
+     * @param title      文章标题
+     * @param author     作者
+     * @param createTime 创建时间
+     * @param content    文章正文
+     */
+    public void index(Long id, String title, String author, LocalDateTime createTime, String content) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = countTerms(SearchTokenizer.tokenize(title), TITLE_BOOST, frequencies)
+                + countTerms(SearchTokenizer.tokenize(content), 1, frequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int ordinal = docCount++;
+            if (ordinal == docs.length) {
+                docs = Arrays.copyOf(docs, ordinal * 2);
+                docLengths = Arrays.copyOf(docLengths, ordinal * 2);
+            }
+            docs[ordinal] = new SearchResult(id, title, author, createTime, 0f);
+            docLengths[ordinal] = length;
+            totalLength += length;
+            ordinals.put(id, ordinal);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(ordinal, frequency[0]));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 从索引中移除文章
+     *
+     * @param id 文章ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 检索文章
+     *
+     * @param query 查询文本
+     * @param limit 最多返回的结果数
+     * @return 按相关度倒序排列的结果
+     */
+    public List<SearchResult> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocs = docCount - deletedCount;
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = Math.max(1f, (float) totalLength / liveDocs);
+            float[] scores = new float[docCount];
+            int[] touched = new int[16];
+            int touchedCount = 0;
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // 倒排表中可能残留尚未压缩的墓碑，文档频率不超过存活文档数
+                int df = Math.min(list.size, liveDocs);
+                float idf = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    int tf = list.freqs[i];
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    if (scores[doc] == 0f) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            // 基于得分的定长小顶堆选出前 limit 名，避免对全部命中文档排序与装箱；
+            // 得分相同时序号小（先索引）的文章排在前面，结果与命中顺序无关
+            int[] heap = new int[Math.min(limit, touchedCount)];
+            int heapSize = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (heapSize < heap.length) {
+                    heap[heapSize] = doc;
+                    siftUp(heap, heapSize++, scores);
+                } else if (ranksBelow(heap[0], doc, scores)) {
+                    heap[0] = doc;
+                    siftDown(heap, heapSize, scores);
+                }
+            }
+            SearchResult[] results = new SearchResult[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                int doc = heap[0];
+                results[i] = docs[doc].withScore(scores[doc]);
+                heap[0] = heap[i];
+                siftDown(heap, i, scores);
+            }
+            return List.of(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 获取索引中的文章数
+     *
+     * @return 文章数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 统计词频
+     *
+     * @param tokens      词项
+     * @param weight      每次出现计入的词频
+     * @param frequencies 词项到词频的映射
+     * @return 计入文档长度的词项数
+     */
+    private static int countTerms(List<String> tokens, int weight, Map<String, int[]> frequencies) {
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, key -> new int[1])[0] += weight;
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * 判断文档 a 的排名是否低于文档 b：得分更低，或得分相同而序号更大
+     *
+     * @param a      文档序号
+     * @param b      文档序号
+     * @param scores 文档得分
+     * @return a 排在 b 之后时返回 {@code true}
+     */
+    private static boolean ranksBelow(int a, int b, float[] scores) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    /**
+     * 小顶堆上浮
+     *
+     * @param heap   堆
+     * @param index  上浮的位置
+     * @param scores 文档得分
+     */
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        int doc = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBelow(doc, heap[parent], scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = doc;
+    }
+
+    /**
+     * 小顶堆从堆顶下沉
+     *
+     * @param heap   堆
+     * @param size   堆大小
+     * @param scores 文档得分
+     */
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        if (size == 0) {
+            return;
+        }
+        int doc = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && ranksBelow(heap[right], heap[child], scores)) {
+                child = right;
+            }
+            if (!ranksBelow(heap[child], doc, scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = doc;
+    }
+
+    /**
+     * 以墓碑方式删除文章，调用方需持有写锁
+     *
+     * @param id 文章ID
+     */
+    private void removeInternal(Long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal != null) {
+            deleted.set(ordinal);
+            deletedCount++;
+            totalLength -= docLengths[ordinal];
+            docs[ordinal] = null;
+        }
+    }
+
+    /**
+     * 墓碑超过存量的四分之一时压缩倒排表并重新分配序号，调用方需持有写锁
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < MIN_COMPACT_DELETED || deletedCount * 4 < docCount) {
+            return;
+        }
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = next;
+                docs[next] = docs[doc];
+                docLengths[next] = docLengths[doc];
+                ordinals.put(docs[next].getId(), next);
+                next++;
+            }
+        }
+        Arrays.fill(docs, next, docCount, null);
+        postings.values().removeIf(list -> list.compact(remap) == 0);
+        docCount = next;
+        deletedCount = 0;
+        deleted = new BitSet();
+    }
+
+    /**
+     * 单个词项的倒排表，文档序号升序排列
+     */
+    private static final class PostingList {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        /**
+         * 追加文档
+         *
+         * @param doc  文档序号
+         * @param freq 词频
+         */
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        /**
+         * 按序号映射移除已删除文档并重写序号
+         *
+         * @param remap 旧序号到新序号的映射，-1 表示已删除
+         * @return 压缩后的文档数
+         */
+        int compact(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int mapped = remap[docs[i]];
+                if (mapped >= 0) {
+                    docs[next] = mapped;
+                    freqs[next] = freqs[i];
+                    next++;
+                }
+            }
+            size = next;
+            if (size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(4, size));
+                freqs = Arrays.copyOf(freqs, Math.max(4, size));
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 检索结果，携带展示所需的文章元数据，无需回表查询
+ *
+ * @author Weijue
+ */
+public final class SearchResult {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createTime;
+    private final float score;
+
+    /**
+     * 构造函数
+     *
+     * @param id         文章ID
+     * @param title      文章标题
+     * @param author     作者
+     * @param createTime 创建时间
+     * @param score      BM25 相关度得分
+     */
+    public SearchResult(Long id, String title, String author, LocalDateTime createTime, float score) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createTime = createTime;
+        this.score = score;
+    }
+
+    /**
+     * 以新的得分复制检索结果
+     *
+     * @param newScore 相关度得分
+     * @return 新的检索结果
+     */
+    SearchResult withScore(float newScore) {
+        return new SearchResult(id, title, author, createTime, newScore);
+    }
+
+    /**
+     * 获取文章ID
+     *
+     * @return 文章ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 获取文章标题
+     *
+     * @return 文章标题
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * 获取作者
+     *
+     * @return 作者名称
+     */
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * 获取创建时间
+     *
+     * @return 创建时间
+     */
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    /**
+     * 获取相关度得分
+     *
+     * @return BM25 得分
+     */
+    public float getScore() {
+        return score;
+    }
+}
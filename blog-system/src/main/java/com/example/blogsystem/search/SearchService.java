@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.search;
+
+import com.example.blogsystem.config.SearchProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.repository.PostRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 全文检索服务，启动时从数据库构建内存索引，并随文章变更增量更新
+ *
+ * <p>重建期间仍有增量更新作用于旧索引；这些文章ID被记录下来，扫描结束后按数据库中的最新状态重放到新索引，
+ * 确认没有未重放的变更后才替换，避免扫描已经越过的文章丢失更新。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private final PostRepository postRepository;
+    private final SearchProperties searchProperties;
+    private volatile SearchIndex index = new SearchIndex();
+
+    /**
+     * 保护 {@link #changedDuringRebuild} 与索引替换
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 重建期间发生变更的文章ID，未在重建时为 {@code null}
+     */
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository   文章仓储
+     * @param searchProperties 检索配置
+     */
+    public SearchService(PostRepository postRepository, SearchProperties searchProperties) {
+        this.postRepository = postRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    /**
+     * 检索文章
+     *
+     * @param query 查询文本
+     * @return 按相关度倒序排列的结果
+     */
+    public List<SearchResult> search(String query) {
+        return index.search(query, searchProperties.maxResults());
+    }
+
+    /**
+     * 应用启动完成后构建索引
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (searchProperties.enabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 分批加载全部文章重建索引，重放期间的增量变更后整体替换，期间检索仍使用旧索引
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        SearchIndex fresh = new SearchIndex();
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        PageRequest limit = PageRequest.of(0, searchProperties.batchSize());
+        long lastId = 0L;
+        List<Post> batch;
+        while (!(batch = postRepository.findBatchAfter(lastId, limit)).isEmpty()) {
+            batch.forEach(post -> indexPost(fresh, post));
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        while (true) {
+            Set<Long> changed;
+            synchronized (rebuildLock) {
+                changed = changedDuringRebuild;
+                if (changed.isEmpty()) {
+                    changedDuringRebuild = null;
+                    index = fresh;
+                    break;
+                }
+                changedDuringRebuild = new HashSet<>();
+            }
+            changed.forEach(id -> reindex(fresh, id));
+        }
+        log.info("全文索引构建完成：{} 篇文章，耗时 {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 文章变更提交后增量更新索引；批量变更时重建
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!searchProperties.enabled()) {
+            return;
+        }
+        if (event.type() == PostChangedEvent.ChangeType.BULK) {
+            rebuild();
+            return;
+        }
+        SearchIndex target;
+        synchronized (rebuildLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.postId());
+            }
+            target = index;
+        }
+        if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+            target.remove(event.postId());
+        } else {
+            reindex(target, event.postId());
+        }
+    }
+
+    /**
+     * 按数据库中的最新状态更新指定索引中的一篇文章，文章已不存在时移除
+     *
+     * @param target 目标索引
+     * @param id     文章ID
+     */
+    private void reindex(SearchIndex target, Long id) {
+        postRepository.findById(id).ifPresentOrElse(
+                post -> indexPost(target, post),
+                () -> target.remove(id));
+    }
+
+    /**
+     * 将文章写入指定索引
+     *
+     * @param target 目标索引
+     * @param post   文章
+     */
+    private static void indexPost(SearchIndex target, Post post) {
+        target.index(post.getId(), post.getTitle(), post.getAuthor(), post.getCreateTime(), post.getContent());
+    }
+}
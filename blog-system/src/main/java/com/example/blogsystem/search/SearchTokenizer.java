@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 全文检索分词器
+ *
+ * <p>拉丁字母与数字按连续片段切分为小写单词；中日韩文字按相邻字符二元组（bigram）切分，
+ * 单个汉字构成的片段保留为一元词。其余字符均视为分隔符。</p>
+ *
+ * @author Weijue
+ */
+public final class SearchTokenizer {
+
+    /**
+     * 工具类，禁止实例化
+     */
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 对文本分词
+     *
+     * @param text 文本
+     * @return 词项列表，按出现顺序排列，可能包含重复词项
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        StringBuilder word = new StringBuilder();
+        int previousCjk = -1;
+        int offset = 0;
+        while (offset < text.length()) {
+            int codePoint = text.codePointAt(offset);
+            offset += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                if (previousCjk >= 0) {
+                    tokens.add(new StringBuilder(4).appendCodePoint(previousCjk).appendCodePoint(codePoint).toString());
+                } else if (!nextIsCjk(text, offset)) {
+                    // 孤立的单个汉字
+                    tokens.add(new String(Character.toChars(codePoint)));
+                }
+                previousCjk = codePoint;
+            } else {
+                previousCjk = -1;
+                if (Character.isLetterOrDigit(codePoint)) {
+                    word.appendCodePoint(Character.toLowerCase(codePoint));
+                } else {
+                    flushWord(word, tokens);
+                }
+            }
+        }
+        flushWord(word, tokens);
+        return tokens;
+    }
+
+    /**
+     * 判断指定位置的字符是否为中日韩文字
+     *
+     * @param text   文本
+     * @param offset 字符偏移
+     * @return 是否为中日韩文字
+     */
+    private static boolean nextIsCjk(String text, int offset) {
+        return offset < text.length() && isCjk(text.codePointAt(offset));
+    }
+
+    /**
+     * 将累积的单词写入词项列表并清空缓冲
+     *
+     * @param word   单词缓冲
+     * @param tokens 词项列表
+     */
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    /**
+     * 判断码点是否属于中日韩文字
+     *
+     * @param codePoint 码点
+     * @return 是否为中日韩文字
+     */
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.seed;
+
+import com.example.blogsystem.config.SeedProperties;
+import com.example.blogsystem.dto.PostRecord;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.transfer.ImportResult;
+import com.example.blogsystem.transfer.PostImportService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.LongStream;
+
+/**
+ * 合成数据生成器，把文章总数补足到 {@code app.blog.seed.posts}
+ *
+ * <p>文章经批量导入路径写入（并行渲染、序列预取主键、JDBC 批量插入），与真实迁移的写入方式一致。
+ * 已有文章不会被修改；重复启动时只生成缺少的部分。</p>
+ *
+ * @author Weijue
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+
+    private final PostRepository postRepository;
+    private final PostImportService postImportService;
+    private final SeedProperties seedProperties;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository    文章仓储
+     * @param postImportService 批量导入服务
+     * @param seedProperties    合成数据配置
+     */
+    public DataSeeder(PostRepository postRepository, PostImportService postImportService,
+                      SeedProperties seedProperties) {
+        this.postRepository = postRepository;
+        this.postImportService = postImportService;
+        this.seedProperties = seedProperties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seedProperties.posts() > 0) {
+            seed(seedProperties.posts());
+        }
+    }
+
+    /**
+     * 生成合成文章，使文章总数达到目标数量
+     *
+     * @param target 目标文章总数
+     * @return 新生成的文章数
+     */
+    public int seed(long target) {
+        long existing = postRepository.count();
+        if (existing >= target) {
+            return 0;
+        }
+        log.info("开始生成合成数据：已有 {} 篇，目标 {} 篇", existing, target);
+        SyntheticPostGenerator generator = new SyntheticPostGenerator(
+                seedProperties.randomSeed(), LocalDateTime.now(), seedProperties.years(), target);
+        Iterator<PostRecord> records = LongStream.range(existing, target).mapToObj(generator::generate).iterator();
+        ImportResult result = postImportService.importRecords(records, "Weijue");
+        log.info("合成数据生成完成：{} 篇，{} 篇/秒", result.imported(),
+                result.imported() * 1000L / Math.max(result.elapsedMillis(), 1));
+        return result.imported();
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.seed;
+
+import com.example.blogsystem.dto.PostRecord;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * 合成文章生成器
+ *
+ * <p>正文长度服从对数正态分布（中位数约 2000 字符，另有 1% 的 50–200 KB 长文）；约六成中文、两成半英文、
+ * 其余中英混排；约四分之一含代码块，约 15% 含 GFM 表格。创建时间按序号在时间窗口内递增并带随机抖动。
+ * 第 i 篇文章只由随机种子与 i 决定，中断后续跑或增加数量都能得到相同的数据。</p>
+ *
+ * @author Weijue
+ */
+public class SyntheticPostGenerator {
+
+    private static final String[] ZH_WORDS = {
+        "缓存", "索引", "渲染", "模板", "事务", "线程池", "连接池", "序列化", "分页", "检索",
+        "设计之美", "少即是多", "留白", "呼吸感", "创造者", "终身学习", "边缘计算", "可观测性", "吞吐量", "延迟",
+        "我们", "需要", "通过", "因此", "但是", "同时", "在实践中", "一般来说", "值得注意的是", "换句话说",
+        "数据库", "微服务", "消息队列", "容器", "集群", "部署", "回滚", "压测", "瓶颈", "优化",
+        "读书", "旅行", "咖啡", "清晨", "城市", "记忆", "季节", "写作", "思考", "生活"
+    };
+
+    private static final String[] EN_WORDS = {
+        "Spring", "Boot", "cache", "index", "render", "template", "transaction", "thread", "pool", "latency",
+        "throughput", "query", "page", "request", "response", "server", "client", "stream", "batch", "commit",
+        "the", "a", "of", "and", "to", "in", "is", "that", "with", "for",
+        "we", "should", "measure", "before", "optimizing", "every", "hot", "path", "under", "load",
+        "design", "simple", "future", "learn", "build", "ship", "read", "write", "think", "again"
+    };
+
+    private static final String[] TOPICS = {
+        "Spring Boot 实战笔记", "设计之美", "关于未来", "Performance Notes", "读书笔记", "JVM 调优",
+        "Weekly Digest", "数据库索引那些事", "Thymeleaf Tips", "旅行随笔", "Caching in Practice", "架构漫谈"
+    };
+
+    private static final String[] AUTHORS = {"Weijue", "Weijue", "Weijue", "admin", "Guest"};
+
+    private static final String[] CODE_LINES = {
+        "    @GetMapping(\"/\")",
+        "    public String index(Model model) {",
+        "        List<PostCard> posts = postRepository.findLatest(PageRequest.of(0, pageSize));",
+        "        model.addAttribute(\"posts\", posts);",
+        "        return \"index\";",
+        "    }",
+        "    SELECT id, title FROM posts WHERE create_time < ? ORDER BY create_time DESC LIMIT 10;",
+        "    cache.get(key, k -> markdownUtil.render(content));"
+    };
+
+    private static final double MEDIAN_CHARS = 2000;
+    private static final double SIGMA = 0.9;
+    private static final int MIN_CHARS = 200;
+    private static final int MAX_CHARS = 200 * 1024;
+
+    private final long seed;
+    private final LocalDateTime start;
+    private final long spanSeconds;
+    private final long total;
+
+    /**
+     * 构造函数
+     *
+     * @param seed  随机种子
+     * @param end   时间窗口的结束时间
+     * @param years 时间窗口的年数
+     * @param total 计划生成的文章总数，用于把创建时间均匀分布到窗口内
+     */
+    public SyntheticPostGenerator(long seed, LocalDateTime end, int years, long total) {
+        this.seed = seed;
+        this.start = end.minusYears(years);
+        this.spanSeconds = ChronoUnit.SECONDS.between(start, end);
+        this.total = Math.max(total, 1);
+    }
+
+    /**
+     * 生成第 index 篇文章
+     *
+     * @param index 序号，从 0 开始
+     * @return 文章记录（id 与短链接标识为空）
+     */
+    public PostRecord generate(long index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        int language = random.nextInt(100);
+        boolean english = language >= 60 && language < 85;
+        boolean mixed = language >= 85;
+        boolean tables = random.nextInt(100) < 15;
+        boolean code = random.nextInt(100) < 25;
+        int targetChars = targetLength(random);
+
+        StringBuilder markdown = new StringBuilder(targetChars + 1024);
+        while (markdown.length() < targetChars) {
+            int block = random.nextInt(100);
+            if (tables && block < 8) {
+                appendTable(markdown, random, english);
+            } else if (code && block < 20) {
+                appendCode(markdown, random);
+            } else if (block < 30) {
+                markdown.append("## ").append(sentence(random, english, mixed, 3, 6)).append("\n\n");
+            } else if (block < 40) {
+                for (int i = random.nextInt(2, 6); i > 0; i--) {
+                    markdown.append("- ").append(sentence(random, english, mixed, 4, 10)).append('\n');
+                }
+                markdown.append('\n');
+            } else {
+                for (int i = random.nextInt(2, 6); i > 0; i--) {
+                    markdown.append(sentence(random, english, mixed, 6, 18));
+                }
+                markdown.append("\n\n");
+            }
+        }
+
+        String title = TOPICS[random.nextInt(TOPICS.length)] + " " + (index + 1);
+        long offset = spanSeconds * Math.min(index, total - 1) / total + random.nextLong(Math.max(spanSeconds / total, 1));
+        return new PostRecord(null, title, AUTHORS[random.nextInt(AUTHORS.length)], start.plusSeconds(offset), null,
+                markdown.toString());
+    }
+
+    /**
+     * 抽取正文目标长度
+     *
+     * @param random 随机数生成器
+     * @return 字符数
+     */
+    private static int targetLength(SplittableRandom random) {
+        if (random.nextInt(100) == 0) {
+            return random.nextInt(50 * 1024, MAX_CHARS);
+        }
+        double length = Math.exp(Math.log(MEDIAN_CHARS) + SIGMA * random.nextGaussian());
+        return (int) Math.max(MIN_CHARS, Math.min(MAX_CHARS, length));
+    }
+
+    /**
+     * 生成一句话，偶尔带加粗、行内代码或链接
+     *
+     * @param random   随机数生成器
+     * @param english  是否英文
+     * @param mixed    是否中英混排
+     * @param minWords 最少词数
+     * @param maxWords 最多词数
+     * @return 句子
+     */
+    private static String sentence(SplittableRandom random, boolean english, boolean mixed, int minWords, int maxWords) {
+        StringBuilder sentence = new StringBuilder();
+        int words = random.nextInt(minWords, maxWords + 1);
+        for (int i = 0; i < words; i++) {
+            boolean englishWord = english || (mixed && random.nextInt(3) == 0);
+            String word = englishWord ? EN_WORDS[random.nextInt(EN_WORDS.length)] : ZH_WORDS[random.nextInt(ZH_WORDS.length)];
+            if (english && i == 0) {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            }
+            if (i > 0 && (english || englishWord)) {
+                sentence.append(' ');
+            }
+            switch (random.nextInt(40)) {
+                case 0 -> sentence.append("**").append(word).append("**");
+                case 1 -> sentence.append('`').append(word).append('`');
+                case 2 -> sentence.append('[').append(word).append("](https://example.com/").append(word).append(')');
+                default -> sentence.append(word);
+            }
+        }
+        return sentence.append(english ? ". " : "。").toString();
+    }
+
+    /**
+     * 追加一张 GFM 表格
+     *
+     * @param markdown 输出缓冲
+     * @param random   随机数生成器
+     * @param english  是否英文表头
+     */
+    private static void appendTable(StringBuilder markdown, SplittableRandom random, boolean english) {
+        markdown.append(english ? "| Case | Throughput | p50 | p99 | Note |\n" : "| 场景 | 吞吐量 | p50 | p99 | 备注 |\n")
+                .append("|---|---:|---:|---:|---|\n");
+        for (int row = random.nextInt(3, 21); row > 0; row--) {
+            markdown.append("| case-").append(row)
+                    .append(" | ").append(random.nextInt(1000, 50000))
+                    .append(" | ").append(random.nextInt(1, 20)).append("ms")
+                    .append(" | ").append(random.nextInt(20, 200)).append("ms")
+                    .append(" | ").append(english ? EN_WORDS[random.nextInt(EN_WORDS.length)]
+                            : ZH_WORDS[random.nextInt(ZH_WORDS.length)])
+                    .append(" |\n");
+        }
+        markdown.append('\n');
+    }
+
+    /**
+     * 追加一个代码块
+     *
+     * @param markdown 输出缓冲
+     * @param random   随机数生成器
+     */
+    private static void appendCode(StringBuilder markdown, SplittableRandom random) {
+        markdown.append("```java\n");
+        for (int line = random.nextInt(4, 40); line > 0; line--) {
+            markdown.append(CODE_LINES[random.nextInt(CODE_LINES.length)]).append('\n');
+        }
+        markdown.append("```\n\n");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.BlogProperties;
+import com.example.blogsystem.dto.ContentVersion;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 内容版本服务，为公开页面生成条件请求（ETag / Last-Modified）校验值
+ *
+ * <p>校验值由最新修改时间与文章总数组成（删除文章会使总数变化），并混入渲染器版本与页面模板版本
+ * （{@code app.blog.site-version}），使渲染逻辑或模板随部署变化后客户端缓存自动失效。
+ * Last-Modified 取内容修改时间与页面模板版本生效时间（{@code app.blog.site-version-time}）中较晚的一个，
+ * 只发送 If-Modified-Since 的客户端与代理在部署后同样拿到新页面。
+ * 这些值在所有节点上相同，负载均衡在节点间切换时条件请求仍能命中。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class ContentVersionService {
+
+    private final PostRepository postRepository;
+    private final String deploymentTag;
+    private final long deploymentMillis;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository 文章仓储
+     * @param blogProperties 博客配置
+     */
+    public ContentVersionService(PostRepository postRepository, BlogProperties blogProperties) {
+        this.postRepository = postRepository;
+        this.deploymentTag = "r" + MarkdownUtil.RENDERER_VERSION + "." + blogProperties.siteVersion();
+        this.deploymentMillis = blogProperties.siteVersionTime() == null
+                ? 0L : blogProperties.siteVersionTime().toInstant().toEpochMilli();
+    }
+
+    /**
+     * 计算当前内容的校验值，仅执行一次聚合查询，不加载文章内容
+     *
+     * @return 校验值
+     */
+    public Validator currentValidator() {
+        ContentVersion version = postRepository.findContentVersion();
+        long contentMillis = toMillis(version.getLastModified());
+        String etag = "W/\"" + deploymentTag + "-" + version.getPostCount()
+                + "-" + Long.toString(contentMillis, 36) + "\"";
+        return new Validator(etag, Math.max(contentMillis, deploymentMillis));
+    }
+
+    /**
+     * 计算单篇文章的校验值
+     *
+     * @param id         文章ID
+     * @param updateTime 文章最后修改时间
+     * @return 校验值
+     */
+    public Validator validatorFor(Long id, LocalDateTime updateTime) {
+        long contentMillis = toMillis(updateTime);
+        String etag = "W/\"" + deploymentTag + "-p" + id
+                + "-" + Long.toString(contentMillis, 36) + "\"";
+        return new Validator(etag, Math.max(contentMillis, deploymentMillis));
+    }
+
+    /**
+     * 将本地时间换算为毫秒时间戳
+     *
+     * @param time 本地时间
+     * @return 毫秒时间戳，时间为空时返回 0
+     */
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 条件请求校验值
+     *
+     * @param etag         弱 ETag
+     * @param lastModified 最后修改时间（毫秒时间戳）
+     */
+    public record Validator(String etag, long lastModified) {
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 二级缓存统计服务，汇总实体缓存与查询缓存各区域的命中情况
+ *
+ * <p>同样的计数以 {@code hibernate.second.level.cache.requests}、{@code hibernate.cache.query.requests}
+ * 等指标暴露给 Prometheus，此处便于在管理端直接查看命中率。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class EntityCacheStatistics {
+
+    private final Statistics statistics;
+
+    /**
+     * 构造函数
+     *
+     * @param entityManagerFactory 实体管理器工厂
+     */
+    public EntityCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 获取二级缓存统计信息
+     *
+     * @return 是否启用统计、各区域与查询缓存整体的命中、未命中与写入次数
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        if (!statistics.isStatisticsEnabled()) {
+            return result;
+        }
+        result.put(Post.CACHE_REGION, region(statistics.getDomainDataRegionStatistics(Post.CACHE_REGION)));
+        result.put(PostRepository.LISTING_REGION,
+                region(statistics.getQueryRegionStatistics(PostRepository.LISTING_REGION)));
+        result.put("queryCache", counts(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()));
+        result.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        return result;
+    }
+
+    /**
+     * 单个区域的统计
+     *
+     * @param region 区域统计，区域尚未使用时为 {@code null}
+     * @return 命中、未命中、写入次数与命中率
+     */
+    private static Map<String, Object> region(CacheRegionStatistics region) {
+        return region == null
+                ? counts(0L, 0L, 0L)
+                : counts(region.getHitCount(), region.getMissCount(), region.getPutCount());
+    }
+
+    /**
+     * 组装计数与命中率
+     *
+     * @param hits   命中次数
+     * @param misses 未命中次数
+     * @param puts   写入次数
+     * @return 统计
+     */
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hitCount", hits);
+        result.put("missCount", misses);
+        result.put("putCount", puts);
+        result.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return result;
+    }
+}
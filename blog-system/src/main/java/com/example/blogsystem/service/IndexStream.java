@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.dto.PostCard;
+import com.example.blogsystem.util.PostCursor;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * 流式首页：分页边界预先确定，文章卡片在模板迭代时按块查询
+ *
+ * <p>模板遍历到文章列表时才按游标逐块查询卡片（每块一个只读事务），查询每一块之前先把已生成的输出
+ * 推送给客户端：页面头部在第一次查询之前即可发出，每个请求同时持有的卡片不超过一块。
+ * 文章数在准备时已确定；每次遍历都会重新查询。</p>
+ *
+ * @author Weijue
+ */
+public final class IndexStream extends AbstractCollection<PostCard> {
+
+    private final PostCursor start;
+    private final int total;
+    private final int chunkSize;
+    private final BiFunction<PostCursor, Integer, List<PostCard>> loader;
+    private final Runnable flusher;
+    private final String newerCursor;
+    private final String olderCursor;
+
+    /**
+     * 构造函数
+     *
+     * @param start       起始游标，从该游标之前开始；为 null 时从最新文章开始
+     * @param total       本页文章数
+     * @param chunkSize   每块查询的文章数
+     * @param loader      按游标与条数查询一块卡片（含缺失节选的补齐）
+     * @param flusher     每块查询前推送已生成输出的回调
+     * @param newerCursor “较新文章”链接的游标，可为 null
+     * @param olderCursor “较早文章”链接的游标，可为 null
+     */
+    IndexStream(PostCursor start, int total, int chunkSize, BiFunction<PostCursor, Integer, List<PostCard>> loader,
+                Runnable flusher, String newerCursor, String olderCursor) {
+        this.start = start;
+        this.total = total;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.loader = loader;
+        this.flusher = flusher;
+        this.newerCursor = newerCursor;
+        this.olderCursor = olderCursor;
+    }
+
+    /**
+     * 本页文章数（准备时由分页键确定，不查询卡片）
+     *
+     * @return 文章数
+     */
+    @Override
+    public int size() {
+        return total;
+    }
+
+    /**
+     * 获取“较新文章”链接的游标
+     *
+     * @return 游标，没有更新的文章时为 null
+     */
+    public String getNewerCursor() {
+        return newerCursor;
+    }
+
+    /**
+     * 获取“较早文章”链接的游标
+     *
+     * @return 游标，没有更早的文章时为 null
+     */
+    public String getOlderCursor() {
+        return olderCursor;
+    }
+
+    /**
+     * 返回按块查询的迭代器
+     *
+     * @return 迭代器
+     */
+    @Override
+    public Iterator<PostCard> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * 当前块耗尽时查询下一块的迭代器
+     */
+    private final class ChunkIterator implements Iterator<PostCard> {
+
+        private PostCursor cursor = start;
+        private int loaded;
+        private Iterator<PostCard> chunk = Collections.emptyIterator();
+
+        /**
+         * 当前块耗尽且本页未取完时推送已生成的输出并查询下一块
+         *
+         * @return 是否还有文章
+         */
+        @Override
+        public boolean hasNext() {
+            while (!chunk.hasNext()) {
+                if (loaded >= total) {
+                    return false;
+                }
+                flusher.run();
+                List<PostCard> cards = loader.apply(cursor, Math.min(chunkSize, total - loaded));
+                if (cards.isEmpty()) {
+                    // 预先确定边界后有文章被删除，提前结束
+                    loaded = total;
+                    return false;
+                }
+                loaded += cards.size();
+                PostCard last = cards.get(cards.size() - 1);
+                cursor = new PostCursor(last.getCreateTime(), last.getId());
+                chunk = cards.iterator();
+            }
+            return true;
+        }
+
+        /**
+         * 返回下一篇文章卡片
+         *
+         * @return 文章卡片
+         */
+        @Override
+        public PostCard next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.next();
+        }
+    }
+}
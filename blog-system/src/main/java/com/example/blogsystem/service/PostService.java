@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.RenderProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.event.PostChangedEvent.ChangeType;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.util.MarkdownUtil;
+import com.example.blogsystem.util.RenderedMarkdown;
+import com.example.blogsystem.util.SlugUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 文章写入服务，负责文章的增删改及写入时的 Markdown 渲染
+ *
+ * @author Weijue
+ */
+@Service
+public class PostService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostService.class);
+
+    private final PostRepository postRepository;
+    private final RenderCache renderCache;
+    private final TaxonomyService taxonomyService;
+    private final RenderProperties renderProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository      文章仓储
+     * @param renderCache         渲染结果缓存
+     * @param taxonomyService     标签与归档服务
+     * @param renderProperties    渲染配置
+     * @param transactionTemplate 事务模板
+     * @param eventPublisher      事件发布器
+     */
+    public PostService(PostRepository postRepository, RenderCache renderCache, TaxonomyService taxonomyService,
+                       RenderProperties renderProperties, TransactionTemplate transactionTemplate,
+                       ApplicationEventPublisher eventPublisher) {
+        this.postRepository = postRepository;
+        this.renderCache = renderCache;
+        this.taxonomyService = taxonomyService;
+        this.renderProperties = renderProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 发布新文章
+     *
+     * @param title   文章标题
+     * @param content 文章内容
+     * @param author  作者
+     * @return 保存后的文章
+     */
+    @Transactional
+    public Post createPost(String title, String content, String author) {
+        return createPost(title, content, author, List.of());
+    }
+
+    /**
+     * 发布带标签的新文章，并在同一事务内更新标签与月份的文章数
+     *
+     * @param title   文章标题
+     * @param content 文章内容
+     * @param author  作者
+     * @param tags    标签名
+     * @return 保存后的文章
+     */
+    @Transactional
+    public Post createPost(String title, String content, String author, Collection<String> tags) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setAuthor(author);
+        render(post);
+        assignSlug(post);
+        Post saved = postRepository.save(post);
+        taxonomyService.addPost(saved, tags);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), ChangeType.CREATED, null));
+        return saved;
+    }
+
+    /**
+     * 更新文章
+     *
+     * @param id      文章ID
+     * @param title   新标题
+     * @param content 新内容
+     * @param author  作者，为 {@code null} 时保留原作者
+     * @return 更新后的文章
+     */
+    @Transactional
+    public Post updatePost(Long id, String title, String content, String author) {
+        return updatePost(id, title, content, author, null);
+    }
+
+    /**
+     * 更新文章及其标签
+     *
+     * @param id      文章ID
+     * @param title   新标题
+     * @param content 新内容
+     * @param author  作者，为 {@code null} 时保留原作者
+     * @param tags    新的标签名，为 {@code null} 时保留原标签
+     * @return 更新后的文章
+     */
+    @Transactional
+    public Post updatePost(Long id, String title, String content, String author, Collection<String> tags) {
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("文章不存在: " + id));
+        String previousHash = post.getContentHash();
+
+        post.setTitle(title);
+        post.setContent(content);
+        if (author != null) {
+            post.setAuthor(author);
+        }
+        render(post);
+        Post saved = postRepository.save(post);
+        taxonomyService.retagPost(saved, tags);
+        eventPublisher.publishEvent(new PostChangedEvent(id, ChangeType.UPDATED, previousHash));
+        return saved;
+    }
+
+    /**
+     * 删除文章
+     *
+     * @param id 文章ID
+     */
+    @Transactional
+    public void deletePost(Long id) {
+        postRepository.findById(id).ifPresent(post -> {
+            taxonomyService.removePost(post);
+            postRepository.delete(post);
+            eventPublisher.publishEvent(new PostChangedEvent(id, ChangeType.DELETED, post.getContentHash()));
+        });
+    }
+
+    /**
+     * 按需渲染文章全文与节选；内容摘要与渲染器版本均未变化时跳过
+     *
+     * @param post 文章
+     * @return 是否重新渲染
+     */
+    public boolean render(Post post) {
+        String hash = MarkdownUtil.contentHash(post.getContent());
+        if (post.getRenderedContent() != null
+                && post.getExcerptHtml() != null
+                && hash.equals(post.getContentHash())
+                && Objects.equals(post.getRenderVersion(), MarkdownUtil.RENDERER_VERSION)) {
+            return false;
+        }
+        RenderedMarkdown rendered = renderCache.render(hash, post.getContent());
+        post.setRenderedContent(rendered.html());
+        post.setExcerptHtml(rendered.excerptHtml());
+        post.setContentHash(hash);
+        post.setRenderVersion(MarkdownUtil.RENDERER_VERSION);
+        return true;
+    }
+
+    /**
+     * 为尚无短链接标识的文章由标题生成唯一标识，重名时追加序号；标识生成后不随标题修改而变化
+     *
+     * @param post 文章
+     * @return 是否新分配了标识
+     */
+    boolean assignSlug(Post post) {
+        if (post.getSlug() != null) {
+            return false;
+        }
+        String base = SlugUtil.slugify(post.getTitle());
+        String slug = base;
+        for (int suffix = 2; postRepository.existsBySlug(slug); suffix++) {
+            slug = base + "-" + suffix;
+        }
+        post.setSlug(slug);
+        return true;
+    }
+
+    /**
+     * 为一批新文章分配唯一短链接标识：已填写的标识作为首选（规范化后），否则由标题生成；
+     * 先用一次查询排除已占用的候选，只有重名的文章才逐个探测序号
+     *
+     * @param posts 尚未保存的文章
+     */
+    public void assignSlugs(List<Post> posts) {
+        List<String> bases = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            bases.add(SlugUtil.slugify(post.getSlug() != null ? post.getSlug() : post.getTitle()));
+        }
+        Set<String> taken = new HashSet<>(postRepository.findExistingSlugs(bases));
+        for (int i = 0; i < posts.size(); i++) {
+            String base = bases.get(i);
+            String slug = base;
+            for (int suffix = 2; taken.contains(slug) || (!slug.equals(base) && postRepository.existsBySlug(slug));
+                 suffix++) {
+                slug = base + "-" + suffix;
+            }
+            taken.add(slug);
+            posts.get(i).setSlug(slug);
+        }
+    }
+
+    /**
+     * 应用启动完成后回填过期的渲染结果
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (renderProperties.backfillOnStartup()) {
+            backfillRenderedContent();
+        }
+    }
+
+    /**
+     * 分批重新渲染渲染结果缺失、摘要不匹配或渲染器版本过期的文章
+     *
+     * @return 重新渲染的文章数
+     */
+    public int backfillRenderedContent() {
+        PageRequest limit = PageRequest.of(0, renderProperties.batchSize());
+        long lastId = 0L;
+        int rendered = 0;
+        while (true) {
+            long afterId = lastId;
+            BackfillBatch batch = transactionTemplate.execute(status -> {
+                List<Post> posts = renderProperties.verifyHashes()
+                        ? postRepository.findBatchAfter(afterId, limit)
+                        : postRepository.findStaleRendered(afterId, MarkdownUtil.RENDERER_VERSION, limit);
+                // 受管实体在事务提交时自动刷新，无需显式 save
+                int changed = 0;
+                for (Post post : posts) {
+                    boolean reRendered = render(post);
+                    if (assignSlug(post) || reRendered) {
+                        changed++;
+                    }
+                }
+                return new BackfillBatch(posts.isEmpty() ? afterId : posts.get(posts.size() - 1).getId(),
+                        posts.size(), changed);
+            });
+            if (batch == null || batch.size() == 0) {
+                break;
+            }
+            rendered += batch.changed();
+            lastId = batch.lastId();
+        }
+        if (rendered > 0) {
+            log.info("已重新渲染 {} 篇文章（渲染器版本 {}）", rendered, MarkdownUtil.RENDERER_VERSION);
+        }
+        return rendered;
+    }
+
+    /**
+     * 单批回填结果
+     *
+     * @param lastId  本批最后一篇文章的 id
+     * @param size    本批文章数
+     * @param changed 本批重新渲染的文章数
+     */
+    private record BackfillBatch(long lastId, int size, int changed) {
+    }
+}
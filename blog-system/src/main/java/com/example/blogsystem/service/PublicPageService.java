@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.BlogProperties;
+import com.example.blogsystem.dto.PostCard;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.util.MarkdownUtil;
+import com.example.blogsystem.util.PostCursor;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 公开页面数据服务，为首页、文章页与标签/归档列表页准备视图模型，供控制器与静态站点导出共用
+ *
+ * @author Weijue
+ */
+@Service
+public class PublicPageService {
+
+    private final PostRepository postRepository;
+    private final RenderCache renderCache;
+    private final RenderExecutor renderExecutor;
+    private final BlogProperties blogProperties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository      文章仓储
+     * @param renderCache         渲染结果缓存
+     * @param renderExecutor      并行渲染执行器
+     * @param blogProperties      博客配置
+     * @param transactionTemplate 事务模板，流式首页以只读事务逐块查询
+     */
+    public PublicPageService(PostRepository postRepository, RenderCache renderCache,
+                             RenderExecutor renderExecutor, BlogProperties blogProperties,
+                             TransactionTemplate transactionTemplate) {
+        this.postRepository = postRepository;
+        this.renderCache = renderCache;
+        this.renderExecutor = renderExecutor;
+        this.blogProperties = blogProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 按 (createTime, id) 游标查询一页首页文章卡片（只读事务，启用读写分离时由副本处理）
+     *
+     * @param before 下一页游标，返回比该游标更早的文章；与 after 同时给出时优先
+     * @param after  上一页游标，返回比该游标更新的文章
+     * @return 首页数据
+     */
+    @Transactional(readOnly = true)
+    public IndexPage indexPage(PostCursor before, PostCursor after) {
+        int pageSize = blogProperties.pageSize();
+        // 多取一条用于判断是否还有更多数据
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostCard> posts;
+        boolean hasNewer;
+        boolean hasOlder;
+        if (before == null && after != null) {
+            posts = postRepository.findAfter(after.createTime(), after.id(), limit);
+            hasNewer = posts.size() > pageSize;
+            hasOlder = true;
+            posts = posts.subList(0, Math.min(pageSize, posts.size()));
+            Collections.reverse(posts);
+        } else {
+            posts = before == null
+                    ? postRepository.findLatest(limit)
+                    : postRepository.findBefore(before.createTime(), before.id(), limit);
+            hasNewer = before != null;
+            hasOlder = posts.size() > pageSize;
+            posts = posts.subList(0, Math.min(pageSize, posts.size()));
+        }
+
+        renderMissingExcerpts(posts);
+        return new IndexPage(posts,
+                hasNewer && !posts.isEmpty() ? cursorOf(posts.get(0)) : null,
+                hasOlder && !posts.isEmpty() ? cursorOf(posts.get(posts.size() - 1)) : null);
+    }
+
+    /**
+     * 按 (createTime, id) 游标查询带某标签的一页文章卡片，只向较早方向翻页
+     *
+     * @param tagId  标签ID
+     * @param before 下一页游标，返回比该游标更早的文章；为 null 时为第一页
+     * @return 列表页数据，不含“较新文章”游标
+     */
+    @Transactional(readOnly = true)
+    public IndexPage tagPage(Long tagId, PostCursor before) {
+        PageRequest limit = PageRequest.of(0, blogProperties.pageSize() + 1);
+        return olderPage(before == null
+                ? postRepository.findLatestByTag(tagId, limit)
+                : postRepository.findByTagBefore(tagId, before.createTime(), before.id(), limit));
+    }
+
+    /**
+     * 按 (createTime, id) 游标查询某月的一页文章卡片，只向较早方向翻页
+     *
+     * @param monthStart 月份的第一天
+     * @param before     下一页游标，返回比该游标更早的文章；为 null 时为第一页
+     * @return 列表页数据，不含“较新文章”游标
+     */
+    @Transactional(readOnly = true)
+    public IndexPage archivePage(LocalDate monthStart, PostCursor before) {
+        LocalDateTime from = monthStart.atStartOfDay();
+        PageRequest limit = PageRequest.of(0, blogProperties.pageSize() + 1);
+        List<PostCard> posts = before == null || !before.createTime().isBefore(from.plusMonths(1))
+                ? postRepository.findLatestInRange(from, from.plusMonths(1), limit)
+                : postRepository.findInRangeBefore(from, before.createTime(), before.id(), limit);
+        return olderPage(posts);
+    }
+
+    /**
+     * 截取多取一条的查询结果为一页，补齐缺失的节选并生成“较早文章”游标
+     *
+     * @param posts 按 (createTime, id) 倒序排列、最多比每页条数多一条的文章卡片
+     * @return 列表页数据
+     */
+    private IndexPage olderPage(List<PostCard> posts) {
+        int pageSize = blogProperties.pageSize();
+        boolean hasOlder = posts.size() > pageSize;
+        posts = posts.subList(0, Math.min(pageSize, posts.size()));
+        renderMissingExcerpts(posts);
+        return new IndexPage(posts, null, hasOlder ? cursorOf(posts.get(posts.size() - 1)) : null);
+    }
+
+    /**
+     * 准备流式首页（较早方向）：先只查询本页文章的 (createTime, id) 键以确定翻页游标，
+     * 文章卡片在模板遍历时按 {@code index-chunk-size} 逐块查询
+     *
+     * @param before  下一页游标，返回比该游标更早的文章；为 null 时为第一页
+     * @param flusher 每块查询前推送已生成输出的回调
+     * @return 流式首页
+     */
+    @Transactional(readOnly = true)
+    public IndexStream streamIndexPage(PostCursor before, Runnable flusher) {
+        int pageSize = blogProperties.pageSize();
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PostCursor> keys = before == null
+                ? postRepository.findLatestKeys(limit)
+                : postRepository.findKeysBefore(before.createTime(), before.id(), limit);
+        boolean hasOlder = keys.size() > pageSize;
+        keys = keys.subList(0, Math.min(pageSize, keys.size()));
+        return new IndexStream(before, keys.size(), blogProperties.indexChunkSize(), this::loadChunk, flusher,
+                before != null && !keys.isEmpty() ? keys.get(0).encode() : null,
+                hasOlder ? keys.get(keys.size() - 1).encode() : null);
+    }
+
+    /**
+     * 在独立的只读事务中查询一块首页卡片并补齐缺失的节选
+     *
+     * @param before 游标，返回比该游标更早的文章；为 null 时从最新文章开始
+     * @param size   条数
+     * @return 按 (createTime, id) 倒序排列的文章卡片
+     */
+    private List<PostCard> loadChunk(PostCursor before, int size) {
+        return readOnlyTransaction.execute(status -> {
+            PageRequest limit = PageRequest.of(0, size);
+            List<PostCard> cards = before == null
+                    ? postRepository.findLatest(limit)
+                    : postRepository.findBefore(before.createTime(), before.id(), limit);
+            renderMissingExcerpts(cards);
+            return cards;
+        });
+    }
+
+    /**
+     * 查询文章页所需的完整文章，存储的 HTML 缺失或过期时经缓存渲染（只读事务，不写回数据库）
+     *
+     * @param id 文章ID
+     * @return 文章
+     */
+    @Transactional(readOnly = true)
+    public Optional<Post> postPage(Long id) {
+        return postRepository.findById(id).map(this::withRenderedContent);
+    }
+
+    /**
+     * 存储的全文 HTML 缺失或过期时经缓存渲染补齐（不写回数据库）
+     *
+     * @param post 文章
+     * @return 同一篇文章
+     */
+    public Post withRenderedContent(Post post) {
+        if (post.getRenderedContent() == null
+                || !Objects.equals(post.getRenderVersion(), MarkdownUtil.RENDERER_VERSION)) {
+            post.setRenderedContent(renderCache.render(post.getContent()).html());
+        }
+        return post;
+    }
+
+    /**
+     * 直接使用写入时存储的节选，仅对尚未回填或渲染器版本过期的文章加载正文并经缓存并行渲染
+     *
+     * @param cards 文章卡片
+     */
+    private void renderMissingExcerpts(List<PostCard> cards) {
+        List<PostCard> stale = cards.stream()
+                .filter(card -> card.getExcerptHtml() == null
+                        || !Objects.equals(card.getRenderVersion(), MarkdownUtil.RENDERER_VERSION))
+                .toList();
+        if (stale.isEmpty()) {
+            return;
+        }
+        Map<Long, String> contents = postRepository.findAllById(stale.stream().map(PostCard::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Post::getContent));
+        renderExecutor.forEach(stale, card -> card.setExcerptHtml(
+                renderCache.render(contents.get(card.getId())).excerptHtml()));
+    }
+
+    /**
+     * 生成文章对应的分页游标
+     *
+     * @param post 文章卡片
+     * @return 编码后的游标
+     */
+    private static String cursorOf(PostCard post) {
+        return new PostCursor(post.getCreateTime(), post.getId()).encode();
+    }
+
+    /**
+     * 一页首页数据
+     *
+     * @param posts       文章卡片
+     * @param newerCursor “较新文章”链接的游标，没有更新的文章时为 null
+     * @param olderCursor “较早文章”链接的游标，没有更早的文章时为 null
+     */
+    public record IndexPage(List<PostCard> posts, String newerCursor, String olderCursor) {
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.RenderProperties;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.util.MarkdownUtil;
+import com.example.blogsystem.util.RenderedMarkdown;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Markdown 渲染结果缓存
+ *
+ * <p>以内容摘要为键（内容寻址，相同内容共享同一份 HTML），采用 Caffeine 的 W-TinyLFU 淘汰策略，
+ * 容量按缓存 HTML 的总字节数而非条目数限制，避免少数超长文章挤占全部内存。</p>
+ *
+ * @author Weijue
+ */
+@Component
+public class RenderCache {
+
+    /**
+     * 每个缓存条目的固定开销估算（键字符串、节点对象等），单位字节
+     */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final MarkdownUtil markdownUtil;
+    private final Cache<String, RenderedMarkdown> cache;
+
+    /**
+     * 构造函数
+     *
+     * @param markdownUtil     Markdown 工具
+     * @param renderProperties 渲染配置
+     * @param meterRegistry    指标注册表
+     */
+    public RenderCache(MarkdownUtil markdownUtil, RenderProperties renderProperties, MeterRegistry meterRegistry) {
+        this.markdownUtil = markdownUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(renderProperties.cache().maxSize().toBytes())
+                .weigher((String key, RenderedMarkdown rendered) -> ENTRY_OVERHEAD
+                        + 2 * (key.length() + rendered.html().length() + rendered.excerptHtml().length()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "render");
+    }
+
+    /**
+     * 渲染 Markdown，命中缓存时直接返回
+     *
+     * @param markdown Markdown 格式的文本
+     * @return 全文与节选 HTML
+     */
+    public RenderedMarkdown render(String markdown) {
+        return render(MarkdownUtil.contentHash(markdown), markdown);
+    }
+
+    /**
+     * 使用已知的内容摘要渲染 Markdown，命中缓存时直接返回
+     *
+     * @param contentHash 内容摘要
+     * @param markdown    Markdown 格式的文本
+     * @return 全文与节选 HTML
+     */
+    public RenderedMarkdown render(String contentHash, String markdown) {
+        return cache.get(contentHash, key -> markdownUtil.render(markdown));
+    }
+
+    /**
+     * 使指定内容的缓存失效
+     *
+     * @param contentHash 内容摘要
+     */
+    public void invalidate(String contentHash) {
+        if (contentHash != null) {
+            cache.invalidate(contentHash);
+        }
+    }
+
+    /**
+     * 文章更新或删除后淘汰旧内容的渲染结果
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.ChangeType.CREATED) {
+            invalidate(event.previousContentHash());
+        }
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 命中、未命中、淘汰与加载耗时等统计
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entries", cache.estimatedSize());
+        result.put("weightBytes", cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("evictionWeightBytes", stats.evictionWeight());
+        result.put("loadCount", stats.loadCount());
+        result.put("totalLoadTimeNanos", stats.totalLoadTime());
+        result.put("averageLoadPenaltyNanos", stats.averageLoadPenalty());
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.RenderProperties;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * 多篇文章并行渲染执行器
+ *
+ * <p>使用独立的 ForkJoinPool（不占用公共池），全局并行度可配置；单个请求把待渲染列表切成
+ * 不超过 maxPerRequest 份，其中一份在请求线程上执行，其余提交到线程池，全部完成后才返回，
+ * 保证视图渲染前所有 HTML 已就绪，同时避免单个请求占满全部渲染线程。</p>
+ *
+ * @author Weijue
+ */
+@Component
+public class RenderExecutor implements DisposableBean {
+
+    private final ForkJoinPool pool;
+    private final int maxPerRequest;
+
+    /**
+     * 构造函数
+     *
+     * @param renderProperties 渲染配置
+     */
+    public RenderExecutor(RenderProperties renderProperties) {
+        RenderProperties.Executor executor = renderProperties.executor();
+        int parallelism = executor.parallelism() > 0
+                ? executor.parallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.maxPerRequest = Math.max(1, executor.maxPerRequest());
+    }
+
+    /**
+     * 对每个元素执行渲染动作，返回时全部动作均已完成
+     *
+     * @param items  待渲染元素
+     * @param action 渲染动作，需线程安全
+     * @param <T>    元素类型
+     */
+    public <T> void forEach(List<T> items, Consumer<? super T> action) {
+        int chunks = Math.min(maxPerRequest, items.size());
+        if (chunks <= 1) {
+            items.forEach(action);
+            return;
+        }
+        int chunkSize = (items.size() + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < items.size(); from += chunkSize) {
+            List<T> chunk = items.subList(from, Math.min(items.size(), from + chunkSize));
+            futures.add(CompletableFuture.runAsync(() -> chunk.forEach(action), pool));
+        }
+        items.subList(0, chunkSize).forEach(action);
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.BlogProperties;
+import com.example.blogsystem.dto.PostTagName;
+import com.example.blogsystem.dto.Sidebar;
+import com.example.blogsystem.dto.TagCount;
+import com.example.blogsystem.entity.ArchiveMonth;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.entity.PostTag;
+import com.example.blogsystem.entity.Tag;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.repository.ArchiveMonthRepository;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.repository.PostTagRepository;
+import com.example.blogsystem.repository.TagRepository;
+import com.example.blogsystem.util.SlugUtil;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 标签与月度归档服务
+ *
+ * <p>标签的文章数与每月文章数在文章写入的同一事务内以增量更新维护，标签云与月份列表直接读取计数表，
+ * 读路径上没有 GROUP BY。侧栏结果缓存在内存中，文章变更提交后丢弃；构建期间发生的变更通过代次号识别，
+ * 过期的构建结果只服务当次请求、不会写回缓存。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class TaxonomyService {
+
+    /**
+     * 每篇文章最多的标签数
+     */
+    public static final int MAX_TAGS_PER_POST = 10;
+
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("[,，]");
+
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final ArchiveMonthRepository archiveMonthRepository;
+    private final PostRepository postRepository;
+    private final BlogProperties blogProperties;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Sidebar sidebar;
+
+    /**
+     * 构造函数
+     *
+     * @param tagRepository          标签仓储
+     * @param postTagRepository      文章标签关联仓储
+     * @param archiveMonthRepository 月度归档仓储
+     * @param postRepository         文章仓储
+     * @param blogProperties         博客配置
+     */
+    public TaxonomyService(TagRepository tagRepository, PostTagRepository postTagRepository,
+                           ArchiveMonthRepository archiveMonthRepository, PostRepository postRepository,
+                           BlogProperties blogProperties) {
+        this.tagRepository = tagRepository;
+        this.postTagRepository = postTagRepository;
+        this.archiveMonthRepository = archiveMonthRepository;
+        this.postRepository = postRepository;
+        this.blogProperties = blogProperties;
+    }
+
+    /**
+     * 解析逗号（全角或半角）分隔的标签输入，去除首尾空白并按链接标识去重
+     *
+     * @param input 标签输入，可为 {@code null}
+     * @return 标签名，保持输入顺序
+     * @throws IllegalArgumentException 标签过多、过长或不含字母数字
+     */
+    public static List<String> parseTags(String input) {
+        if (input == null || input.isBlank()) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (String part : TAG_SEPARATOR.split(input)) {
+            String name = part.strip();
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return normalizeTags(names);
+    }
+
+    /**
+     * 校验标签名并按链接标识去重
+     *
+     * @param names 标签名，可为 {@code null}
+     * @return 去重后的标签名，保持原顺序
+     * @throws IllegalArgumentException 标签过多、过长或不含字母数字
+     */
+    public static List<String> normalizeTags(Collection<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        Map<String, String> bySlug = new LinkedHashMap<>();
+        for (String raw : names) {
+            String name = raw == null ? "" : raw.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.length() > Tag.MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("标签过长（最多 " + Tag.MAX_NAME_LENGTH + " 个字符）: " + name);
+            }
+            if (name.codePoints().noneMatch(Character::isLetterOrDigit)) {
+                throw new IllegalArgumentException("标签须包含字母或数字: " + name);
+            }
+            bySlug.putIfAbsent(SlugUtil.slugify(name), name);
+        }
+        if (bySlug.size() > MAX_TAGS_PER_POST) {
+            throw new IllegalArgumentException("每篇文章最多 " + MAX_TAGS_PER_POST + " 个标签");
+        }
+        return List.copyOf(bySlug.values());
+    }
+
+    /**
+     * 为新文章添加标签，并计入所在月份
+     *
+     * @param post  已保存的文章
+     * @param names 标签名
+     */
+    @Transactional
+    public void addPost(Post post, Collection<String> names) {
+        // 关联行引用文章主键，先写入文章本身
+        postRepository.flush();
+        adjustMonth(monthOf(post.getCreateTime()), 1);
+        List<Long> tagIds = List.copyOf(resolveTagIds(normalizeTags(names)).values());
+        if (!tagIds.isEmpty()) {
+            postTagRepository.saveAll(tagIds.stream().map(tagId -> new PostTag(post, tagId)).toList());
+            tagRepository.adjustPostCounts(tagIds, 1);
+        }
+    }
+
+    /**
+     * 修改文章标签，只增删有变化的关联并调整对应计数
+     *
+     * @param post  已保存的受管文章
+     * @param names 新的标签名；为 {@code null} 时保持不变
+     */
+    @Transactional
+    public void retagPost(Post post, Collection<String> names) {
+        if (names == null) {
+            return;
+        }
+        Set<Long> wanted = new LinkedHashSet<>(resolveTagIds(normalizeTags(names)).values());
+        Set<Long> current = new LinkedHashSet<>(postTagRepository.findTagIds(post.getId()));
+
+        Set<Long> removed = new LinkedHashSet<>(current);
+        removed.removeAll(wanted);
+        if (!removed.isEmpty()) {
+            postTagRepository.deleteTags(post.getId(), removed);
+            tagRepository.adjustPostCounts(removed, -1);
+        }
+
+        wanted.removeAll(current);
+        if (!wanted.isEmpty()) {
+            postTagRepository.saveAll(wanted.stream().map(tagId -> new PostTag(post, tagId)).toList());
+            tagRepository.adjustPostCounts(wanted, 1);
+        }
+        if (!removed.isEmpty() || !wanted.isEmpty()) {
+            // 只改标签时正文未变，刷新修改时间使文章页与列表页的条件请求校验失效
+            post.setUpdateTime(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 文章删除前扣减其标签与所在月份的计数（关联行随文章级联删除）
+     *
+     * @param post 即将删除的文章
+     */
+    @Transactional
+    public void removePost(Post post) {
+        List<Long> tagIds = postTagRepository.findTagIds(post.getId());
+        if (!tagIds.isEmpty()) {
+            tagRepository.adjustPostCounts(tagIds, -1);
+        }
+        adjustMonth(monthOf(post.getCreateTime()), -1);
+    }
+
+    /**
+     * 将一批新文章计入所在月份并添加标签，每个月份只更新一次，文章数增量相同的标签合并为一条更新
+     *
+     * @param posts 已保存的文章
+     * @param tags  与文章一一对应的标签名
+     * @throws IllegalArgumentException 某篇文章的标签过多、过长或不含字母数字
+     */
+    @Transactional
+    public void addPosts(List<Post> posts, List<? extends Collection<String>> tags) {
+        Map<LocalDate, Long> months = posts.stream()
+                .collect(Collectors.groupingBy(post -> monthOf(post.getCreateTime()), TreeMap::new,
+                        Collectors.counting()));
+        months.forEach((month, count) -> adjustMonth(month, count.intValue()));
+
+        List<List<String>> names = tags.stream().map(TaxonomyService::normalizeTags).toList();
+        Map<String, Long> tagIds = resolveTagIds(names.stream().flatMap(List::stream).toList());
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        // 关联行引用文章主键，先写入文章本身
+        postRepository.flush();
+        List<PostTag> links = new ArrayList<>();
+        Map<Long, Integer> added = new LinkedHashMap<>();
+        for (int i = 0; i < posts.size(); i++) {
+            for (String name : names.get(i)) {
+                Long tagId = tagIds.get(SlugUtil.slugify(name));
+                links.add(new PostTag(posts.get(i), tagId));
+                added.merge(tagId, 1, Integer::sum);
+            }
+        }
+        postTagRepository.saveAll(links);
+        added.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((delta, ids) -> tagRepository.adjustPostCounts(ids, delta));
+    }
+
+    /**
+     * 按链接标识查询标签
+     *
+     * @param slug 链接标识
+     * @return 标签及文章数
+     */
+    @Transactional(readOnly = true)
+    public Optional<TagCount> findTag(String slug) {
+        return tagRepository.findCountBySlug(slug);
+    }
+
+    /**
+     * 查询文章的标签
+     *
+     * @param postId 文章ID
+     * @return 按名称排列的标签
+     */
+    @Transactional(readOnly = true)
+    public List<TagCount> tagsOf(Long postId) {
+        return tagRepository.findByPostId(postId);
+    }
+
+    /**
+     * 批量查询一批文章的标签名，用于导出
+     *
+     * @param postIds 文章ID
+     * @return 文章ID到标签名（按名称排列）的映射，没有标签的文章不在其中
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> tagNamesOf(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return tagRepository.findNamesByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagName::getPostId,
+                        Collectors.mapping(PostTagName::getName, Collectors.toList())));
+    }
+
+    /**
+     * 获取侧栏数据（标签云与月份列表），缓存为空时构建；并发请求只构建一次
+     *
+     * @return 侧栏数据
+     */
+    public Sidebar sidebar() {
+        Sidebar current = sidebar;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = sidebar;
+            if (current == null) {
+                long startGeneration = generation.get();
+                current = new Sidebar(tagRepository.findCloud(PageRequest.of(0, blogProperties.sidebarTags())),
+                        archiveMonthRepository.findNonEmpty());
+                if (generation.get() == startGeneration) {
+                    sidebar = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 文章变更提交后丢弃缓存的侧栏数据；最先执行，之后的监听器（如静态站点导出）读到的都是新数据
+     *
+     * @param event 文章变更事件
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        sidebar = null;
+    }
+
+    /**
+     * 查出或创建标签，返回标签ID
+     *
+     * @param names 已规范化的标签名，可含链接标识相同的名称（取第一个创建）
+     * @return 链接标识到标签ID的映射，顺序与标签名一致
+     */
+    private Map<String, Long> resolveTagIds(List<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> bySlug = new LinkedHashMap<>();
+        names.forEach(name -> bySlug.putIfAbsent(SlugUtil.slugify(name), name));
+        Map<String, Tag> existing = tagRepository.findBySlugIn(bySlug.keySet()).stream()
+                .collect(Collectors.toMap(Tag::getSlug, Function.identity()));
+        Map<String, Long> ids = new LinkedHashMap<>();
+        bySlug.forEach((slug, name) -> ids.put(slug, existing.computeIfAbsent(slug,
+                key -> tagRepository.save(new Tag(name, key))).getId()));
+        return ids;
+    }
+
+    /**
+     * 增量调整某月的文章数，该月尚无记录时插入
+     *
+     * @param month 月份的第一天
+     * @param delta 增量，可为负数
+     */
+    private void adjustMonth(LocalDate month, int delta) {
+        if (archiveMonthRepository.adjustPostCount(month, delta) == 0 && delta > 0) {
+            archiveMonthRepository.save(new ArchiveMonth(month, delta));
+        }
+    }
+
+    /**
+     * 计算时间所在月份的第一天
+     *
+     * @param time 时间
+     * @return 月份的第一天
+     */
+    static LocalDate monthOf(LocalDateTime time) {
+        return time.toLocalDate().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.staticsite;
+
+import java.nio.file.Path;
+
+/**
+ * 已导出的静态文件
+ *
+ * @param identity     未压缩文件
+ * @param gzip         gzip 压缩文件
+ * @param contentType  响应类型
+ * @param etag         由内容摘要生成的弱 ETag，各节点对同一内容相同
+ * @param lastModified 内容的最后修改时间（毫秒时间戳），取自文章修改时间而非文件时间
+ * @author Weijue
+ */
+public record StaticFile(Path identity, Path gzip, String contentType, String etag, long lastModified) {
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.staticsite;
+
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+
+import java.util.Map;
+
+/**
+ * 静态导出使用的链接构建器
+ *
+ * <p>标准实现只在 Web 上下文中才能解析 {@code @{/...}} 形式的上下文相对链接；导出时没有请求，
+ * 此处把上下文路径视为空串，使生成的链接与应用根路径部署时一致。同理，导出时没有
+ * {@link org.springframework.web.servlet.resource.ResourceUrlEncodingFilter}，静态资源链接
+ * 直接通过 {@link ResourceUrlProvider} 改写为带内容摘要的地址。</p>
+ *
+ * @author Weijue
+ */
+public class StaticLinkBuilder extends StandardLinkBuilder {
+
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    /**
+     * 构造函数
+     *
+     * @param resourceUrlProvider 静态资源地址解析器
+     */
+    public StaticLinkBuilder(ResourceUrlProvider resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @Override
+    protected String computeContextPath(IExpressionContext context, String base, Map<String, Object> parameters) {
+        if (context instanceof IWebContext) {
+            return super.computeContextPath(context, base, parameters);
+        }
+        return "";
+    }
+
+    @Override
+    protected String processLink(IExpressionContext context, String link) {
+        if (context instanceof IWebContext) {
+            return super.processLink(context, link);
+        }
+        String versioned = resourceUrlProvider.getForLookupPath(link);
+        return versioned != null ? versioned : link;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.staticsite;
+
+import com.example.blogsystem.util.EncodingUtil;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 静态站点过滤器，位于 Spring Security 之前，命中导出文件的匿名 GET 请求直接以文件响应，
+ * 不经过 Spring MVC、JPA 与 Markdown 渲染
+ *
+ * <p>容器支持 sendfile 时（Tomcat NIO 连接器）交由容器零拷贝发送，否则退化为
+ * {@link FileChannel#transferTo} 写入响应流。</p>
+ *
+ * @author Weijue
+ */
+public class StaticSiteFilter extends OncePerRequestFilter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 与动态页面一致：允许共享缓存存储，但每次使用前必须向服务端校验
+     */
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final StaticSiteGenerator generator;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    /**
+     * 构造函数
+     *
+     * @param generator 静态站点导出器
+     */
+    public StaticSiteFilter(StaticSiteGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean head = "HEAD".equals(request.getMethod());
+        Optional<StaticFile> file = ("GET".equals(request.getMethod()) || head) && request.getQueryString() == null
+                ? generator.resolve(urlPathHelper.getPathWithinApplication(request))
+                : Optional.empty();
+        if (file.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        serve(file.get(), head, request, response);
+    }
+
+    /**
+     * 输出文件
+     *
+     * @param file     导出文件
+     * @param head     是否为 HEAD 请求
+     * @param request  HTTP 请求
+     * @param response HTTP 响应
+     * @throws IOException 读写异常
+     */
+    private static void serve(StaticFile file, boolean head, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        boolean gzip = EncodingUtil.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                && Files.isRegularFile(file.gzip());
+        Path path = gzip ? file.gzip() : file.identity();
+        long length;
+        try {
+            length = Files.size(path);
+        } catch (NoSuchFileException e) {
+            // 文章恰好被删除
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        String etag = gzip ? file.etag().substring(0, file.etag().length() - 1) + "-gzip\"" : file.etag();
+        if (new ServletWebRequest(request, response).checkNotModified(etag, file.lastModified())) {
+            return;
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(length);
+        if (head) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
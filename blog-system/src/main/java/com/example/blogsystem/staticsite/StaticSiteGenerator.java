@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.staticsite;
+
+import com.example.blogsystem.config.RenderProperties;
+import com.example.blogsystem.config.StaticSiteProperties;
+import com.example.blogsystem.config.ViewCounterProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.feed.EncodedFeed;
+import com.example.blogsystem.feed.FeedService;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.ContentVersionService;
+import com.example.blogsystem.service.PublicPageService;
+import com.example.blogsystem.service.TaxonomyService;
+import com.example.blogsystem.util.EncodingUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 静态站点导出器
+ *
+ * <p>使用应用自身的 Thymeleaf 模板把首页第一页、全部文章页及订阅源渲染到导出目录（每个文件同时生成
+ * {@code .gz} 版本），启动时全量导出一次，之后每次文章变更提交后只重写首页、订阅源和该文章页。
+ * 文件先写入临时文件再原子替换，读者不会读到写了一半的文件。导出的文章页与动态页面一样不含阅读数，
+ * 由页面脚本向应用上报阅读并显示，静态站点模式下阅读数照常统计。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class StaticSiteGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticSiteGenerator.class);
+
+    private static final String HTML_TYPE = "text/html;charset=UTF-8";
+    private static final Pattern POST_PATH = Pattern.compile("/posts/(\\d{1,18})");
+    private static final Pattern SLUG_PATH = Pattern.compile("/p/([\\p{L}\\p{N}-]{1,200})");
+    private static final String POSTS_DIRECTORY = "posts";
+
+    private final PostRepository postRepository;
+    private final PublicPageService publicPageService;
+    private final TaxonomyService taxonomyService;
+    private final FeedService feedService;
+    private final ContentVersionService contentVersionService;
+    private final RenderProperties renderProperties;
+    private final StaticSiteProperties staticSiteProperties;
+    private final ViewCounterProperties viewCounterProperties;
+    private final SpringTemplateEngine templateEngine;
+    private final Map<String, Long> idsBySlug = new ConcurrentHashMap<>();
+    private final Map<Long, String> slugsById = new ConcurrentHashMap<>();
+    private final Map<String, Validator> validators = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository        文章仓储
+     * @param publicPageService     公开页面数据服务
+     * @param taxonomyService       标签与归档服务
+     * @param feedService           订阅源服务
+     * @param contentVersionService 内容版本服务，提供各节点一致的 Last-Modified
+     * @param renderProperties      渲染配置
+     * @param staticSiteProperties  静态站点配置
+     * @param viewCounterProperties 阅读数配置
+     * @param appTemplateEngine     应用的模板引擎，复用其模板解析器
+     * @param resourceUrlProvider   静态资源地址解析器
+     */
+    public StaticSiteGenerator(PostRepository postRepository, PublicPageService publicPageService,
+                               TaxonomyService taxonomyService, FeedService feedService,
+                               ContentVersionService contentVersionService, RenderProperties renderProperties,
+                               StaticSiteProperties staticSiteProperties, ViewCounterProperties viewCounterProperties,
+                               SpringTemplateEngine appTemplateEngine, ResourceUrlProvider resourceUrlProvider) {
+        this.postRepository = postRepository;
+        this.publicPageService = publicPageService;
+        this.taxonomyService = taxonomyService;
+        this.feedService = feedService;
+        this.contentVersionService = contentVersionService;
+        this.renderProperties = renderProperties;
+        this.staticSiteProperties = staticSiteProperties;
+        this.viewCounterProperties = viewCounterProperties;
+        this.templateEngine = new SpringTemplateEngine();
+        this.templateEngine.setTemplateResolvers(appTemplateEngine.getTemplateResolvers());
+        this.templateEngine.setLinkBuilder(new StaticLinkBuilder(resourceUrlProvider));
+    }
+
+    /**
+     * 应用启动完成后全量导出
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateOnStartup() {
+        if (staticSiteProperties.enabled()) {
+            generateAll();
+        }
+    }
+
+    /**
+     * 全量导出全部公开页面，并删除已不存在的文章页
+     */
+    public synchronized void generateAll() {
+        long start = System.nanoTime();
+        Set<Long> exported = new HashSet<>();
+        idsBySlug.clear();
+        slugsById.clear();
+        long siteModified = contentVersionService.currentValidator().lastModified();
+        writeIndex(siteModified);
+        writeFeeds(siteModified);
+        PageRequest limit = PageRequest.of(0, renderProperties.batchSize());
+        long lastId = 0L;
+        List<Post> batch;
+        while (!(batch = postRepository.findBatchAfter(lastId, limit)).isEmpty()) {
+            for (Post post : batch) {
+                writePost(publicPageService.withRenderedContent(post));
+                exported.add(post.getId());
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        removeOrphans(exported);
+        ready = true;
+        log.info("静态站点导出完成：{} 篇文章，目录 {}，耗时 {} ms", exported.size(),
+                staticSiteProperties.directory().toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 文章变更提交后增量更新受影响的文件（首页、订阅源与该文章页）；批量变更时全量重新导出
+     *
+     * <p>排在订阅源缓存失效之后执行，保证导出的是新订阅源。</p>
+     *
+     * @param event 文章变更事件
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        if (!staticSiteProperties.enabled() || !ready) {
+            return;
+        }
+        if (event.type() == PostChangedEvent.ChangeType.BULK) {
+            generateAll();
+            return;
+        }
+        long siteModified = contentVersionService.currentValidator().lastModified();
+        writeIndex(siteModified);
+        writeFeeds(siteModified);
+        Optional<Post> post = event.type() == PostChangedEvent.ChangeType.DELETED
+                ? Optional.empty() : publicPageService.postPage(event.postId());
+        post.ifPresentOrElse(this::writePost, () -> removePost(event.postId()));
+    }
+
+    /**
+     * 按请求路径查找已导出的文件
+     *
+     * @param path 应用内请求路径（已解码，不含查询参数）
+     * @return 已导出的文件；尚未完成全量导出或路径不对应静态页面时为空
+     */
+    public Optional<StaticFile> resolve(String path) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        switch (path) {
+            case "/":
+                return existing("index.html", HTML_TYPE);
+            case "/feed.xml":
+                return existing("feed.xml", feedService.atom().contentType());
+            case "/rss.xml":
+                return existing("rss.xml", feedService.rss().contentType());
+            default:
+                break;
+        }
+        Matcher post = POST_PATH.matcher(path);
+        if (post.matches()) {
+            return existing(postFile(Long.parseLong(post.group(1))), HTML_TYPE);
+        }
+        Matcher slug = SLUG_PATH.matcher(path);
+        if (slug.matches()) {
+            Long id = idsBySlug.get(slug.group(1));
+            return id == null ? Optional.empty() : existing(postFile(id), HTML_TYPE);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 导出首页第一页（带游标的翻页仍由应用动态渲染）
+     *
+     * @param lastModified 全站内容的最后修改时间（毫秒时间戳）
+     */
+    private void writeIndex(long lastModified) {
+        PublicPageService.IndexPage page = publicPageService.indexPage(null, null);
+        Context context = new Context(Locale.SIMPLIFIED_CHINESE);
+        context.setVariable("posts", page.posts());
+        context.setVariable("newerCursor", page.newerCursor());
+        context.setVariable("olderCursor", page.olderCursor());
+        context.setVariable("sidebar", taxonomyService.sidebar());
+        writeHtml("index.html", "index", context, lastModified);
+    }
+
+    /**
+     * 导出订阅源，直接使用订阅源服务缓存的字节
+     *
+     * @param lastModified 全站内容的最后修改时间（毫秒时间戳）
+     */
+    private void writeFeeds(long lastModified) {
+        EncodedFeed atom = feedService.atom();
+        EncodedFeed rss = feedService.rss();
+        write("feed.xml", atom.identity(), atom.gzip(), lastModified);
+        write("rss.xml", rss.identity(), rss.gzip(), lastModified);
+    }
+
+    /**
+     * 导出文章页
+     *
+     * @param post 已补齐全文 HTML 的文章
+     */
+    private void writePost(Post post) {
+        Context context = new Context(Locale.SIMPLIFIED_CHINESE);
+        context.setVariable("post", post);
+        context.setVariable("tags", taxonomyService.tagsOf(post.getId()));
+        context.setVariable("viewsEnabled", viewCounterProperties.enabled());
+        writeHtml(postFile(post.getId()), "post", context,
+                contentVersionService.validatorFor(post.getId(), post.getUpdateTime()).lastModified());
+        String previousSlug = post.getSlug() == null
+                ? slugsById.remove(post.getId()) : slugsById.put(post.getId(), post.getSlug());
+        if (previousSlug != null && !previousSlug.equals(post.getSlug())) {
+            idsBySlug.remove(previousSlug, post.getId());
+        }
+        if (post.getSlug() != null) {
+            idsBySlug.put(post.getSlug(), post.getId());
+        }
+    }
+
+    /**
+     * 删除文章页
+     *
+     * @param id 文章ID
+     */
+    private void removePost(Long id) {
+        String slug = slugsById.remove(id);
+        if (slug != null) {
+            idsBySlug.remove(slug, id);
+        }
+        validators.remove(postFile(id));
+        try {
+            Path file = staticSiteProperties.directory().resolve(postFile(id));
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(gzipOf(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 删除全量导出时已不存在的文章页
+     *
+     * @param exported 本次导出的文章ID
+     */
+    private void removeOrphans(Set<Long> exported) {
+        Path postsDirectory = staticSiteProperties.directory().resolve(POSTS_DIRECTORY);
+        if (!Files.isDirectory(postsDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(postsDirectory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".html"))
+                    .map(name -> name.substring(0, name.length() - ".html".length()))
+                    .filter(name -> name.chars().allMatch(Character::isDigit) && !name.isEmpty())
+                    .map(Long::valueOf)
+                    .filter(id -> !exported.contains(id))
+                    .forEach(this::removePost);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 渲染模板并写出
+     *
+     * @param relative     相对导出目录的路径
+     * @param template     模板名
+     * @param context      模板上下文
+     * @param lastModified 页面内容的最后修改时间（毫秒时间戳）
+     */
+    private void writeHtml(String relative, String template, Context context, long lastModified) {
+        byte[] html = templateEngine.process(template, context).getBytes(StandardCharsets.UTF_8);
+        write(relative, html, EncodingUtil.gzip(html), lastModified);
+    }
+
+    /**
+     * 原子地写出未压缩与 gzip 两个文件，并记录由内容摘要与内容修改时间组成的校验值
+     *
+     * <p>校验值不取文件修改时间：各节点在不同时刻导出同一内容，文件时间各不相同，
+     * 负载均衡在节点间切换时条件请求会一直失配。</p>
+     *
+     * @param relative     相对导出目录的路径
+     * @param identity     未压缩字节
+     * @param gzip         gzip 字节
+     * @param lastModified 页面内容的最后修改时间（毫秒时间戳）
+     */
+    private void write(String relative, byte[] identity, byte[] gzip, long lastModified) {
+        Path target = staticSiteProperties.directory().resolve(relative);
+        try {
+            Files.createDirectories(target.getParent());
+            // 先写压缩版本：两者不一致的窗口内，读者拿到的最多是较新的压缩版本
+            writeAtomically(gzipOf(target), gzip);
+            writeAtomically(target, identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        validators.put(relative, new Validator("W/\"" + digestOf(identity) + "\"", lastModified));
+    }
+
+    /**
+     * 计算内容摘要
+     *
+     * @param bytes 内容
+     * @return SHA-256 前 16 字节的十六进制表示
+     */
+    private static String digestOf(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+
+    /**
+     * 写入临时文件后原子替换目标文件
+     *
+     * @param target 目标文件
+     * @param bytes  内容
+     * @throws IOException 写入异常
+     */
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".tmp-", null);
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 查找本节点已导出的文件
+     *
+     * @param relative    相对导出目录的路径
+     * @param contentType 响应类型
+     * @return 导出文件；文件不存在或不是本次运行导出的（没有校验值）时为空
+     */
+    private Optional<StaticFile> existing(String relative, String contentType) {
+        Path file = staticSiteProperties.directory().resolve(relative);
+        Validator validator = validators.get(relative);
+        if (validator == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StaticFile(file, gzipOf(file), contentType, validator.etag(), validator.lastModified()));
+    }
+
+    /**
+     * 获取文章页的相对路径
+     *
+     * @param id 文章ID
+     * @return 相对路径
+     */
+    private static String postFile(long id) {
+        return POSTS_DIRECTORY + "/" + id + ".html";
+    }
+
+    /**
+     * 获取 gzip 版本的路径
+     *
+     * @param file 未压缩文件
+     * @return gzip 文件
+     */
+    private static Path gzipOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".gz");
+    }
+
+    /**
+     * 导出文件的条件请求校验值
+     *
+     * @param etag         由内容摘要生成的弱 ETag
+     * @param lastModified 内容的最后修改时间（毫秒时间戳）
+     */
+    private record Validator(String etag, long lastModified) {
+    }
+}
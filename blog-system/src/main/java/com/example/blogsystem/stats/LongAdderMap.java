@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 以正 long 为键的 {@link LongAdder} 分段哈希表
+ *
+ * <p>键按哈希分到若干段，每段是一张开放寻址表（键存在 {@link AtomicLongArray} 中，不装箱）。
+ * 已存在的键查找与累加全程无锁：读线程只读取已发布的表，命中后直接在该键的 LongAdder 上累加，
+ * 高并发下由 LongAdder 自身分散到多个计数单元；只有首次出现的键才在所属段上加锁插入，
+ * 装载因子超过 1/2 时整段扩容并重新发布。条目只增不删，数量受文章总数约束。</p>
+ *
+ * <p>插入时先写值再写键（两者均为 volatile 语义），读线程看到键时必然能看到对应的值。</p>
+ *
+ * @author Weijue
+ */
+public final class LongAdderMap {
+
+    /**
+     * 键与累加值的消费者，避免装箱
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * 处理一个条目
+         *
+         * @param key   键
+         * @param value 累加值
+         */
+        void accept(long key, long value);
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * 构造函数
+     *
+     * @param concurrency 预期的并发写入线程数，段数取不小于它的 2 的幂
+     */
+    public LongAdderMap(int concurrency) {
+        int count = concurrency <= 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment();
+        }
+        segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * 累加
+     *
+     * @param key   键，必须为正数
+     * @param delta 增量
+     */
+    public void add(long key, long delta) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("键必须为正数: " + key);
+        }
+        long hash = hash(key);
+        segments[segmentIndex(hash)].adder(key, hash).add(delta);
+    }
+
+    /**
+     * 加一
+     *
+     * @param key 键，必须为正数
+     */
+    public void increment(long key) {
+        add(key, 1L);
+    }
+
+    /**
+     * 读取当前累加值（不清零）
+     *
+     * @param key 键
+     * @return 累加值，键不存在时为 0
+     */
+    public long sum(long key) {
+        if (key <= 0) {
+            return 0L;
+        }
+        long hash = hash(key);
+        LongAdder adder = segments[segmentIndex(hash)].table.find(key, hash);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 逐个取出非零的累加值并清零；与并发累加同时进行时，累加要么计入本次结果，要么留到下一次
+     *
+     * @param consumer 条目消费者
+     */
+    public void drain(EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            for (int i = 0; i < table.capacity; i++) {
+                long key = table.keys.get(i);
+                if (key != 0L) {
+                    long value = table.values.get(i).sumThenReset();
+                    if (value != 0L) {
+                        consumer.accept(key, value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 计算键的哈希（Fibonacci 散列，高位选段，中间位定位槽）
+     *
+     * @param key 键
+     * @return 哈希值
+     */
+    private static long hash(long key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * 计算哈希对应的段下标
+     *
+     * @param hash 哈希值
+     * @return 段下标
+     */
+    private int segmentIndex(long hash) {
+        return segmentShift == 64 ? 0 : (int) (hash >>> segmentShift);
+    }
+
+    /**
+     * 单个段：持有当前发布的表，插入与扩容在段锁内进行
+     */
+    private static final class Segment {
+
+        private volatile Table table = new Table(INITIAL_CAPACITY);
+
+        /**
+         * 获取键对应的累加器，不存在时加锁插入
+         *
+         * @param key  键
+         * @param hash 哈希值
+         * @return 累加器
+         */
+        LongAdder adder(long key, long hash) {
+            LongAdder adder = table.find(key, hash);
+            return adder != null ? adder : insert(key, hash);
+        }
+
+        /**
+         * 加锁插入新键，必要时扩容
+         *
+         * @param key  键
+         * @param hash 哈希值
+         * @return 累加器
+         */
+        private synchronized LongAdder insert(long key, long hash) {
+            Table current = table;
+            LongAdder existing = current.find(key, hash);
+            if (existing != null) {
+                return existing;
+            }
+            if ((current.size + 1) * 2 > current.capacity) {
+                current = current.resize();
+                table = current;
+            }
+            LongAdder adder = new LongAdder();
+            current.put(key, hash, adder);
+            return adder;
+        }
+    }
+
+    /**
+     * 开放寻址表（线性探测），容量为 2 的幂，键 0 表示空槽
+     */
+    private static final class Table {
+
+        private final int capacity;
+        private final int mask;
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<LongAdder> values;
+        /**
+         * 已占用的槽数，仅在段锁内读写
+         */
+        private int size;
+
+        /**
+         * 构造函数
+         *
+         * @param capacity 容量（2 的幂）
+         */
+        Table(int capacity) {
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * 查找键对应的累加器
+         *
+         * @param key  键
+         * @param hash 哈希值
+         * @return 累加器，不存在时为 {@code null}
+         */
+        LongAdder find(long key, long hash) {
+            for (int i = slot(hash); ; i = (i + 1) & mask) {
+                long current = keys.get(i);
+                if (current == key) {
+                    return values.get(i);
+                }
+                if (current == 0L) {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * 计算哈希对应的起始槽位，取中间位，与选段所用的高位错开
+         *
+         * @param hash 哈希值
+         * @return 槽位
+         */
+        private int slot(long hash) {
+            return (int) (hash >>> 24) & mask;
+        }
+
+        /**
+         * 插入新键（调用方持有段锁且已确认键不存在），先写值再写键
+         *
+         * @param key   键
+         * @param hash  哈希值
+         * @param adder 累加器
+         */
+        void put(long key, long hash, LongAdder adder) {
+            int i = slot(hash);
+            while (keys.get(i) != 0L) {
+                i = (i + 1) & mask;
+            }
+            values.set(i, adder);
+            keys.set(i, key);
+            size++;
+        }
+
+        /**
+         * 复制到容量翻倍的新表，沿用原有的累加器实例，进行中的累加不会丢失
+         *
+         * @return 新表
+         */
+        Table resize() {
+            Table larger = new Table(capacity << 1);
+            for (int i = 0; i < capacity; i++) {
+                long key = keys.get(i);
+                if (key != 0L) {
+                    larger.put(key, hash(key), values.get(i));
+                }
+            }
+            return larger;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.stats;
+
+import com.example.blogsystem.config.ViewCounterProperties;
+import com.example.blogsystem.datasource.ReadWriteRoutingDataSource;
+import com.example.blogsystem.event.PostChangedEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文章阅读数统计服务
+ *
+ * <p>请求路径上只在内存中累加（{@link LongAdderMap}，无锁、不装箱、不访问数据库），后台线程按间隔
+ * 取出全部增量，在一个事务内以 JDBC 批量语句累加到 post_stats：先批量 UPDATE，未命中的文章再批量
+ * INSERT（已删除的文章被跳过）。写入失败时增量放回内存，下次重试；应用关闭时最后写入一次。
+ * 阅读数不属于公开内容，写入事务提交后不设置读写分离的写入屏障，不会让公开页面的读取回到主库。</p>
+ *
+ * <p>文章是否存在与已持久化的阅读数由同一条查询取得并缓存（不存在的文章同样缓存），上报接口在缓存
+ * 命中时不访问数据库；文章新建、删除或批量导入后按变更事件淘汰对应条目。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class ViewCounter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCounter.class);
+
+    private static final String UPDATE_SQL =
+            "update post_stats set views = views + ?, update_time = ? where post_id = ?";
+
+    private static final String INSERT_SQL = "insert into post_stats (post_id, views, update_time) "
+            + "select ?, ?, ? where exists (select 1 from posts where id = ?)";
+
+    private static final String LOOKUP_SQL = "select coalesce(s.views, 0) from posts p "
+            + "left join post_stats s on s.post_id = p.id where p.id = ?";
+
+    /**
+     * 缓存中表示文章不存在的值
+     */
+    private static final long MISSING = -1L;
+
+    private final LongAdderMap pending = new LongAdderMap(Runtime.getRuntime().availableProcessors() * 4);
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Cache<Long, Long> persisted;
+    private final Timer flushTimer;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 构造函数，启用时开始定期写入
+     *
+     * @param jdbcTemplate          JDBC 模板
+     * @param transactionTemplate   事务模板
+     * @param viewCounterProperties 阅读数配置
+     * @param meterRegistry         指标注册表
+     */
+    public ViewCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       ViewCounterProperties viewCounterProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = viewCounterProperties.enabled();
+        this.persisted = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(viewCounterProperties.displayTtl())
+                .build();
+        this.flushTimer = Timer.builder("blog.views.flush")
+                .description("阅读数批量写入耗时")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-counter-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            long interval = viewCounterProperties.flushInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 是否统计阅读数
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 记录一次阅读
+     *
+     * @param postId 文章ID
+     */
+    public void record(long postId) {
+        if (enabled) {
+            pending.increment(postId);
+        }
+    }
+
+    /**
+     * 文章是否存在，结果与阅读数一起缓存
+     *
+     * @param postId 文章ID
+     * @return 是否存在
+     */
+    public boolean exists(long postId) {
+        return stored(postId) != MISSING;
+    }
+
+    /**
+     * 获取文章阅读数：本节点缓存的已持久化值加上尚未写入的本地增量
+     *
+     * @param postId 文章ID
+     * @return 阅读数
+     */
+    public long views(long postId) {
+        long stored = stored(postId);
+        return (stored == MISSING ? 0L : stored) + pending.sum(postId);
+    }
+
+    /**
+     * 文章新建、删除或批量变更后淘汰缓存的存在性与阅读数，避免把新文章当作不存在、为已删除的文章继续计数
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, DELETED -> persisted.invalidate(event.postId());
+            case BULK -> persisted.invalidateAll();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 本节点缓存的已持久化阅读数，未命中时查询一次
+     *
+     * @param postId 文章ID
+     * @return 已持久化的阅读数，文章不存在时为 {@link #MISSING}
+     */
+    private long stored(long postId) {
+        return persisted.get(postId, id -> {
+            List<Long> views = jdbcTemplate.queryForList(LOOKUP_SQL, Long.class, id);
+            return views.isEmpty() ? MISSING : views.get(0);
+        });
+    }
+
+    /**
+     * 把内存中的增量批量写入数据库
+     *
+     * @return 写入的文章数
+     */
+    public synchronized int flush() {
+        Increments increments = new Increments();
+        pending.drain(increments::add);
+        if (increments.size == 0) {
+            return 0;
+        }
+        long[] ids = Arrays.copyOf(increments.ids, increments.size);
+        long[] deltas = Arrays.copyOf(increments.deltas, increments.size);
+        try {
+            flushTimer.record(() -> ReadWriteRoutingDataSource.withoutWriteFence(
+                    () -> transactionTemplate.execute(status -> {
+                        write(ids, deltas);
+                        return null;
+                    })));
+        } catch (DataAccessException e) {
+            for (int i = 0; i < ids.length; i++) {
+                pending.add(ids[i], deltas[i]);
+            }
+            log.warn("阅读数写入失败，{} 篇文章的增量留待下次写入: {}", ids.length, e.getMessage());
+            return 0;
+        }
+        for (int i = 0; i < ids.length; i++) {
+            long delta = deltas[i];
+            persisted.asMap().computeIfPresent(ids[i], (id, stored) -> stored == MISSING ? stored : stored + delta);
+        }
+        return ids.length;
+    }
+
+    /**
+     * 在当前事务内批量累加：先更新已有行，再为未命中的文章插入新行
+     *
+     * @param ids    文章ID
+     * @param deltas 对应的增量
+     */
+    private void write(long[] ids, long[] deltas) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> updates = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            updates.add(new Object[]{deltas[i], now, ids[i]});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(new Object[]{ids[i], deltas[i], now, ids[i]});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    /**
+     * 定期写入，异常只记录日志
+     */
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("阅读数写入失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 应用关闭时停止定期写入，并把剩余增量写入数据库
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        if (enabled) {
+            int flushed = flush();
+            if (flushed > 0) {
+                log.info("关闭前已写入 {} 篇文章的阅读数", flushed);
+            }
+        }
+    }
+
+    /**
+     * 一次写入的增量，使用基本类型数组收集
+     */
+    private static final class Increments {
+
+        private long[] ids = new long[64];
+        private long[] deltas = new long[64];
+        private int size;
+
+        /**
+         * 追加一篇文章的增量
+         *
+         * @param id    文章ID
+         * @param delta 增量
+         */
+        void add(long id, long delta) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                deltas = Arrays.copyOf(deltas, size * 2);
+            }
+            ids[size] = id;
+            deltas[size] = delta;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.transfer;
+
+/**
+ * 批量导入结果
+ *
+ * @param imported      导入的文章数
+ * @param batches       提交的事务数
+ * @param elapsedMillis 耗时（毫秒）
+ * @author Weijue
+ */
+public record ImportResult(int imported, int batches, long elapsedMillis) {
+}
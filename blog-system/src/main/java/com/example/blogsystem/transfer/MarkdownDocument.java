@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.transfer;
+
+import com.example.blogsystem.dto.PostRecord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * zip 导入导出中单篇文章的文件格式：YAML front matter 加 Markdown 正文
+ *
+ * <pre>
+ * ---
+ * title: "标题"
+ * author: "Weijue"
+ * date: 2025-01-01T12:00:00
+ * slug: "biao-ti"
+ * tags: ["Java", "Spring Boot"]
+ * ---
+ *
+ * 正文
+ * </pre>
+ *
+ * <p>只支持单行 {@code key: value}；带引号的值按 JSON 字符串解析（也是合法的 YAML 双引号字符串）。
+ * 标签写作 JSON 数组（也是合法的 YAML 流式序列），导入时也接受 {@code [Java, Spring Boot]} 与逗号分隔的写法。
+ * 缺少 front matter 时，标题取正文中第一个一级标题，再退回文件名。</p>
+ *
+ * @author Weijue
+ */
+final class MarkdownDocument {
+
+    private static final String DELIMITER = "---";
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    private MarkdownDocument() {
+    }
+
+    /**
+     * 生成文件内容
+     *
+     * @param record       文章
+     * @param objectMapper 用于转义字符串值
+     * @return 文件内容
+     */
+    static String format(PostRecord record, ObjectMapper objectMapper) {
+        try {
+            StringBuilder text = new StringBuilder(record.content().length() + 256);
+            text.append(DELIMITER).append('\n')
+                    .append("title: ").append(objectMapper.writeValueAsString(record.title())).append('\n')
+                    .append("author: ").append(objectMapper.writeValueAsString(record.author())).append('\n')
+                    .append("date: ").append(record.createTime()).append('\n');
+            if (record.slug() != null) {
+                text.append("slug: ").append(objectMapper.writeValueAsString(record.slug())).append('\n');
+            }
+            if (!record.tags().isEmpty()) {
+                text.append("tags: ").append(objectMapper.writeValueAsString(record.tags())).append('\n');
+            }
+            return text.append(DELIMITER).append("\n\n").append(record.content()).toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 解析文件内容
+     *
+     * @param fileName     文件名，用作标题的最后退路
+     * @param text         文件内容
+     * @param objectMapper 用于解析带引号的值
+     * @return 文章（id 为空）
+     */
+    static PostRecord parse(String fileName, String text, ObjectMapper objectMapper) {
+        String normalized = text.replace("\r\n", "\n");
+        if (normalized.startsWith("\uFEFF")) {
+            normalized = normalized.substring(1);
+        }
+        String title = null;
+        String author = null;
+        String slug = null;
+        LocalDateTime createTime = null;
+        List<String> tags = List.of();
+        String body = normalized;
+        if (normalized.startsWith(DELIMITER + "\n")) {
+            int end = normalized.indexOf("\n" + DELIMITER, DELIMITER.length());
+            if (end < 0) {
+                throw new IllegalArgumentException(fileName + "：front matter 未闭合");
+            }
+            for (String line : normalized.substring(DELIMITER.length() + 1, end).split("\n")) {
+                int colon = line.indexOf(':');
+                if (colon <= 0) {
+                    continue;
+                }
+                String raw = line.substring(colon + 1).trim();
+                switch (line.substring(0, colon).trim()) {
+                    case "title" -> title = unquote(raw, fileName, objectMapper);
+                    case "author" -> author = unquote(raw, fileName, objectMapper);
+                    case "slug" -> slug = unquote(raw, fileName, objectMapper);
+                    case "date" -> createTime = parseDate(unquote(raw, fileName, objectMapper), fileName);
+                    case "tags" -> tags = parseTags(raw, fileName, objectMapper);
+                    default -> {
+                        // 其他字段不导入
+                    }
+                }
+            }
+            int bodyStart = normalized.indexOf('\n', end + 1);
+            body = bodyStart < 0 ? "" : normalized.substring(bodyStart + 1);
+            if (body.startsWith("\n")) {
+                body = body.substring(1);
+            }
+        }
+        if (title == null || title.isBlank()) {
+            title = firstHeading(body);
+        }
+        if (title == null) {
+            int slash = fileName.lastIndexOf('/');
+            int dot = fileName.lastIndexOf('.');
+            title = fileName.substring(slash + 1, dot > slash ? dot : fileName.length());
+        }
+        return new PostRecord(null, title, author, createTime, slug, body, tags);
+    }
+
+    /**
+     * 解析标签列表：{@code ["a", "b"]}、{@code [a, b]} 或 {@code a, b}
+     *
+     * @param value        原始值
+     * @param fileName     文件名，用于错误信息
+     * @param objectMapper 用于解析 JSON 数组与带引号的值
+     * @return 标签名，未经校验
+     */
+    private static List<String> parseTags(String value, String fileName, ObjectMapper objectMapper) {
+        String list = value;
+        if (list.startsWith("[") && list.endsWith("]")) {
+            try {
+                return objectMapper.readValue(list, STRING_LIST);
+            } catch (JsonProcessingException e) {
+                // 不是 JSON 数组，按 YAML 流式序列中的普通标量处理
+                list = list.substring(1, list.length() - 1);
+            }
+        }
+        List<String> tags = new ArrayList<>();
+        for (String item : list.split(",")) {
+            String tag = unquote(item.trim(), fileName, objectMapper);
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 去掉值两侧的引号
+     *
+     * @param value        原始值
+     * @param fileName     文件名，用于错误信息
+     * @param objectMapper 用于解析 JSON 字符串
+     * @return 值，空串视为未填写
+     */
+    private static String unquote(String value, String fileName, ObjectMapper objectMapper) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            try {
+                return objectMapper.readValue(value, String.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(fileName + "：无法解析 " + value, e);
+            }
+        }
+        if (value.length() >= 2 && value.startsWith("'") && value.endsWith("'")) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 解析日期，支持 {@code 2025-01-01T12:00:00}、{@code 2025-01-01 12:00:00} 与 {@code 2025-01-01}
+     *
+     * @param value    日期文本
+     * @param fileName 文件名，用于错误信息
+     * @return 创建时间
+     */
+    private static LocalDateTime parseDate(String value, String fileName) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() == 10
+                    ? LocalDate.parse(value).atStartOfDay()
+                    : LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(fileName + "：无法解析日期 " + value, e);
+        }
+    }
+
+    /**
+     * 查找正文中的第一个一级标题
+     *
+     * @param body Markdown 正文
+     * @return 标题文本，没有时为 {@code null}
+     */
+    private static String firstHeading(String body) {
+        for (String line : body.split("\n", 50)) {
+            if (line.startsWith("# ") && !line.substring(2).isBlank()) {
+                return line.substring(2).trim();
+            }
+        }
+        return null;
+    }
+}
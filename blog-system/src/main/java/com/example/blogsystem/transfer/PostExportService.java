@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.transfer;
+
+import com.example.blogsystem.config.TransferProperties;
+import com.example.blogsystem.dto.PostRecord;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.TaxonomyService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 文章批量导出服务
+ *
+ * <p>按 id 键集分批查询（只选取导出所需的列，不含渲染结果），每批的标签名再以一次查询补齐，
+ * 写出后即丢弃，内存占用与文章总数无关。导出格式与 {@link PostImportService} 的导入格式一致。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class PostExportService {
+
+    private final PostRepository postRepository;
+    private final TaxonomyService taxonomyService;
+    private final ObjectMapper objectMapper;
+    private final TransferProperties transferProperties;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository     文章仓储
+     * @param taxonomyService    标签与归档服务
+     * @param objectMapper       JSON 序列化器
+     * @param transferProperties 导入导出配置
+     */
+    public PostExportService(PostRepository postRepository, TaxonomyService taxonomyService,
+                             ObjectMapper objectMapper, TransferProperties transferProperties) {
+        this.postRepository = postRepository;
+        this.taxonomyService = taxonomyService;
+        this.objectMapper = objectMapper;
+        this.transferProperties = transferProperties;
+    }
+
+    /**
+     * 导出为 NDJSON，每行一篇文章
+     *
+     * @param out 输出流，调用方负责关闭
+     * @throws IOException 写出失败
+     */
+    public void exportNdjson(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PostRecord.class);
+        forEachBatch(batch -> {
+            for (PostRecord record : batch) {
+                out.write(writer.writeValueAsBytes(record));
+                out.write('\n');
+            }
+        });
+        out.flush();
+    }
+
+    /**
+     * 导出为 zip，每篇文章一个 {@code posts/<slug>.md} 文件
+     *
+     * @param out 输出流，调用方负责关闭
+     * @throws IOException 写出失败
+     */
+    public void exportZip(OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        forEachBatch(batch -> {
+            for (PostRecord record : batch) {
+                ZipEntry entry = new ZipEntry("posts/" + (record.slug() != null ? record.slug() : "post-" + record.id())
+                        + ".md");
+                entry.setTime(record.createTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                zip.putNextEntry(entry);
+                zip.write(MarkdownDocument.format(record, objectMapper).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        });
+        zip.finish();
+        zip.flush();
+    }
+
+    /**
+     * 按 id 顺序分批遍历全部文章，每批补齐标签名
+     *
+     * @param consumer 每批的处理
+     * @throws IOException 处理失败
+     */
+    private void forEachBatch(BatchConsumer consumer) throws IOException {
+        PageRequest limit = PageRequest.of(0, transferProperties.batchSize());
+        long lastId = 0L;
+        List<PostRecord> batch;
+        while (!(batch = postRepository.findRecordsAfter(lastId, limit)).isEmpty()) {
+            Map<Long, List<String>> tags = taxonomyService.tagNamesOf(batch.stream().map(PostRecord::id).toList());
+            consumer.accept(batch.stream()
+                    .map(record -> record.withTags(tags.getOrDefault(record.id(), List.of())))
+                    .toList());
+            lastId = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    /**
+     * 导出批次处理
+     */
+    @FunctionalInterface
+    private interface BatchConsumer {
+
+        /**
+         * 处理一批记录
+         *
+         * @param batch 记录
+         * @throws IOException 写出失败
+         */
+        void accept(List<PostRecord> batch) throws IOException;
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.transfer;
+
+import com.example.blogsystem.config.TransferProperties;
+import com.example.blogsystem.dto.PostRecord;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.service.RenderExecutor;
+import com.example.blogsystem.service.TaxonomyService;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 文章批量导入服务
+ *
+ * <p>边读边解析请求体，每攒够 {@code app.blog.transfer.batch-size} 篇就并行渲染 Markdown，
+ * 并在一个事务内分配短链接标识、批量插入并计入月度归档；全部完成后发布一次 {@link PostChangedEvent.ChangeType#BULK}
+ * 事件，由检索、订阅源与静态站点等整体刷新。任一篇文章格式错误时停止导入，此前已提交的批次保留。</p>
+ *
+ * @author Weijue
+ */
+@Service
+public class PostImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostImportService.class);
+
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final TaxonomyService taxonomyService;
+    private final RenderExecutor renderExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransferProperties transferProperties;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository      文章仓储
+     * @param postService         文章写入服务
+     * @param taxonomyService     标签与归档服务
+     * @param renderExecutor      并行渲染执行器
+     * @param transactionTemplate 事务模板
+     * @param eventPublisher      事件发布器
+     * @param objectMapper        JSON 解析器
+     * @param transferProperties  导入导出配置
+     */
+    public PostImportService(PostRepository postRepository, PostService postService,
+                             TaxonomyService taxonomyService, RenderExecutor renderExecutor,
+                             TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper, TransferProperties transferProperties) {
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.taxonomyService = taxonomyService;
+        this.renderExecutor = renderExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transferProperties = transferProperties;
+    }
+
+    /**
+     * 导入 NDJSON：每行一个 {@link PostRecord}
+     *
+     * @param in            请求体
+     * @param defaultAuthor 记录未填写作者时使用的作者
+     * @return 导入结果
+     * @throws IOException 读取请求体失败
+     */
+    public ImportResult importNdjson(InputStream in, String defaultAuthor) throws IOException {
+        try (MappingIterator<PostRecord> records = objectMapper.readerFor(PostRecord.class).readValues(in)) {
+            return importFrom(() -> records.hasNextValue() ? records.nextValue() : null, defaultAuthor);
+        }
+    }
+
+    /**
+     * 导入 zip：其中每个 {@code .md}/{@code .markdown} 文件为一篇文章，格式见 {@link MarkdownDocument}
+     *
+     * @param in            请求体
+     * @param defaultAuthor 文件未填写作者时使用的作者
+     * @return 导入结果
+     * @throws IOException 读取请求体失败
+     */
+    public ImportResult importZip(InputStream in, String defaultAuthor) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8)) {
+            return importFrom(() -> nextMarkdown(zip), defaultAuthor);
+        }
+    }
+
+    /**
+     * 导入程序生成的记录，如合成数据
+     *
+     * @param records       记录
+     * @param defaultAuthor 记录未填写作者时使用的作者
+     * @return 导入结果
+     */
+    public ImportResult importRecords(Iterator<PostRecord> records, String defaultAuthor) {
+        try {
+            return importFrom(() -> records.hasNext() ? records.next() : null, defaultAuthor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 逐条读取记录，按批写入
+     *
+     * @param source        记录来源
+     * @param defaultAuthor 缺省作者
+     * @return 导入结果
+     * @throws IOException 读取失败
+     */
+    private ImportResult importFrom(RecordSource source, String defaultAuthor) throws IOException {
+        long start = System.nanoTime();
+        int batchSize = transferProperties.batchSize();
+        List<Post> batch = new ArrayList<>(batchSize);
+        List<List<String>> tags = new ArrayList<>(batchSize);
+        int imported = 0;
+        int batches = 0;
+        try {
+            PostRecord record;
+            while ((record = next(source, imported + batch.size() + 1, imported)) != null) {
+                int index = imported + batch.size() + 1;
+                batch.add(toPost(record, defaultAuthor, index, imported));
+                tags.add(tagsOf(record, index, imported));
+                if (batch.size() == batchSize) {
+                    imported += persist(batch, tags);
+                    batches++;
+                    batch = new ArrayList<>(batchSize);
+                    tags = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                imported += persist(batch, tags);
+                batches++;
+            }
+        } finally {
+            if (imported > 0) {
+                eventPublisher.publishEvent(new PostChangedEvent(null, PostChangedEvent.ChangeType.BULK, null));
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("批量导入完成：{} 篇文章，{} 个事务，耗时 {} ms", imported, batches, elapsedMillis);
+        return new ImportResult(imported, batches, elapsedMillis);
+    }
+
+    /**
+     * 读取下一条记录，把格式错误转换为带位置的参数异常
+     *
+     * @param source   记录来源
+     * @param index    记录序号（从 1 开始）
+     * @param imported 已导入的文章数
+     * @return 记录，读完时为 {@code null}
+     * @throws IOException 读取失败
+     */
+    private static PostRecord next(RecordSource source, int index, int imported) throws IOException {
+        try {
+            return source.next();
+        } catch (JsonProcessingException | ZipException | IllegalArgumentException e) {
+            throw failure(index, imported, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 把记录转换为待保存的文章
+     *
+     * @param record        记录
+     * @param defaultAuthor 缺省作者
+     * @param index         记录序号（从 1 开始）
+     * @param imported      已导入的文章数
+     * @return 文章
+     */
+    private Post toPost(PostRecord record, String defaultAuthor, int index, int imported) {
+        if (record.title() == null || record.title().isBlank()) {
+            throw failure(index, imported, "缺少标题", null);
+        }
+        if (record.title().length() > MAX_TITLE_LENGTH) {
+            throw failure(index, imported, "标题超过 " + MAX_TITLE_LENGTH + " 个字符", null);
+        }
+        if (record.content() == null) {
+            throw failure(index, imported, "缺少正文", null);
+        }
+        if (utf8Length(record.content()) > transferProperties.maxPostSize().toBytes()) {
+            throw failure(index, imported, "正文超过 " + transferProperties.maxPostSize(), null);
+        }
+        Post post = new Post();
+        post.setTitle(record.title().trim());
+        post.setContent(record.content());
+        post.setAuthor(record.author() == null || record.author().isBlank() ? defaultAuthor : record.author());
+        post.setCreateTime(record.createTime());
+        post.setSlug(record.slug() == null || record.slug().isBlank() ? null : record.slug());
+        return post;
+    }
+
+    /**
+     * 校验记录的标签并按链接标识去重
+     *
+     * @param record   记录
+     * @param index    记录序号（从 1 开始）
+     * @param imported 已导入的文章数
+     * @return 标签名
+     */
+    private static List<String> tagsOf(PostRecord record, int index, int imported) {
+        try {
+            return TaxonomyService.normalizeTags(record.tags());
+        } catch (IllegalArgumentException e) {
+            throw failure(index, imported, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 并行渲染一批文章，然后在一个事务内分配短链接标识、批量插入，并累加归档计数、写入标签
+     *
+     * @param batch 待保存的文章
+     * @param tags  与文章一一对应的标签名
+     * @return 保存的文章数
+     */
+    private int persist(List<Post> batch, List<List<String>> tags) {
+        renderExecutor.forEach(batch, postService::render);
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.assignSlugs(batch);
+            postRepository.saveAll(batch);
+            taxonomyService.addPosts(batch, tags);
+        });
+        return batch.size();
+    }
+
+    /**
+     * 读取 zip 中的下一个 Markdown 文件，跳过目录、其他类型文件与 macOS 元数据
+     *
+     * @param zip zip 输入流
+     * @return 记录，读完时为 {@code null}
+     * @throws IOException 读取失败
+     */
+    private PostRecord nextMarkdown(ZipInputStream zip) throws IOException {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            String name = entry.getName();
+            String fileName = name.substring(name.lastIndexOf('/') + 1);
+            if (entry.isDirectory() || name.startsWith("__MACOSX/") || fileName.startsWith(".")
+                    || !(name.endsWith(".md") || name.endsWith(".markdown"))) {
+                continue;
+            }
+            return MarkdownDocument.parse(name, readEntry(zip, name), objectMapper);
+        }
+        return null;
+    }
+
+    /**
+     * 读取当前 zip 条目，超过单篇大小上限时报错
+     *
+     * @param zip  zip 输入流
+     * @param name 条目名，用于错误信息
+     * @return 条目文本
+     * @throws IOException 读取失败
+     */
+    private String readEntry(ZipInputStream zip, String name) throws IOException {
+        long limit = transferProperties.maxPostSize().toBytes();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = zip.read(chunk)) > 0) {
+            if (buffer.size() + read > limit) {
+                throw new IllegalArgumentException(name + "：文件超过 " + transferProperties.maxPostSize());
+            }
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 计算文本按 UTF-8 编码后的字节数，与 zip 导入按文件字节计量的上限一致，且不必先编码出字节数组
+     *
+     * @param text 文本
+     * @return UTF-8 字节数
+     */
+    static long utf8Length(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // 不成对的代理项按 String.getBytes 的行为替换为单字节 '?'
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 构造导入失败异常
+     *
+     * @param index    出错的记录序号（从 1 开始）
+     * @param imported 此前已导入的文章数
+     * @param reason   原因
+     * @param cause    原始异常
+     * @return 参数异常
+     */
+    private static IllegalArgumentException failure(int index, int imported, String reason, Exception cause) {
+        return new IllegalArgumentException(
+                "第 " + index + " 篇文章导入失败（此前已导入 " + imported + " 篇）：" + reason, cause);
+    }
+
+    /**
+     * 导入记录来源
+     */
+    @FunctionalInterface
+    private interface RecordSource {
+
+        /**
+         * 读取下一条记录
+         *
+         * @return 记录，读完时为 {@code null}
+         * @throws IOException 读取失败
+         */
+        PostRecord next() throws IOException;
+    }
+}
@@ -3,31 +3,94 @@
  */
 package com.example.blogsystem.util;
 
+import com.example.blogsystem.highlight.CodeHighlighter;
+import com.example.blogsystem.highlight.HighlightingCodeBlockRenderer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.commonmark.Extension;
 import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Document;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.IndentedCodeBlock;
 import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 
 /**
  * Markdown 格式转换工具类
  *
+ * <p>CommonMark 的 {@link Parser} 与 {@link HtmlRenderer} 构建后不可变，每次 parse/render
+ * 都创建独立的解析与渲染状态，CommonMark 明确支持构建一次后在多个线程间复用，因此单例可被并发调用。</p>
+ *
  * @author Weijue
  */
 @Component
 public class MarkdownUtil {
 
+    /**
+     * 渲染器版本，解析器扩展或渲染选项变化时需递增，以触发已存储 HTML 的重新渲染
+     */
+    public static final int RENDERER_VERSION = 3;
+
+    /**
+     * 节选的文本长度上限（字符数），修改后需递增 {@link #RENDERER_VERSION}
+     */
+    public static final int EXCERPT_LENGTH = 280;
+
+    /**
+     * 渲染耗时指标名
+     */
+    public static final String RENDER_TIMER = "blog.markdown.render";
+
+    /**
+     * 小文本上限（字符数），不超过该值计入 small 分桶
+     */
+    private static final int SMALL_LIMIT = 4 * 1024;
+
+    /**
+     * 中等文本上限（字符数），不超过该值计入 medium 分桶，其余计入 large
+     */
+    private static final int MEDIUM_LIMIT = 64 * 1024;
+
     private final Parser parser;
     private final HtmlRenderer renderer;
+    private final Timer smallTimer;
+    private final Timer mediumTimer;
+    private final Timer largeTimer;
 
     /**
-     * 构造函数，初始化 Markdown 解析器和渲染器
+     * 构造函数，不上报指标（用于基准测试等脱离容器的场景）
      */
     public MarkdownUtil() {
+        this(new CompositeMeterRegistry(), new CodeHighlighter());
+    }
+
+    /**
+     * 构造函数，初始化 Markdown 解析器和渲染器，围栏代码块在服务端着色
+     *
+     * @param meterRegistry   指标注册表
+     * @param codeHighlighter 代码块着色服务
+     */
+    @Autowired
+    public MarkdownUtil(MeterRegistry meterRegistry, CodeHighlighter codeHighlighter) {
         List<Extension> extensions = Arrays.asList(TablesExtension.create());
         this.parser = Parser.builder()
                 .extensions(extensions)
@@ -36,7 +99,11 @@ public class MarkdownUtil {
                 .extensions(extensions)
                 .escapeHtml(true)
                 .sanitizeUrls(true)
+                .nodeRendererFactory(context -> new HighlightingCodeBlockRenderer(context, codeHighlighter))
                 .build();
+        this.smallTimer = renderTimer(meterRegistry, "small");
+        this.mediumTimer = renderTimer(meterRegistry, "medium");
+        this.largeTimer = renderTimer(meterRegistry, "large");
     }
 
     /**
@@ -49,7 +116,228 @@ public class MarkdownUtil {
         if (markdown == null) {
             return "";
         }
-        Node document = parser.parse(markdown);
-        return renderer.render(document);
+        return timerFor(markdown).record(() -> renderer.render(parser.parse(markdown)));
+    }
+
+    /**
+     * 解析一次 Markdown，同时生成全文与节选 HTML
+     *
+     * @param markdown Markdown 格式的文本
+     * @return 渲染结果
+     */
+    public RenderedMarkdown render(String markdown) {
+        if (markdown == null) {
+            return new RenderedMarkdown("", "");
+        }
+        return timerFor(markdown).record(() -> {
+            Node document = parser.parse(markdown);
+            String html = renderer.render(document);
+            // 节选节点从原文档树中摘出，必须在全文渲染之后进行
+            return new RenderedMarkdown(html, renderer.render(excerpt(document)));
+        });
+    }
+
+    /**
+     * 按输入大小选择计时器
+     *
+     * @param markdown Markdown 格式的文本
+     * @return 计时器
+     */
+    private Timer timerFor(String markdown) {
+        int length = markdown.length();
+        return length <= SMALL_LIMIT ? smallTimer : length <= MEDIUM_LIMIT ? mediumTimer : largeTimer;
+    }
+
+    /**
+     * 从文档开头截取完整的块，直到文本长度达到 {@link #EXCERPT_LENGTH}；
+     * 第一个块就超出上限时截断该块（代码块按行截断，其余块退化为纯文本段落）
+     *
+     * @param document 已渲染过的文档，调用后其中的节点会被移动
+     * @return 节选文档
+     */
+    private static Node excerpt(Node document) {
+        Document excerpt = new Document();
+        int remaining = EXCERPT_LENGTH;
+        Node block = document.getFirstChild();
+        while (block != null && remaining > 0) {
+            Node next = block.getNext();
+            PlainText text = PlainText.of(block, remaining + 1);
+            if (text.length() <= remaining) {
+                excerpt.appendChild(block);
+                remaining -= text.length();
+            } else {
+                if (excerpt.getFirstChild() == null) {
+                    excerpt.appendChild(truncate(block, text.toString(), remaining));
+                }
+                break;
+            }
+            block = next;
+        }
+        return excerpt;
+    }
+
+    /**
+     * 截断超出节选长度的块
+     *
+     * @param block  块节点
+     * @param text   块的纯文本（可能已被截断）
+     * @param length 保留的字符数
+     * @return 截断后的块
+     */
+    private static Node truncate(Node block, String text, int length) {
+        if (block instanceof FencedCodeBlock code) {
+            code.setLiteral(truncateLines(code.getLiteral(), length));
+            return code;
+        }
+        if (block instanceof IndentedCodeBlock code) {
+            code.setLiteral(truncateLines(code.getLiteral(), length));
+            return code;
+        }
+        Paragraph paragraph = new Paragraph();
+        paragraph.appendChild(new Text(cut(text, length).stripTrailing() + "…"));
+        return paragraph;
+    }
+
+    /**
+     * 按整行截断代码，首行即超长时按字符截断
+     *
+     * @param literal 代码
+     * @param length  保留的字符数
+     * @return 截断后的代码
+     */
+    private static String truncateLines(String literal, int length) {
+        String head = cut(literal, length);
+        int lastNewline = head.lastIndexOf('\n');
+        return lastNewline > 0 ? head.substring(0, lastNewline + 1) : head + "\n";
+    }
+
+    /**
+     * 截取前 length 个字符，不拆分代理对
+     *
+     * @param text   文本
+     * @param length 保留的字符数
+     * @return 截取结果
+     */
+    private static String cut(String text, int length) {
+        if (text.length() <= length) {
+            return text;
+        }
+        int end = Character.isHighSurrogate(text.charAt(length - 1)) ? length - 1 : length;
+        return text.substring(0, end);
+    }
+
+    /**
+     * 收集块的纯文本，超过上限后停止收集
+     */
+    private static final class PlainText extends AbstractVisitor {
+
+        private final StringBuilder text = new StringBuilder();
+        private final int limit;
+
+        private PlainText(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * 收集节点的纯文本
+         *
+         * @param node  节点
+         * @param limit 收集上限（字符数）
+         * @return 收集结果
+         */
+        static PlainText of(Node node, int limit) {
+            PlainText visitor = new PlainText(limit);
+            node.accept(visitor);
+            return visitor;
+        }
+
+        int length() {
+            return text.length();
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+
+        @Override
+        protected void visitChildren(Node parent) {
+            if (text.length() < limit) {
+                super.visitChildren(parent);
+            }
+        }
+
+        @Override
+        public void visit(Text node) {
+            append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(Code node) {
+            append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(FencedCodeBlock node) {
+            append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(IndentedCodeBlock node) {
+            append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(HtmlBlock node) {
+            append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(SoftLineBreak node) {
+            append(" ");
+        }
+
+        @Override
+        public void visit(HardLineBreak node) {
+            append(" ");
+        }
+
+        private void append(String literal) {
+            if (literal != null && text.length() < limit) {
+                text.append(literal, 0, Math.min(literal.length(), limit - text.length()));
+            }
+        }
+    }
+
+    /**
+     * 注册指定输入大小分桶的渲染耗时直方图
+     *
+     * @param meterRegistry 指标注册表
+     * @param size          输入大小分桶
+     * @return 计时器
+     */
+    private static Timer renderTimer(MeterRegistry meterRegistry, String size) {
+        return Timer.builder(RENDER_TIMER)
+                .description("Markdown 解析与渲染耗时")
+                .tag("size", size)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 计算 Markdown 源内容的摘要
+     *
+     * @param markdown Markdown 格式的文本
+     * @return SHA-256 十六进制摘要
+     */
+    public static String contentHash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((markdown == null ? "" : markdown)
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 文章分页游标，由 (createTime, id) 组成，用于键集（seek）分页
+ *
+ * <p>编码格式为 {@code <epochMicros>_<id>}，epochMicros 以 UTC 偏移换算，仅作为编码使用。</p>
+ *
+ * @param createTime 创建时间
+ * @param id         文章ID
+ * @author Weijue
+ */
+public record PostCursor(LocalDateTime createTime, long id) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    /**
+     * 将游标编码为 URL 参数值
+     *
+     * @return 编码后的游标
+     */
+    public String encode() {
+        return ChronoUnit.MICROS.between(EPOCH, createTime) + "_" + id;
+    }
+
+    /**
+     * 解析 URL 参数中的游标
+     *
+     * @param value 编码后的游标
+     * @return 游标；参数为空或格式非法时返回 {@code null}
+     */
+    public static PostCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.indexOf('_');
+        if (separator <= 0 || separator == value.length() - 1) {
+            return null;
+        }
+        try {
+            long micros = Long.parseLong(value.substring(0, separator));
+            long id = Long.parseLong(value.substring(separator + 1));
+            return new PostCursor(EPOCH.plus(micros, ChronoUnit.MICROS), id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
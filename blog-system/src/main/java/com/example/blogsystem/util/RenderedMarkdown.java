@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.util;
+
+/**
+ * 一次 Markdown 解析产生的渲染结果
+ *
+ * @param html        全文 HTML
+ * @param excerptHtml 节选 HTML（开头若干块，总文本不超过 {@link MarkdownUtil#EXCERPT_LENGTH} 个字符）
+ * @author Weijue
+ */
+public record RenderedMarkdown(String html, String excerptHtml) {
+}
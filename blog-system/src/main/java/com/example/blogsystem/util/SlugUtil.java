@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 文章短链接标识生成工具类
+ *
+ * <p>保留各语言的字母与数字（中文标题不做拼音转换，链接中按 UTF-8 百分号编码），
+ * 其余字符统一折叠为连字符，例如 {@code "Spring Boot 实战笔记"} 生成 {@code "spring-boot-实战笔记"}。</p>
+ *
+ * @author Weijue
+ */
+public final class SlugUtil {
+
+    /**
+     * 生成的标识最大长度（字符数）
+     */
+    public static final int MAX_LENGTH = 80;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SlugUtil() {
+    }
+
+    /**
+     * 由标题生成短链接标识
+     *
+     * @param title 文章标题
+     * @return 短链接标识；标题中没有字母或数字时返回 {@code "post"}
+     */
+    public static String slugify(String title) {
+        String normalized = Normalizer.normalize(title == null ? "" : title, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+        String slug = SEPARATORS.matcher(normalized).replaceAll("-");
+        if (slug.length() > MAX_LENGTH) {
+            slug = slug.substring(0, Character.isHighSurrogate(slug.charAt(MAX_LENGTH - 1))
+                    ? MAX_LENGTH - 1 : MAX_LENGTH);
+        }
+        slug = trimHyphens(slug);
+        return slug.isEmpty() ? "post" : slug;
+    }
+
+    /**
+     * 去除首尾连字符
+     *
+     * @param slug 标识
+     * @return 处理结果
+     */
+    private static String trimHyphens(String slug) {
+        int start = 0;
+        int end = slug.length();
+        while (start < end && slug.charAt(start) == '-') {
+            start++;
+        }
+        while (end > start && slug.charAt(end - 1) == '-') {
+            end--;
+        }
+        return slug.substring(start, end);
+    }
+}
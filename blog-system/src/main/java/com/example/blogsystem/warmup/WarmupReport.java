@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.warmup;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 启动预热报告
+ *
+ * @param steps   按执行顺序排列的预热步骤
+ * @param elapsed 总耗时
+ * @author Weijue
+ */
+public record WarmupReport(List<Step> steps, Duration elapsed) {
+
+    /**
+     * 单个预热步骤
+     *
+     * @param name    步骤名
+     * @param count   完成的操作数
+     * @param elapsed 耗时
+     */
+    public record Step(String name, int count, Duration elapsed) {
+    }
+
+    /**
+     * 格式化为日志中的表格
+     *
+     * @return 每个步骤一行的表格
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format("%-10s %8s %10s", "step", "count", "millis"));
+        for (Step step : steps) {
+            table.append(String.format("%n%-10s %8d %10d", step.name(), step.count(), step.elapsed().toMillis()));
+        }
+        table.append(String.format("%n%-10s %8s %10d", "total", "", elapsed.toMillis()));
+        return table.toString();
+    }
+}
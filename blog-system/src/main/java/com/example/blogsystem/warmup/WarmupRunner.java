@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.warmup;
+
+import com.example.blogsystem.config.WarmupProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PublicPageService;
+import com.example.blogsystem.service.RenderCache;
+import com.example.blogsystem.util.MarkdownUtil;
+import com.example.blogsystem.util.PostCursor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 启动预热：在实例报告就绪之前预加载缓存并让渲染路径上的代码完成 JIT 编译
+ *
+ * <p>作为最后一个 {@link ApplicationRunner} 执行（在示例数据与合成数据之后）。Spring Boot 在全部 Runner
+ * 与 {@code ApplicationReadyEvent} 监听器执行完之后才把就绪状态切换为 {@code ACCEPTING_TRAFFIC}，
+ * 因此预热期间 {@code /actuator/health/readiness} 返回 503，负载均衡不会把流量转发过来。依次执行：</p>
+ * <ol>
+ *     <li>{@code posts}：查询最新 N 篇文章（填充二级缓存与查询缓存），正文经渲染缓存渲染，
+ *     渲染器版本升级后存储的 HTML 全部过期时，文章页直接命中缓存；</li>
+ *     <li>{@code markdown}：绕过缓存对这些文章的正文重复渲染，训练 CommonMark 与代码高亮；</li>
+ *     <li>{@code templates}：经本机回环各请求一次首页、文章页、检索页与登录页，解析公开页面模板并
+ *     填充模板缓存；管理页模板需要登录，在首次访问时解析；</li>
+ *     <li>{@code pages}：按轮数交替请求首页与文章页，训练过滤链、控制器与模板渲染。</li>
+ * </ol>
+ * <p>页面请求带 {@code Sec-Purpose: prefetch}，且不执行页面脚本，不会上报阅读数；没有内嵌 Web 服务器时跳过页面请求。
+ * 预热失败只记录日志，不阻止启动。各步骤耗时记录到 {@code blog.warmup} 指标并以表格输出到日志。</p>
+ *
+ * @author Weijue
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final PostRepository postRepository;
+    private final PublicPageService publicPageService;
+    private final RenderCache renderCache;
+    private final MarkdownUtil markdownUtil;
+    private final WarmupProperties warmupProperties;
+    private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
+    private volatile WarmupReport report;
+
+    /**
+     * 构造函数
+     *
+     * @param postRepository     文章仓储
+     * @param publicPageService  公开页面数据服务
+     * @param renderCache        渲染结果缓存
+     * @param markdownUtil       Markdown 工具
+     * @param warmupProperties   预热配置
+     * @param applicationContext 应用上下文，用于获取内嵌 Web 服务器的端口
+     * @param meterRegistry      指标注册表
+     */
+    public WarmupRunner(PostRepository postRepository, PublicPageService publicPageService, RenderCache renderCache,
+                        MarkdownUtil markdownUtil, WarmupProperties warmupProperties,
+                        ApplicationContext applicationContext, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.publicPageService = publicPageService;
+        this.renderCache = renderCache;
+        this.markdownUtil = markdownUtil;
+        this.warmupProperties = warmupProperties;
+        this.applicationContext = applicationContext;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (warmupProperties.enabled()) {
+            try {
+                warmUp();
+            } catch (RuntimeException e) {
+                log.warn("启动预热失败，跳过剩余步骤: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 执行全部预热步骤
+     *
+     * @return 预热报告
+     */
+    public WarmupReport warmUp() {
+        long start = System.nanoTime();
+        List<WarmupReport.Step> steps = new ArrayList<>();
+        List<Post> posts = new ArrayList<>();
+        steps.add(step("posts", () -> preloadPosts(posts)));
+        steps.add(step("markdown", () -> renderMarkdown(posts)));
+        URI base = baseUri();
+        if (base != null) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(warmupProperties.requestTimeout())
+                    .build();
+            List<String> postPaths = posts.stream().map(post -> "/posts/" + post.getId()).toList();
+            List<String> templatePaths = new ArrayList<>(List.of("/", "/search?q=warmup", "/login"));
+            if (!postPaths.isEmpty()) {
+                templatePaths.add(1, postPaths.get(0));
+            }
+            steps.add(step("templates", () -> request(client, base, templatePaths)));
+            steps.add(step("pages", () -> {
+                List<String> paths = new ArrayList<>();
+                for (int i = 0; i < warmupProperties.iterations(); i++) {
+                    paths.add("/");
+                    if (!postPaths.isEmpty()) {
+                        paths.add(postPaths.get(i % postPaths.size()));
+                    }
+                }
+                return request(client, base, paths);
+            }));
+        }
+        report = new WarmupReport(List.copyOf(steps), Duration.ofNanos(System.nanoTime() - start));
+        log.info("启动预热完成，耗时 {} ms{}{}", report.elapsed().toMillis(), System.lineSeparator(), report.format());
+        return report;
+    }
+
+    /**
+     * 获取最近一次预热的报告
+     *
+     * @return 预热报告；尚未预热或未启用时为 null
+     */
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    /**
+     * 执行一个预热步骤并计时
+     *
+     * @param name   步骤名
+     * @param action 预热操作，返回完成的操作数
+     * @return 步骤结果
+     */
+    private WarmupReport.Step step(String name, IntSupplier action) {
+        long start = System.nanoTime();
+        int count = action.getAsInt();
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("blog.warmup")
+                .description("启动预热各步骤耗时")
+                .tag("step", name)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsed));
+        return new WarmupReport.Step(name, count, Duration.ofNanos(elapsed));
+    }
+
+    /**
+     * 查询最新的文章页与首页第一页，并把文章正文渲染进渲染缓存
+     *
+     * @param posts 收集查询到的文章，供后续步骤使用
+     * @return 预渲染的文章数
+     */
+    private int preloadPosts(List<Post> posts) {
+        if (warmupProperties.posts() > 0) {
+            for (PostCursor key : postRepository.findLatestKeys(PageRequest.of(0, warmupProperties.posts()))) {
+                publicPageService.postPage(key.id()).ifPresent(post -> {
+                    renderCache.render(post.getContent());
+                    posts.add(post);
+                });
+            }
+        }
+        publicPageService.indexPage(null, null);
+        return posts.size();
+    }
+
+    /**
+     * 绕过缓存重复渲染文章正文
+     *
+     * @param posts 文章
+     * @return 渲染次数
+     */
+    private int renderMarkdown(List<Post> posts) {
+        int rendered = 0;
+        for (int i = 0; i < warmupProperties.iterations(); i++) {
+            for (Post post : posts) {
+                markdownUtil.render(post.getContent());
+                rendered++;
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * 经本机回环依次请求页面，遇到无法连接时停止
+     *
+     * @param client HTTP 客户端
+     * @param base   应用根地址
+     * @param paths  相对路径
+     * @return 返回 200 的请求数
+     */
+    private int request(HttpClient client, URI base, List<String> paths) {
+        int succeeded = 0;
+        for (String path : paths) {
+            HttpRequest request = HttpRequest.newBuilder(base.resolve(path.substring(1)))
+                    .header("Sec-Purpose", "prefetch")
+                    .timeout(warmupProperties.requestTimeout())
+                    .build();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    succeeded++;
+                } else {
+                    log.warn("预热请求 {} 返回 {}", path, status);
+                }
+            } catch (IOException e) {
+                log.warn("预热请求 {} 失败，跳过剩余请求: {}", path, e.getMessage());
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * 获取内嵌 Web 服务器的本机根地址
+     *
+     * @return 以 / 结尾的根地址；没有内嵌 Web 服务器时为 null
+     */
+    private URI baseUri() {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)) {
+            return null;
+        }
+        WebServer webServer = webContext.getWebServer();
+        if (webServer == null || webServer.getPort() <= 0) {
+            return null;
+        }
+        String contextPath = applicationContext.getEnvironment().getProperty("server.servlet.context-path", "");
+        return URI.create("http://localhost:" + webServer.getPort() + contextPath + "/");
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 文章主键由自增列改为序列，使 Hibernate 可以预取主键并批量插入
+ *
+ * <p>序列步长与实体的 {@code allocationSize} 一致（50）。Hibernate 的 pooled 优化器把取到的序列值当作
+ * 一段主键的上界，因此起始值取现有最大主键 + 50，第一段恰好从最大主键 + 1 开始。起始值依赖表中数据，
+ * SQL 脚本无法在 H2 与 PostgreSQL 上通用地表达，故使用 Java 迁移。</p>
+ *
+ * <p>同时去掉列上的自增属性：手写的 {@code INSERT} 若仍由数据库分配主键，会与 Hibernate 预取的主键段冲突。</p>
+ *
+ * @author Weijue
+ */
+public class V6__posts_id_sequence extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM posts")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE posts_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("ALTER TABLE posts ALTER COLUMN id DROP IDENTITY");
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- 首页键集分页按 (create_time, id) 倒序扫描，复合索引覆盖排序与游标比较
+CREATE INDEX idx_posts_create_time_id ON posts (create_time DESC, id DESC);
+
+DROP INDEX idx_posts_create_time;
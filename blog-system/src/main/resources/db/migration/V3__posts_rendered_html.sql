@@ -0,0 +1,4 @@
+-- 写入时渲染：持久化 Markdown 渲染结果及其源内容摘要、渲染器版本
+ALTER TABLE posts ADD COLUMN rendered_html TEXT;
+ALTER TABLE posts ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE posts ADD COLUMN render_version INT;
@@ -0,0 +1,6 @@
+-- 最后修改时间，用于首页及文章页的条件请求（ETag / Last-Modified）校验
+ALTER TABLE posts ADD COLUMN update_time TIMESTAMP;
+UPDATE posts SET update_time = create_time;
+ALTER TABLE posts ALTER COLUMN update_time SET NOT NULL;
+
+CREATE INDEX idx_posts_update_time ON posts (update_time);
@@ -0,0 +1,8 @@
+-- 首页节选：写入时从 Markdown 语法树截取开头若干块渲染，首页不再加载全文
+ALTER TABLE posts ADD COLUMN excerpt_html TEXT;
+
+-- 文章页短链接；已有文章使用 post-<id>，新文章由标题生成
+ALTER TABLE posts ADD COLUMN slug VARCHAR(200);
+UPDATE posts SET slug = CONCAT('post-', CAST(id AS VARCHAR(20)));
+
+CREATE UNIQUE INDEX uk_posts_slug ON posts (slug);
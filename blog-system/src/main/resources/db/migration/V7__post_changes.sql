@@ -0,0 +1,11 @@
+-- 文章变更日志（发件箱）：写入事务内追加，各节点按 id 递增轮询，据此失效本地缓存
+CREATE TABLE post_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    post_id BIGINT,
+    change_type VARCHAR(16) NOT NULL,
+    previous_content_hash VARCHAR(64),
+    node_id VARCHAR(64) NOT NULL,
+    create_time TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_post_changes_create_time ON post_changes (create_time);
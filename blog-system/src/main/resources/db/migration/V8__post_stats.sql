@@ -0,0 +1,6 @@
+-- 文章阅读数：各节点在内存中累加后定期批量写入，与 posts 分表，避免热门文章行锁与二级缓存失效
+CREATE TABLE post_stats (
+    post_id BIGINT PRIMARY KEY REFERENCES posts (id) ON DELETE CASCADE,
+    views BIGINT NOT NULL DEFAULT 0,
+    update_time TIMESTAMP NOT NULL
+);
@@ -0,0 +1,31 @@
+-- 标签：post_count 在文章写入事务内增量维护，标签云不做 GROUP BY
+CREATE TABLE tags (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    slug VARCHAR(80) NOT NULL,
+    post_count INT NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX uk_tags_slug ON tags (slug);
+CREATE INDEX idx_tags_post_count ON tags (post_count DESC, name);
+
+-- 文章与标签的关联；冗余文章创建时间，按标签键集分页时由 (tag_id, create_time, post_id) 复合索引覆盖排序与游标比较
+CREATE TABLE post_tags (
+    post_id BIGINT NOT NULL REFERENCES posts (id) ON DELETE CASCADE,
+    tag_id BIGINT NOT NULL REFERENCES tags (id),
+    create_time TIMESTAMP NOT NULL,
+    PRIMARY KEY (post_id, tag_id)
+);
+
+CREATE INDEX idx_post_tags_tag_time ON post_tags (tag_id, create_time DESC, post_id DESC);
+
+-- 按月归档的文章数，同样增量维护；月份列表直接读取本表
+CREATE TABLE archive_months (
+    month_start DATE PRIMARY KEY,
+    post_count INT NOT NULL DEFAULT 0
+);
+
+INSERT INTO archive_months (month_start, post_count)
+SELECT CAST(DATE_TRUNC('month', create_time) AS DATE), COUNT(*)
+FROM posts
+GROUP BY CAST(DATE_TRUNC('month', create_time) AS DATE);
@@ -0,0 +1,29 @@
+/**
+ * 文章阅读数：页面显示后上报一次阅读，并显示接口返回的阅读数
+ *
+ * 文章页可被 304 复用，静态站点模式下直接以文件响应，阅读数因此不写入页面本身。
+ * 预渲染的页面等到真正显示时才上报。
+ */
+(function () {
+    const views = document.querySelector('.post-views[data-views-url]');
+    if (!views) {
+        return;
+    }
+
+    function report() {
+        fetch(views.dataset.viewsUrl, { method: 'POST', credentials: 'omit', keepalive: true })
+            .then(response => response.ok ? response.text() : Promise.reject(response.status))
+            .then(count => {
+                views.textContent = '阅读 ' + count;
+                views.hidden = false;
+                views.previousElementSibling.hidden = false;
+            })
+            .catch(() => {});
+    }
+
+    if (document.prerendering) {
+        document.addEventListener('prerenderingchange', report, { once: true });
+    } else {
+        report();
+    }
+})();
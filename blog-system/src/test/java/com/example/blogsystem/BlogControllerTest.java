@@ -4,25 +4,49 @@
 package com.example.blogsystem;
 
 import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.feed.FeedService;
 import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.service.RenderCache;
+import com.example.blogsystem.util.MarkdownUtil;
 
+import org.hamcrest.Matcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
@@ -36,14 +60,29 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 class BlogControllerTest {
 
+    private static final Pattern FEED_UPDATED = Pattern.compile("<updated>([^<]+)</updated>");
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private RenderCache renderCache;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * 每个测试用例执行前清理数据库
      */
@@ -76,11 +115,290 @@ class BlogControllerTest {
                 .andExpect(model().attribute("posts", hasItem(
                         allOf(
                                 hasProperty("title", is("测试文章")),
-                                hasProperty("renderedContent", containsString("这是测试内容"))
+                                hasProperty("excerptHtml", containsString("这是测试内容"))
                         )
                 )));
     }
 
+    /**
+     * 测试发布或更新时标签不合法会带着提示与已填内容重新渲染表单，而不是返回 500
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testInvalidTagsRerenderForm() throws Exception {
+        mockMvc.perform(post("/post")
+                        .param("title", "坏标签")
+                        .param("content", "草稿正文")
+                        .param("tags", "!!!")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("admin"))
+                .andExpect(model().attribute("error", notNullValue()))
+                .andExpect(content().string(allOf(containsString("草稿正文"), containsString("!!!"))));
+        assertThat(postRepository.count()).isZero();
+
+        Post post = postService.createPost("原标题", "原正文", "Weijue");
+        mockMvc.perform(post("/post/update/{id}", post.getId())
+                        .param("title", "新标题")
+                        .param("content", "新正文")
+                        .param("tags", "x".repeat(51))
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("edit"))
+                .andExpect(model().attribute("error", notNullValue()))
+                .andExpect(content().string(allOf(containsString("新标题"), containsString("新正文"))));
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getTitle()).isEqualTo("原标题");
+    }
+
+    /**
+     * 测试写入时渲染：发布文章后 HTML 与内容摘要随文章一起持久化，缺失时可回填
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testRenderedHtmlPersistedOnWrite() throws Exception {
+        mockMvc.perform(post("/post")
+                        .param("title", "渲染测试")
+                        .param("content", "**加粗**")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        Post saved = postRepository.findAll().get(0);
+        assertThat(saved.getRenderedContent())
+                .contains("<strong>加粗</strong>");
+        assertThat(saved.getContentHash())
+                .isEqualTo(MarkdownUtil.contentHash("**加粗**"));
+        assertThat(saved.getRenderVersion())
+                .isEqualTo(MarkdownUtil.RENDERER_VERSION);
+
+        // 直接写库的文章没有渲染结果，回填后补齐
+        Post raw = new Post();
+        raw.setTitle("未渲染");
+        raw.setContent("*斜体*");
+        raw.setAuthor("admin");
+        raw = postRepository.save(raw);
+        assertThat(postService.backfillRenderedContent()).isEqualTo(1);
+        Post backfilled = postRepository.findById(raw.getId()).orElseThrow();
+        assertThat(backfilled.getRenderedContent()).contains("<em>斜体</em>");
+        assertThat(backfilled.getExcerptHtml()).contains("<em>斜体</em>");
+        assertThat(backfilled.getSlug()).isEqualTo("未渲染");
+    }
+
+    /**
+     * 测试渲染器版本升级后的回填只改写派生列：修改时间、订阅源的 updated 与文章页校验值均保持不变
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testBackfillKeepsUpdateTime() throws Exception {
+        Post post = postService.createPost("版本升级", "**正文**", "Weijue");
+        LocalDateTime updateTime = jdbcTemplate.queryForObject(
+                "SELECT update_time FROM posts WHERE id = ?", LocalDateTime.class, post.getId());
+        List<String> updated = feedUpdated();
+        String etag = mockMvc.perform(get("/posts/" + post.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 模拟部署了更高版本的渲染器：库中的渲染结果全部过期
+        jdbcTemplate.update("UPDATE posts SET render_version = ?, slug = NULL WHERE id = ?",
+                MarkdownUtil.RENDERER_VERSION - 1, post.getId());
+        assertThat(postService.backfillRenderedContent()).isEqualTo(1);
+        feedService.onPostChanged(new PostChangedEvent(null, PostChangedEvent.ChangeType.BULK, null));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT render_version FROM posts WHERE id = ?", Integer.class,
+                post.getId())).isEqualTo(MarkdownUtil.RENDERER_VERSION);
+        assertThat(jdbcTemplate.queryForObject("SELECT update_time FROM posts WHERE id = ?", LocalDateTime.class,
+                post.getId())).isEqualTo(updateTime);
+        assertThat(feedUpdated()).isEqualTo(updated);
+        mockMvc.perform(get("/posts/" + post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 修改正文仍然刷新修改时间
+        postService.updatePost(post.getId(), "版本升级", "**新正文**", null);
+        assertThat(jdbcTemplate.queryForObject("SELECT update_time FROM posts WHERE id = ?", LocalDateTime.class,
+                post.getId())).isAfter(updateTime);
+    }
+
+    /**
+     * 提取 Atom 订阅源中全部 updated 元素的值
+     *
+     * @return 按出现顺序排列的 updated 值
+     * @throws Exception 请求失败
+     */
+    private List<String> feedUpdated() throws Exception {
+        String feed = mockMvc.perform(get("/feed.xml")).andReturn().getResponse().getContentAsString();
+        return FEED_UPDATED.matcher(feed).results().map(result -> result.group(1)).toList();
+    }
+
+    /**
+     * 测试首页只输出节选，全文在文章页（按 id 或短链接访问）展示
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testIndexShowsExcerptAndPostPageShowsFullText() throws Exception {
+        String tail = "全文结尾" + System.nanoTime();
+        String content = "## 开篇\n\n第一段。\n\n" + "填充文字。".repeat(100) + "\n\n" + tail;
+        Post post = postService.createPost("Spring Boot 实战笔记", content, "Weijue");
+        Post duplicate = postService.createPost("Spring Boot 实战笔记", "重名文章", "Weijue");
+        assertThat(post.getSlug()).isEqualTo("spring-boot-实战笔记");
+        assertThat(duplicate.getSlug()).isEqualTo("spring-boot-实战笔记-2");
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("第一段。"),
+                        not(containsString(tail)),
+                        containsString("/p/spring-boot-"))));
+
+        MvcResult result = mockMvc.perform(get("/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("post"))
+                .andExpect(content().string(containsString(tail)))
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andReturn();
+        mockMvc.perform(get("/posts/{id}", post.getId())
+                        .header("If-None-Match", result.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/p/{slug}", "spring-boot-实战笔记"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(tail)));
+        mockMvc.perform(get("/posts/{id}", duplicate.getId() + 1000))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/p/{slug}", "no-such-post"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 测试渲染结果缓存：未回填的文章在首页重复访问时命中缓存，统计接口仅管理员可见
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testRenderCacheServesUnrenderedPosts() throws Exception {
+        Post raw = new Post();
+        raw.setTitle("缓存测试");
+        raw.setContent("缓存内容 " + System.nanoTime());
+        raw.setAuthor("admin");
+        postRepository.save(raw);
+
+        long hitsBefore = (Long) renderCache.stats().get("hitCount");
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasItem(
+                        hasProperty("excerptHtml", containsString("缓存内容")))));
+        assertThat((Long) renderCache.stats().get("hitCount")).isGreaterThan(hitsBefore);
+
+        mockMvc.perform(get("/admin/render-cache"))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(get("/admin/render-cache")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount").isNumber())
+                .andExpect(jsonPath("$.weightBytes").isNumber());
+    }
+
+    /**
+     * 测试首页条件请求：内容未变化时返回 304，发布新文章后校验值失效
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testIndexConditionalGet() throws Exception {
+        postService.createPost("条件请求", "内容", "admin");
+
+        MvcResult first = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        postService.createPost("新文章", "新内容", "admin");
+        mockMvc.perform(get("/").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 测试全文检索：文章发布、更新后无需重建即可检索，公开访问
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testSearchIsUpdatedIncrementally() throws Exception {
+        // 启动时预置的示例文章也在索引中，因此按文章 id 断言
+        Post post = postService.createPost("Spring Boot 实战笔记", "自动配置", "admin");
+        Matcher<Iterable<? super Object>> containsPost =
+                hasItem(hasProperty("id", is(post.getId())));
+
+        mockMvc.perform(get("/search").param("q", "实战"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("search"))
+                .andExpect(model().attribute("results", containsPost));
+
+        postService.updatePost(post.getId(), "设计之美", "留白与呼吸感", "admin");
+        mockMvc.perform(get("/search").param("q", "实战"))
+                .andExpect(model().attribute("results", not(containsPost)));
+        mockMvc.perform(get("/search").param("q", "留白"))
+                .andExpect(model().attribute("results", containsPost));
+
+        postService.deletePost(post.getId());
+        mockMvc.perform(get("/search").param("q", "留白"))
+                .andExpect(model().attribute("results", not(containsPost)));
+    }
+
+    /**
+     * 测试首页键集分页：前后翻页结果互不重叠且可以返回
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testIndexKeysetPagination() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 0; i < 15; i++) {
+            Post post = new Post();
+            post.setTitle("文章" + i);
+            post.setContent("内容" + i);
+            post.setAuthor("admin");
+            // 构造相同的创建时间，验证 id 作为次级排序键
+            post.setCreateTime(base.plusMinutes(i / 2));
+            postRepository.save(post);
+        }
+
+        MvcResult first = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasSize(10)))
+                .andExpect(model().attribute("newerCursor", nullValue()))
+                .andExpect(model().attribute("olderCursor", notNullValue()))
+                .andReturn();
+        String olderCursor = (String) first.getModelAndView().getModel().get("olderCursor");
+
+        MvcResult second = mockMvc.perform(get("/").param("before", olderCursor))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasSize(5)))
+                .andExpect(model().attribute("posts", hasItem(hasProperty("title", is("文章0")))))
+                .andExpect(model().attribute("olderCursor", nullValue()))
+                .andExpect(model().attribute("newerCursor", notNullValue()))
+                .andReturn();
+        String newerCursor = (String) second.getModelAndView().getModel().get("newerCursor");
+
+        mockMvc.perform(get("/").param("after", newerCursor))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasSize(10)))
+                .andExpect(model().attribute("posts", hasItem(hasProperty("title", is("文章14")))))
+                .andExpect(model().attribute("newerCursor", nullValue()))
+                .andExpect(model().attribute("olderCursor", is(olderCursor)));
+    }
+
     /**
      * 测试文章编辑和更新功能
      *
@@ -121,11 +439,60 @@ class BlogControllerTest {
                 .andExpect(model().attribute("posts", hasItem(
                         allOf(
                                 hasProperty("title", is("更新后的标题")),
-                                hasProperty("content", is("更新后的内容"))
+                                hasProperty("contentLength", is("更新后的内容".length()))
                         )
                 )));
     }
 
+    /**
+     * 测试管理页面分页与标题筛选，关键字中的 % 与 _ 按字面匹配
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testAdminPaginationAndFilter() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            Post post = new Post();
+            post.setTitle((i % 5 == 0 ? "Spring 笔记 " : "随笔 ") + i);
+            post.setContent("内容");
+            post.setAuthor("admin");
+            postRepository.save(post);
+        }
+
+        mockMvc.perform(get("/admin")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasSize(20)))
+                .andExpect(model().attribute("page", hasProperty("totalElements", is(25L))));
+
+        mockMvc.perform(get("/admin").param("page", "1")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasSize(5)));
+
+        mockMvc.perform(get("/admin").param("q", "spring")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("posts", hasSize(5)))
+                .andExpect(model().attribute("posts", hasItem(hasProperty("title", is("Spring 笔记 10")))));
+
+        for (String title : new String[] {"折扣 100%", "snake_case", "snakeXcase"}) {
+            Post post = new Post();
+            post.setTitle(title);
+            post.setContent("内容");
+            post.setAuthor("admin");
+            postRepository.save(post);
+        }
+        mockMvc.perform(get("/admin").param("q", "%")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(model().attribute("posts", hasSize(1)))
+                .andExpect(model().attribute("page", hasProperty("totalElements", is(1L))));
+        mockMvc.perform(get("/admin").param("q", "snake_")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(model().attribute("posts", hasSize(1)))
+                .andExpect(model().attribute("posts", hasItem(hasProperty("title", is("snake_case")))));
+    }
+
     /**
      * 测试文章删除功能
      *
@@ -236,4 +603,132 @@ class BlogControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/admin"));
     }
+
+    /**
+     * 测试 Prometheus 端点需要管理员凭据（HTTP Basic），并包含热点路径指标
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testPrometheusEndpointExposesHotPathMetrics() throws Exception {
+        postService.createPost("指标文章", "# 标题\n\n正文", "Weijue");
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("admin", "123456")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("blog_markdown_render_seconds_count{application=\"blog-system\",size=\"small\"}"),
+                        containsString("blog_view_render_seconds_count{application=\"blog-system\",view=\"index\"}"),
+                        containsString("handler=\"BlogController#index\""),
+                        containsString("spring_data_repository_invocations_seconds_count"),
+                        containsString("method=\"findLatest\""),
+                        containsString("blog_posts_count"),
+                        containsString("blog_posts_content_bytes"),
+                        containsString("cache=\"render\""))));
+
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * 测试订阅源：按 Accept-Encoding 输出预压缩字节，内容未变化时复用缓存并支持 304，发布文章后重建
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testFeedsServedFromPrecompressedBytes() throws Exception {
+        postService.createPost("订阅文章", "订阅源 **节选**", "Weijue");
+
+        MvcResult identity = mockMvc.perform(get("/feed.xml"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/atom+xml;charset=UTF-8"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string(allOf(
+                        containsString("<feed xmlns=\"http://www.w3.org/2005/Atom\">"),
+                        containsString("<title>订阅文章</title>"),
+                        containsString("&lt;strong&gt;节选&lt;/strong&gt;"),
+                        containsString("/p/%E8%AE%A2%E9%98%85%E6%96%87%E7%AB%A0"))))
+                .andReturn();
+        String etag = identity.getResponse().getHeader("ETag");
+
+        MvcResult gzip = mockMvc.perform(get("/feed.xml").header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+        assertThat(gzip.getResponse().getHeader("ETag")).isNotEqualTo(etag);
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity.getResponse().getContentAsByteArray());
+        }
+
+        mockMvc.perform(get("/feed.xml").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/rss.xml"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/rss+xml;charset=UTF-8"))
+                .andExpect(content().string(containsString("<item><title>订阅文章</title>")));
+
+        postService.createPost("新的订阅文章", "更新", "Weijue");
+        mockMvc.perform(get("/feed.xml").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("新的订阅文章")));
+    }
+
+    /**
+     * 测试静态资源：模板中的链接（含字体样式表引用的 woff2）带内容摘要，响应一年内不可变，不带摘要的原始地址需重新验证，并按 Accept-Encoding 输出构建时生成的 gzip 副本
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testStaticAssetsFingerprintedAndImmutable() throws Exception {
+        String html = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("fonts.googleapis.com"))))
+                .andReturn().getResponse().getContentAsString();
+        java.util.regex.Matcher stylesheet = Pattern.compile("href=\"(/css/style-[0-9a-f]{32}\\.css)\"").matcher(html);
+        assertThat(stylesheet.find()).isTrue();
+        assertThat(html).containsPattern("href=\"/css/fonts-[0-9a-f]{32}\\.css\"")
+                .containsPattern("src=\"/js/visual-effects-[0-9a-f]{32}\\.js\"");
+
+        MvcResult identity = mockMvc.perform(get(stylesheet.group(1)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn();
+        MvcResult gzip = mockMvc.perform(get(stylesheet.group(1)).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn();
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity.getResponse().getContentAsByteArray());
+        }
+        java.util.regex.Matcher fontsCss = Pattern.compile("href=\"(/css/fonts-[0-9a-f]{32}\\.css)\"").matcher(html);
+        assertThat(fontsCss.find()).isTrue();
+        String css = mockMvc.perform(get(fontsCss.group(1)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        java.util.regex.Matcher font = Pattern.compile("url\\('(/fonts/jetbrains-mono-400-[0-9a-f]{32}\\.woff2)'\\)")
+                .matcher(css);
+        assertThat(font.find()).isTrue();
+        byte[] woff2 = mockMvc.perform(get(font.group(1)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new String(woff2, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("wOF2");
+
+        mockMvc.perform(get("/css/style.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+        mockMvc.perform(get("/js/post-views.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.cache;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Hibernate 二级缓存测试：读路径命中缓存不访问数据库，写入后缓存的实体与查询结果失效
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class EntityCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    /**
+     * 每个测试用例执行前清空数据库
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 测试首页与文章页预热后重复访问全部命中二级缓存，不再执行 SQL
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testRepeatedReadsServedFromCache() throws Exception {
+        Post post = postService.createPost("缓存文章", "**二级缓存** 正文", "Weijue");
+        readPages(post.getId());
+
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            readPages(post.getId());
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics(Post.CACHE_REGION).getHitCount()).isPositive();
+
+        mockMvc.perform(get("/admin/entity-cache").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$['" + PostRepository.LISTING_REGION + "'].hitCount", greaterThan(0)))
+                .andExpect(jsonPath("$.post.hitRate", greaterThan(0.0)));
+        mockMvc.perform(get("/actuator/prometheus").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("hibernate_second_level_cache_requests_total{application=\"blog-system\","
+                                + "entityManagerFactory=\"entityManagerFactory\",region=\"post\",result=\"hit\"}"),
+                        containsString("hibernate_cache_query_requests_total{application=\"blog-system\","))));
+    }
+
+    /**
+     * 测试更新、删除与新建文章提交后，已缓存的实体与列表查询结果随之失效
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testWritesInvalidateCachedReads() throws Exception {
+        Post post = postService.createPost("旧标题", "旧的正文", "Weijue");
+        readPages(post.getId());
+
+        postService.updatePost(post.getId(), "新标题", "新的正文", null);
+        mockMvc.perform(get("/"))
+                .andExpect(content().string(containsString("新标题")))
+                .andExpect(content().string(not(containsString("旧标题"))));
+        mockMvc.perform(get("/posts/" + post.getId()))
+                .andExpect(content().string(containsString("新的正文")));
+
+        Post other = postService.createPost("另一篇", "内容", "Weijue");
+        mockMvc.perform(get("/"))
+                .andExpect(content().string(containsString("另一篇")));
+
+        postService.deletePost(post.getId());
+        mockMvc.perform(get("/posts/" + post.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/"))
+                .andExpect(content().string(not(containsString("新标题"))));
+        assertThat(postRepository.findById(other.getId())).isPresent();
+    }
+
+    /**
+     * 访问首页与文章页
+     *
+     * @param id 文章ID
+     * @throws Exception 测试异常
+     */
+    private void readPages(Long id) throws Exception {
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+        mockMvc.perform(get("/posts/" + id)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.cluster;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.entity.PostChange;
+import com.example.blogsystem.event.PostChangedEvent.ChangeType;
+import com.example.blogsystem.repository.PostChangeRepository;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.search.SearchResult;
+import com.example.blogsystem.search.SearchService;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 文章变更日志测试：本节点写入在同一事务内记录变更，其他节点的变更经轮询刷新本地缓存
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "app.blog.cluster.enabled=true",
+        "app.blog.cluster.node-id=node-a",
+        "app.blog.cluster.poll-interval=100ms"
+})
+class PostChangeLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostChangeRepository postChangeRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MarkdownUtil markdownUtil;
+
+    /**
+     * 每个测试用例执行前清空数据库
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+    }
+
+    /**
+     * 测试发布、更新、删除各追加一条本节点的变更日志，失败的写入不留记录
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testControllerWritesAppendChanges() throws Exception {
+        long before = postChangeRepository.findMaxId();
+        mockMvc.perform(post("/post").param("title", "集群文章").param("content", "内容")
+                        .with(user("admin").roles("ADMIN")).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        Long id = postRepository.findAll().get(0).getId();
+        mockMvc.perform(post("/post/update/" + id).param("title", "集群文章").param("content", "新内容")
+                        .with(user("admin").roles("ADMIN")).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        assertThatThrownBy(() -> postService.updatePost(id + 1000, "不存在", "x", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        mockMvc.perform(post("/post/delete/" + id)
+                        .with(user("admin").roles("ADMIN")).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        List<PostChange> changes = postChangeRepository.findAfter(before, PageRequest.of(0, 10));
+        assertThat(changes).extracting(PostChange::getChangeType)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED);
+        assertThat(changes).allSatisfy(change -> {
+            assertThat(change.getPostId()).isEqualTo(id);
+            assertThat(change.getNodeId()).isEqualTo("node-a");
+        });
+        assertThat(changes.get(1).getPreviousContentHash()).isEqualTo(MarkdownUtil.contentHash("内容"));
+    }
+
+    /**
+     * 测试其他节点直接修改数据库并记录变更后，本节点的二级缓存、文章页与检索索引随之刷新
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testRemoteChangeRefreshesLocalCaches() throws Exception {
+        mockMvc.perform(post("/post").param("title", "远程文章").param("content", "原来的正文")
+                        .with(user("admin").roles("ADMIN")).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        Post post = postRepository.findAll().get(0);
+        String page = mockMvc.perform(get("/posts/" + post.getId())).andReturn().getResponse().getContentAsString();
+        assertThat(page).contains("原来的正文");
+
+        // 模拟节点 node-b：直接写库并记录变更
+        String content = "节点乙修改的正文 zebra";
+        jdbcTemplate.update("update posts set content = ?, rendered_html = ?, content_hash = ?, update_time = ? "
+                        + "where id = ?", content, markdownUtil.render(content).html(),
+                MarkdownUtil.contentHash(content), LocalDateTime.now().plusSeconds(1), post.getId());
+        jdbcTemplate.update("insert into post_changes (post_id, change_type, previous_content_hash, node_id, "
+                + "create_time) values (?, 'UPDATED', ?, 'node-b', ?)", post.getId(), post.getContentHash(),
+                LocalDateTime.now());
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            String refreshed = mockMvc.perform(get("/posts/" + post.getId()))
+                    .andReturn().getResponse().getContentAsString();
+            assertThat(refreshed).contains("节点乙修改的正文");
+            assertThat(searchService.search("zebra")).extracting(SearchResult::getId).containsExactly(post.getId());
+        });
+    }
+}
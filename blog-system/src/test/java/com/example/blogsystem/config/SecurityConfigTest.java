@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.config;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.savedrequest.RequestCacheAwareFilter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 安全过滤链测试：公开只读请求走无状态过滤链，登录与管理请求仍走完整过滤链
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    /**
+     * 每个测试用例执行前清空数据库
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+    }
+
+    /**
+     * 测试公开页面与静态资源不创建会话、不生成 CSRF 令牌，仍带安全响应头
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testPublicReadsAreStateless() throws Exception {
+        Post post = postService.createPost("无状态", "正文", "Weijue");
+        for (String path : new String[]{"/", "/posts/" + post.getId(), "/search?q=正文", "/css/style.css",
+                "/feed.xml", "/actuator/health"}) {
+            MvcResult result = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                    .andReturn();
+            assertThat(result.getRequest().getSession(false)).as(path).isNull();
+            assertThat(result.getRequest().getAttribute(CsrfToken.class.getName())).as(path).isNull();
+        }
+        MvcResult result = mockMvc.perform(head("/")).andExpect(status().isOk()).andReturn();
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    /**
+     * 测试公开只读过滤链不包含 CSRF 与请求缓存过滤器，且只匹配 GET/HEAD
+     */
+    @Test
+    void testPublicChainIsMinimal() {
+        SecurityFilterChain publicChain = filterChainProxy.getFilterChains().get(0);
+        assertThat(publicChain.matches(request("GET", "/posts/1"))).isTrue();
+        assertThat(publicChain.matches(request("POST", "/"))).isFalse();
+        assertThat(publicChain.matches(request("GET", "/admin"))).isFalse();
+        assertThat(publicChain.matches(request("GET", "/login"))).isFalse();
+        assertThat(publicChain.getFilters()).extracting(Filter::getClass)
+                .doesNotContain(CsrfFilter.class, RequestCacheAwareFilter.class);
+    }
+
+    /**
+     * 测试登录页仍生成 CSRF 令牌，管理页仍要求登录
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testAdminChainIsUnchanged() throws Exception {
+        MvcResult login = mockMvc.perform(get("/login")).andExpect(status().isOk()).andReturn();
+        assertThat(login.getResponse().getContentAsString()).contains("name=\"_csrf\"");
+
+        mockMvc.perform(get("/admin")).andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        mockMvc.perform(get("/admin").with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+    }
+
+    /**
+     * 构造用于匹配过滤链的请求
+     *
+     * @param method 请求方法
+     * @param path   请求路径
+     * @return 请求
+     */
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.datasource;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.stats.ViewCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 读写分离路由测试
+ *
+ * <p>副本是同一个 H2 内存库上的第二个只读连接池，复制延迟由测试写入的 replica_lag 表模拟；
+ * 关闭二级缓存，使每次读取都真正取连接。</p>
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "app.blog.entity-cache.enabled=false",
+        "app.blog.datasource.routing.enabled=true",
+        "app.blog.datasource.routing.replicas[0].url=jdbc:h2:mem:testdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.blog.datasource.routing.max-lag=1s",
+        "app.blog.datasource.routing.lag-check-interval=100ms",
+        "app.blog.datasource.routing.lag-query=select lag_seconds from replica_lag"
+})
+class ReadWriteRoutingTest {
+
+    private static final String REPLICA = "replica-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 每个测试用例执行前清空数据库，并把模拟的复制延迟置为 0
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists replica_lag (lag_seconds double precision)");
+        jdbcTemplate.update("delete from replica_lag");
+        jdbcTemplate.update("insert into replica_lag values (0)");
+        await().atMost(Duration.ofSeconds(5)).until(() -> monitor.isAvailable(REPLICA));
+    }
+
+    /**
+     * 删除模拟延迟表，避免影响共用同一内存库的其他测试
+     */
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table if exists replica_lag");
+    }
+
+    /**
+     * 测试写入走主库，提交后短时间内的读取仍走主库，之后的只读请求由副本处理
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testReadsGoToReplicaAfterWriteFence() throws Exception {
+        double primaryBefore = routes(ReadWriteRoutingDataSource.PRIMARY);
+        double replicaBefore = routes(REPLICA);
+        Post post = postService.createPost("读写分离", "副本上的文章", "Weijue");
+        mockMvc.perform(get("/posts/" + post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("副本上的文章")));
+        assertThat(routes(ReadWriteRoutingDataSource.PRIMARY)).isGreaterThan(primaryBefore);
+        assertThat(routes(REPLICA)).isEqualTo(replicaBefore);
+
+        Thread.sleep(1_100);
+        mockMvc.perform(get("/")).andExpect(status().isOk())
+                .andExpect(content().string(containsString("读写分离")));
+        mockMvc.perform(get("/posts/" + post.getId())).andExpect(status().isOk());
+        assertThat(routes(REPLICA)).isGreaterThan(replicaBefore);
+    }
+
+    /**
+     * 测试阅读数写入仍走主库，但提交后不设置写入屏障，随后的只读请求照常由副本处理
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testViewFlushDoesNotFenceReads() throws Exception {
+        Post post = postService.createPost("阅读数不设屏障", "内容", "Weijue");
+        Thread.sleep(1_100);
+
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+        double primaryBefore = routes(ReadWriteRoutingDataSource.PRIMARY);
+        assertThat(viewCounter.flush()).isEqualTo(1);
+        assertThat(routes(ReadWriteRoutingDataSource.PRIMARY)).isGreaterThan(primaryBefore);
+
+        double replicaBefore = routes(REPLICA);
+        mockMvc.perform(get("/posts/" + post.getId())).andExpect(status().isOk());
+        assertThat(routes(REPLICA)).isGreaterThan(replicaBefore);
+    }
+
+    /**
+     * 测试副本延迟超过上限时退出读路由，读取回退到主库，恢复后重新参与
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() throws Exception {
+        Post post = postService.createPost("延迟副本", "内容", "Weijue");
+        jdbcTemplate.update("update replica_lag set lag_seconds = 30");
+        await().atMost(Duration.ofSeconds(5)).until(() -> !monitor.isAvailable(REPLICA));
+        assertThat(meterRegistry.get("blog.datasource.replica.lag").tag("target", REPLICA).gauge().value())
+                .isEqualTo(30.0);
+
+        Thread.sleep(1_100);
+        double replicaBefore = routes(REPLICA);
+        mockMvc.perform(get("/posts/" + post.getId())).andExpect(status().isOk());
+        assertThat(routes(REPLICA)).isEqualTo(replicaBefore);
+
+        jdbcTemplate.update("update replica_lag set lag_seconds = 0");
+        await().atMost(Duration.ofSeconds(5)).until(() -> monitor.isAvailable(REPLICA));
+        mockMvc.perform(get("/posts/" + post.getId())).andExpect(status().isOk());
+        assertThat(routes(REPLICA)).isGreaterThan(replicaBefore);
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", REPLICA).gauge()).isNotNull();
+    }
+
+    /**
+     * 获取路由到目标数据源的次数
+     *
+     * @param target 路由键
+     * @return 次数
+     */
+    private double routes(String target) {
+        return meterRegistry.get("blog.datasource.routes").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.highlight;
+
+import com.example.blogsystem.util.MarkdownUtil;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 代码块着色测试
+ *
+ * @author Weijue
+ */
+class CodeHighlighterTest {
+
+    private final CodeHighlighter codeHighlighter = new CodeHighlighter();
+
+    private final MarkdownUtil markdownUtil = new MarkdownUtil(new CompositeMeterRegistry(), codeHighlighter);
+
+    /**
+     * 测试 Java 代码的关键字、字符串、注释、注解与数字着色，标识符中的关键字不着色，特殊字符被转义
+     */
+    @Test
+    void testHighlightsJava() {
+        String html = markdownUtil.markdownToHtml("""
+                ```java
+                @GetMapping("/")
+                public String index(int interfaceCount) {
+                    // 返回 <首页>
+                    return "a < b" + 42L;
+                }
+                ```
+                """);
+        assertThat(html)
+                .startsWith("<pre><code class=\"language-java\"><span class=\"hl-annotation\">@GetMapping</span>(")
+                .contains("<span class=\"hl-string\">&quot;/&quot;</span>")
+                .contains("<span class=\"hl-keyword\">public</span> String index(<span class=\"hl-keyword\">int</span>"
+                        + " interfaceCount)")
+                .contains("<span class=\"hl-comment\">// 返回 &lt;首页&gt;</span>")
+                .contains("<span class=\"hl-string\">&quot;a &lt; b&quot;</span> + <span class=\"hl-number\">42L</span>")
+                .endsWith("</code></pre>\n");
+    }
+
+    /**
+     * 测试其余支持语言的主要记号
+     */
+    @Test
+    void testHighlightsOtherLanguages() {
+        assertThat(codeHighlighter.highlight("SQL", "select * from posts where title = 'it''s' -- 注释").orElseThrow())
+                .contains("<span class=\"hl-keyword\">select</span>")
+                .contains("<span class=\"hl-string\">'it''s'</span>")
+                .contains("<span class=\"hl-comment\">-- 注释</span>");
+        assertThat(codeHighlighter.highlight("xml", "<!-- 依赖 -->\n<dependency scope=\"test\"/>").orElseThrow())
+                .isEqualTo("<span class=\"hl-comment\">&lt;!-- 依赖 --&gt;</span>\n"
+                        + "<span class=\"hl-tag\">&lt;dependency</span> <span class=\"hl-attr\">scope</span>="
+                        + "<span class=\"hl-string\">&quot;test&quot;</span><span class=\"hl-tag\">/&gt;</span>");
+        assertThat(codeHighlighter.highlight("properties", "# 端口\nserver.port=${PORT}").orElseThrow())
+                .isEqualTo("<span class=\"hl-comment\"># 端口</span>\n<span class=\"hl-key\">server.port</span>="
+                        + "<span class=\"hl-variable\">${PORT}</span>");
+        assertThat(codeHighlighter.highlight("sh", "export HOME=\"$HOME\" # 注释\nmvn -B test").orElseThrow())
+                .contains("<span class=\"hl-keyword\">export</span>")
+                .contains("<span class=\"hl-string\">&quot;$HOME&quot;</span>")
+                .contains("<span class=\"hl-comment\"># 注释</span>")
+                .contains("<span class=\"hl-attr\">-B</span>");
+        assertThat(codeHighlighter.highlight("json", "{\"size\": 20, \"name\": \"blog\", \"ok\": true}").orElseThrow())
+                .isEqualTo("{<span class=\"hl-key\">&quot;size&quot;</span>: <span class=\"hl-number\">20</span>, "
+                        + "<span class=\"hl-key\">&quot;name&quot;</span>: <span class=\"hl-string\">&quot;blog&quot;"
+                        + "</span>, <span class=\"hl-key\">&quot;ok&quot;</span>: <span class=\"hl-literal\">true</span>}");
+    }
+
+    /**
+     * 测试不支持或未声明语言的代码块与内置渲染结果一致
+     */
+    @Test
+    void testUnsupportedLanguagesRenderAsPlainText() {
+        assertThat(codeHighlighter.highlight("rust", "fn main() {}")).isEmpty();
+        assertThat(markdownUtil.markdownToHtml("```rust extra\nlet a = \"<b>\";\n```\n"))
+                .isEqualTo("<pre><code class=\"language-rust\">let a = &quot;&lt;b&gt;&quot;;\n</code></pre>\n");
+        assertThat(markdownUtil.markdownToHtml("```\n<b>\n```\n"))
+                .isEqualTo("<pre><code>&lt;b&gt;\n</code></pre>\n");
+    }
+
+    /**
+     * 测试只修改正文文字时，未改动的代码块命中缓存而不重新着色
+     */
+    @Test
+    void testUnchangedCodeBlocksAreNotHighlightedAgain() {
+        String code = "```java\nint answer = 42;\n```\n\n```sql\nselect 1;\n```\n";
+        markdownUtil.render("第一版正文\n\n" + code);
+        long misses = codeHighlighter.stats().missCount();
+        assertThat(misses).isEqualTo(2);
+
+        markdownUtil.render("修改后的正文，代码不变\n\n" + code);
+        assertThat(codeHighlighter.stats().missCount()).isEqualTo(misses);
+        assertThat(codeHighlighter.stats().hitCount()).isPositive();
+    }
+
+    /**
+     * 测试超长且未闭合的注释与字符串不会导致正则回溯过深
+     */
+    @Test
+    void testLargeUnterminatedTokens() {
+        String comment = "/* " + "注释内容 ".repeat(50_000);
+        assertThat(codeHighlighter.highlight("java", comment).orElseThrow())
+                .startsWith("<span class=\"hl-comment\">").endsWith("</span>");
+        String string = "\"" + "a\\\"b ".repeat(50_000);
+        assertThat(codeHighlighter.highlight("java", string).orElseThrow())
+                .startsWith("<span class=\"hl-string\">").endsWith("</span>");
+    }
+}
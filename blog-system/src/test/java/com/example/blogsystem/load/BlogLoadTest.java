@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.load;
+
+import com.example.blogsystem.load.LoadDriver.Operation;
+import com.example.blogsystem.load.LoadDriver.OperationStats;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.seed.DataSeeder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 压测：在内嵌 Tomcat 与 H2 上分别以小数据量与大数据量并发混合请求首页、管理页与发布接口，
+ * 输出吞吐量与 p50/p99 延迟；延迟超出预算或随数据量增长超过允许倍数时失败
+ *
+ * <p>默认构建不运行，使用 {@code ./mvnw -Pload test} 执行。数据量、并发数、时长与阈值可通过系统属性调整，
+ * 如 {@code -Dload.large=100000 -Dload.threads=16}。</p>
+ *
+ * @author Weijue
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BlogLoadTest {
+
+    private static final long SMALL = Long.getLong("load.small", 2_000);
+    private static final long LARGE = Long.getLong("load.large", 20_000);
+    private static final int THREADS = Integer.getInteger("load.threads",
+            Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 10));
+    private static final double MAX_SCALING = Double.parseDouble(System.getProperty("load.max-scaling", "3.0"));
+    private static final double MAX_P99_MILLIS = Double.parseDouble(System.getProperty("load.max-p99-millis", "1000"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private DataSeeder dataSeeder;
+
+    /**
+     * 测试首页与管理页延迟不随文章数量线性增长，且各操作延迟在预算之内
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testLatencyDoesNotScaleWithPostCount() throws Exception {
+        postRepository.deleteAll();
+        LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port));
+
+        Map<Operation, OperationStats> small = measure(driver, SMALL);
+        Map<Operation, OperationStats> large = measure(driver, LARGE);
+
+        for (Map<Operation, OperationStats> stats : List.of(small, large)) {
+            for (OperationStats operation : stats.values()) {
+                assertThat(operation.errors()).as("%s 失败数", operation.name()).isZero();
+                assertThat(operation.p99Millis()).as("%s p99", operation.name()).isLessThanOrEqualTo(MAX_P99_MILLIS);
+            }
+        }
+        for (Operation operation : new Operation[] {Operation.INDEX, Operation.ADMIN}) {
+            double ratio = large.get(operation).p50Millis() / Math.max(small.get(operation).p50Millis(), 0.01);
+            assertThat(ratio).as("%s p50 从 %d 篇到 %d 篇的增长倍数", operation, SMALL, LARGE)
+                    .isLessThanOrEqualTo(MAX_SCALING);
+        }
+    }
+
+    /**
+     * 补足数据后预热，再正式压测并输出统计
+     *
+     * @param driver 压测驱动
+     * @param posts  文章数量
+     * @return 每种操作的统计
+     * @throws Exception 压测异常
+     */
+    private Map<Operation, OperationStats> measure(LoadDriver driver, long posts) throws Exception {
+        dataSeeder.seed(posts);
+        driver.run(THREADS, WARMUP);
+        Map<Operation, OperationStats> stats = driver.run(THREADS, DURATION);
+        System.out.printf("%n==== %d 篇文章，%d 线程，%d 秒 ====%n", postRepository.count(), THREADS, DURATION.toSeconds());
+        stats.values().forEach(System.out::println);
+        return stats;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.load;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 进程内压测驱动：多个线程在固定时长内按权重混合请求首页、管理页与发布接口，记录每次请求的延迟
+ *
+ * <p>匿名读者与已登录管理员使用各自的 HTTP 客户端（各自的 Cookie），不跟随重定向。</p>
+ *
+ * @author Weijue
+ */
+final class LoadDriver {
+
+    /**
+     * 压测的操作及其权重（百分比）
+     */
+    enum Operation {
+        /**
+         * 匿名访问首页
+         */
+        INDEX(70),
+        /**
+         * 管理员访问管理页
+         */
+        ADMIN(20),
+        /**
+         * 管理员发布文章
+         */
+        WRITE(10);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    private final URI base;
+    private final HttpClient anonymous;
+    private final HttpClient admin;
+    private final AtomicLong writes = new AtomicLong();
+    private String csrfToken;
+
+    /**
+     * 构造函数，登录管理员并取得 CSRF Token
+     *
+     * @param base 应用根地址
+     * @throws IOException          请求失败
+     * @throws InterruptedException 请求被中断
+     */
+    LoadDriver(URI base) throws IOException, InterruptedException {
+        this.base = base;
+        this.anonymous = client();
+        this.admin = client();
+        String login = admin.send(get("/login"), HttpResponse.BodyHandlers.ofString()).body();
+        HttpResponse<Void> loggedIn = admin.send(form("/login", "username=admin&password=123456&_csrf=" + csrf(login)),
+                HttpResponse.BodyHandlers.discarding());
+        if (loggedIn.statusCode() != 302 || loggedIn.headers().firstValue("Location").orElse("").contains("error")) {
+            throw new IllegalStateException("管理员登录失败：" + loggedIn.statusCode());
+        }
+        // 登录后会话与 CSRF Token 都会更换
+        csrfToken = csrf(admin.send(get("/admin"), HttpResponse.BodyHandlers.ofString()).body());
+    }
+
+    /**
+     * 压测固定时长
+     *
+     * @param threads  并发线程数
+     * @param duration 时长
+     * @return 每种操作的统计
+     * @throws Exception 压测线程异常
+     */
+    Map<Operation, OperationStats> run(int threads, Duration duration) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Operation, Recorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            long seed = i;
+            futures.add(pool.submit(() -> worker(new SplittableRandom(seed), deadline)));
+        }
+        Map<Operation, Recorder> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Recorder>> future : futures) {
+            future.get().forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, o -> new Recorder()).addAll(recorder));
+        }
+        pool.shutdown();
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        merged.forEach((operation, recorder) -> stats.put(operation, recorder.stats(operation.name(), duration)));
+        return stats;
+    }
+
+    /**
+     * 单个压测线程
+     *
+     * @param random   选择操作的随机数生成器
+     * @param deadline 结束时间（{@link System#nanoTime()}）
+     * @return 每种操作的延迟记录
+     * @throws InterruptedException 请求被中断
+     */
+    private Map<Operation, Recorder> worker(SplittableRandom random, long deadline) throws InterruptedException {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(random);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = execute(operation);
+            } catch (IOException e) {
+                ok = false;
+            }
+            recorders.computeIfAbsent(operation, o -> new Recorder()).record(System.nanoTime() - start, ok);
+        }
+        return recorders;
+    }
+
+    /**
+     * 执行一次操作
+     *
+     * @param operation 操作
+     * @return 是否成功
+     * @throws IOException          请求失败
+     * @throws InterruptedException 请求被中断
+     */
+    private boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case INDEX -> anonymous.send(get("/"), HttpResponse.BodyHandlers.ofByteArray()).statusCode() == 200;
+            case ADMIN -> admin.send(get("/admin"), HttpResponse.BodyHandlers.ofByteArray()).statusCode() == 200;
+            case WRITE -> {
+                long n = writes.incrementAndGet();
+                String body = "title=" + encode("压测文章 " + n)
+                        + "&content=" + encode("## 压测\n\n第 " + n + " 篇，**load test** 写入。\n\n| a | b |\n|---|---|\n| 1 | 2 |")
+                        + "&_csrf=" + encode(csrfToken);
+                yield admin.send(form("/post", body), HttpResponse.BodyHandlers.discarding()).statusCode() == 302;
+            }
+        };
+    }
+
+    /**
+     * 按权重选择操作
+     *
+     * @param random 随机数生成器
+     * @return 操作
+     */
+    private static Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.INDEX;
+    }
+
+    /**
+     * 创建 HTTP/1.1 客户端，各自保存 Cookie，不跟随重定向
+     *
+     * @return HTTP 客户端
+     */
+    private static HttpClient client() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 构造 GET 请求
+     *
+     * @param path 路径
+     * @return 请求
+     */
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+    }
+
+    /**
+     * 构造表单 POST 请求
+     *
+     * @param path 路径
+     * @param body 已编码的表单内容
+     * @return 请求
+     */
+    private HttpRequest form(String path, String body) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * 从页面中提取 CSRF Token
+     *
+     * @param html 页面
+     * @return CSRF Token
+     */
+    private static String csrf(String html) {
+        Matcher matcher = CSRF.matcher(html);
+        if (!matcher.find()) {
+            throw new IllegalStateException("页面中没有 CSRF Token");
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * 表单编码
+     *
+     * @param value 原始值
+     * @return 编码后的值
+     */
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 单种操作的统计
+     *
+     * @param name       操作名
+     * @param count      请求数
+     * @param errors     失败数
+     * @param throughput 每秒请求数
+     * @param p50Millis  中位延迟（毫秒）
+     * @param p99Millis  p99 延迟（毫秒）
+     */
+    record OperationStats(String name, int count, int errors, double throughput, double p50Millis,
+                          double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-6s %8d req %5d err %9.1f req/s  p50 %8.2f ms  p99 %8.2f ms",
+                    name, count, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    /**
+     * 延迟记录（单线程使用，结束后合并）
+     */
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        /**
+         * 记录一次请求
+         *
+         * @param nanos 延迟（纳秒）
+         * @param ok    是否成功
+         */
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        /**
+         * 合并另一个线程的记录
+         *
+         * @param other 其他记录
+         */
+        void addAll(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        /**
+         * 计算统计
+         *
+         * @param name     操作名
+         * @param duration 压测时长
+         * @return 统计
+         */
+        OperationStats stats(String name, Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new OperationStats(name, count, errors, count / (duration.toMillis() / 1000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99));
+        }
+
+        /**
+         * 最近秩法计算分位数
+         *
+         * @param sorted   升序排列的延迟（纳秒）
+         * @param quantile 分位点
+         * @return 延迟（毫秒）
+         */
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 内存倒排索引单元测试
+ *
+ * @author Weijue
+ */
+class SearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    /**
+     * 测试分词：中文按二元组切分，英文按单词小写切分
+     */
+    @Test
+    void testTokenizeMixedText() {
+        assertThat(SearchTokenizer.tokenize("Spring Boot 实战笔记"))
+                .containsExactly("spring", "boot", "实战", "战笔", "笔记");
+        assertThat(SearchTokenizer.tokenize("AI、云计算")).containsExactly("ai", "云计", "计算");
+        assertThat(SearchTokenizer.tokenize("是 Java21")).containsExactly("是", "java21");
+    }
+
+    /**
+     * 测试 BM25 排序：标题命中优先，未命中的文章不返回
+     */
+    @Test
+    void testSearchRanksTitleMatchesFirst() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, "设计之美", "Weijue", NOW, "留白不是浪费空间，而是创造呼吸感。");
+        index.index(2L, "Spring Boot 实战笔记", "Admin", NOW, "自动配置与起步依赖。");
+        index.index(3L, "关于未来", "Weijue", NOW, "我们在读 Spring 的源码，也在做笔记。");
+
+        List<SearchResult> results = index.search("spring 笔记", 10);
+
+        assertThat(results).extracting(SearchResult::getId).containsExactly(2L, 3L);
+        assertThat(index.search("呼吸", 10)).extracting(SearchResult::getId).containsExactly(1L);
+        assertThat(index.search("不存在的词", 10)).isEmpty();
+    }
+
+    /**
+     * 测试取前 k 名：得分相同时按索引先后排列，k 大于命中数时返回全部命中且按得分倒序
+     */
+    @Test
+    void testTopKWithTiesAndLargeLimit() {
+        SearchIndex index = new SearchIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, "同分 " + id, "admin", NOW, "正文");
+        }
+        index.index(6L, "其他", "admin", NOW, "同分");
+
+        assertThat(index.search("同分", 3)).extracting(SearchResult::getId).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("同分", 100)).extracting(SearchResult::getId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(index.search("同分", 1)).extracting(SearchResult::getId).containsExactly(1L);
+
+        index.index(2L, "同分 2", "admin", NOW, "正文");
+        assertThat(index.search("同分", 5)).extracting(SearchResult::getId).containsExactly(1L, 3L, 4L, 5L, 2L);
+    }
+
+    /**
+     * 测试增量更新与删除，以及墓碑压缩后检索结果仍然正确
+     */
+    @Test
+    void testIncrementalUpdateAndCompaction() {
+        SearchIndex index = new SearchIndex();
+        for (long id = 1; id <= 200; id++) {
+            index.index(id, "文章 " + id, "admin", NOW, id % 2 == 0 ? "偶数 even" : "奇数 odd");
+        }
+        index.index(1L, "文章 1", "admin", NOW, "更新后 even");
+        for (long id = 2; id <= 200; id += 2) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.search("even", 200)).extracting(SearchResult::getId).containsExactly(1L);
+        assertThat(index.search("odd", 200)).hasSize(99);
+    }
+}
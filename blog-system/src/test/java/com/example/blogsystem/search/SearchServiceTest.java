@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.search;
+
+import com.example.blogsystem.config.SearchProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.event.PostChangedEvent;
+import com.example.blogsystem.event.PostChangedEvent.ChangeType;
+import com.example.blogsystem.repository.PostRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 全文检索服务单元测试
+ *
+ * @author Weijue
+ */
+class SearchServiceTest {
+
+    /**
+     * 测试重建期间的增量变更：扫描已越过的文章被更新、删除或新建后，替换后的索引反映最新状态
+     */
+    @Test
+    void testChangesDuringRebuildAreReplayed() {
+        PostRepository postRepository = mock(PostRepository.class);
+        SearchService searchService = new SearchService(postRepository, new SearchProperties(true, 20, 2));
+        Post first = post(1L, "旧时光");
+        Post second = post(2L, "将被删除");
+        Post renamed = post(1L, "新篇章");
+        Post created = post(3L, "新文章");
+
+        when(postRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(postRepository.findBatchAfter(eq(2L), any(Pageable.class))).thenAnswer(invocation -> {
+            // 扫描越过第 1、2 篇之后，另一请求提交了更新、删除与新建
+            when(postRepository.findById(1L)).thenReturn(Optional.of(renamed));
+            when(postRepository.findById(2L)).thenReturn(Optional.empty());
+            when(postRepository.findById(3L)).thenReturn(Optional.of(created));
+            searchService.onPostChanged(new PostChangedEvent(1L, ChangeType.UPDATED, null));
+            searchService.onPostChanged(new PostChangedEvent(2L, ChangeType.DELETED, null));
+            searchService.onPostChanged(new PostChangedEvent(3L, ChangeType.CREATED, null));
+            return List.of();
+        });
+        when(postRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        searchService.rebuild();
+
+        assertThat(searchService.search("新篇章")).extracting(SearchResult::getId).containsExactly(1L);
+        assertThat(searchService.search("旧时光")).isEmpty();
+        assertThat(searchService.search("删除")).isEmpty();
+        assertThat(searchService.search("新文章")).extracting(SearchResult::getId).containsExactly(3L);
+    }
+
+    /**
+     * 构造文章
+     *
+     * @param id    文章ID
+     * @param title 标题
+     * @return 文章
+     */
+    private static Post post(Long id, String title) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle(title);
+        post.setAuthor("Weijue");
+        post.setContent("正文");
+        post.setCreateTime(LocalDateTime.of(2025, 1, 1, 12, 0));
+        return post;
+    }
+}
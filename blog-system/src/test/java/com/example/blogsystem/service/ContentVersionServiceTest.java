@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.BlogProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 条件请求校验值测试：校验值只取决于内容与部署版本，不同节点（或重启后）对同一内容给出相同的校验值，
+ * Last-Modified 不早于部署时间
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+class ContentVersionServiceTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private BlogProperties blogProperties;
+
+    /**
+     * 测试两个独立实例（模拟负载均衡后的两个节点）的校验值一致，页面模板版本变化时校验值随之变化
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testValidatorsAreSharedAcrossNodes() throws Exception {
+        Post post = postService.createPost("校验值", "正文", "Weijue");
+        ContentVersionService nodeA = new ContentVersionService(postRepository, blogProperties);
+        Thread.sleep(5);
+        ContentVersionService nodeB = new ContentVersionService(postRepository, blogProperties);
+
+        assertThat(nodeB.currentValidator()).isEqualTo(nodeA.currentValidator());
+        assertThat(nodeB.validatorFor(post.getId(), post.getUpdateTime()))
+                .isEqualTo(nodeA.validatorFor(post.getId(), post.getUpdateTime()));
+
+        OffsetDateTime deployedAt = OffsetDateTime.now().plusMinutes(1);
+        ContentVersionService redeployed = new ContentVersionService(postRepository,
+                withSiteVersion("2", deployedAt));
+        assertThat(redeployed.currentValidator().etag()).isNotEqualTo(nodeA.currentValidator().etag());
+        assertThat(redeployed.validatorFor(post.getId(), post.getUpdateTime()).etag())
+                .isNotEqualTo(nodeA.validatorFor(post.getId(), post.getUpdateTime()).etag());
+    }
+
+    /**
+     * 测试 Last-Modified 不早于页面模板版本的生效时间：部署后只发送 If-Modified-Since 的客户端也拿到新页面
+     */
+    @Test
+    void testLastModifiedCoversDeployment() {
+        Post post = postService.createPost("部署", "正文", "Weijue");
+        ContentVersionService current = new ContentVersionService(postRepository, blogProperties);
+        long contentMillis = current.validatorFor(post.getId(), post.getUpdateTime()).lastModified();
+        assertThat(contentMillis)
+                .isEqualTo(post.getUpdateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        OffsetDateTime deployedAt = OffsetDateTime.now().plusMinutes(1);
+        ContentVersionService redeployed = new ContentVersionService(postRepository,
+                withSiteVersion("2", deployedAt));
+        assertThat(redeployed.validatorFor(post.getId(), post.getUpdateTime()).lastModified())
+                .isEqualTo(deployedAt.toInstant().toEpochMilli());
+        assertThat(redeployed.currentValidator().lastModified()).isEqualTo(deployedAt.toInstant().toEpochMilli());
+
+        ContentVersionService olderDeployment = new ContentVersionService(postRepository,
+                withSiteVersion("2", deployedAt.minusYears(1)));
+        assertThat(olderDeployment.validatorFor(post.getId(), post.getUpdateTime()).lastModified())
+                .isEqualTo(contentMillis);
+    }
+
+    /**
+     * 复制当前配置并替换页面模板版本
+     *
+     * @param siteVersion     页面模板版本
+     * @param siteVersionTime 页面模板版本的生效时间
+     * @return 新配置
+     */
+    private BlogProperties withSiteVersion(String siteVersion, OffsetDateTime siteVersionTime) {
+        return new BlogProperties(blogProperties.pageSize(), blogProperties.adminPageSize(),
+                blogProperties.streamIndex(), blogProperties.indexChunkSize(), blogProperties.sidebarTags(),
+                siteVersion, siteVersionTime);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 流式首页测试：文章卡片按块查询并边查询边输出，翻页结果与整页查询一致
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.blog.index-chunk-size=3")
+class IndexStreamTest {
+
+    private static final Pattern TITLE = Pattern.compile("<h2 class=\"post-title\">\\s*<a [^>]*>([^<]+)</a>");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PublicPageService publicPageService;
+
+    /**
+     * 每个测试用例执行前清空数据库
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+    }
+
+    /**
+     * 测试流式首页按倒序逐块输出完整的一页，且响应在渲染过程中已推送给客户端
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testStreamedPagesAreCompleteAndOrdered() throws Exception {
+        createPosts(23);
+
+        MvcResult first = mockMvc.perform(get("/")).andExpect(status().isOk()).andReturn();
+        assertThat(first.getResponse().isCommitted()).isTrue();
+        assertThat(titles(first)).containsExactly(expectedTitles(22, 13));
+
+        String olderCursor = (String) first.getModelAndView().getModel().get("olderCursor");
+        MvcResult second = mockMvc.perform(get("/").param("before", olderCursor))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(titles(second)).containsExactly(expectedTitles(12, 3));
+
+        MvcResult third = mockMvc.perform(get("/")
+                        .param("before", (String) second.getModelAndView().getModel().get("olderCursor")))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(titles(third)).containsExactly(expectedTitles(2, 0));
+        assertThat(third.getModelAndView().getModel().get("olderCursor")).isNull();
+
+        // “较新文章”方向走整页查询，回到与流式第一页相同的内容
+        MvcResult back = mockMvc.perform(get("/")
+                        .param("after", (String) second.getModelAndView().getModel().get("newerCursor")))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(titles(back)).isEqualTo(titles(first));
+    }
+
+    /**
+     * 测试准备阶段只确定分页边界，卡片在遍历时逐块查询，每块查询前推送一次输出
+     */
+    @Test
+    void testCardsAreLoadedLazilyInChunks() {
+        createPosts(8);
+        int[] flushes = {0};
+
+        IndexStream stream = publicPageService.streamIndexPage(null, () -> flushes[0]++);
+        assertThat(stream).hasSize(8);
+        assertThat(stream.getOlderCursor()).isNull();
+        assertThat(flushes[0]).isZero();
+
+        List<String> titles = new ArrayList<>();
+        stream.forEach(card -> titles.add(card.getTitle()));
+        assertThat(titles).containsExactly(expectedTitles(7, 0));
+        // 3 + 3 + 2
+        assertThat(flushes[0]).isEqualTo(3);
+    }
+
+    /**
+     * 创建若干文章，创建时间两两相同，验证 id 作为次级排序键
+     *
+     * @param count 文章数
+     */
+    private void createPosts(int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 0; i < count; i++) {
+            Post post = new Post();
+            post.setTitle("文章" + i);
+            post.setContent("内容" + i);
+            post.setAuthor("admin");
+            post.setCreateTime(base.plusMinutes(i / 2));
+            postRepository.save(post);
+        }
+    }
+
+    /**
+     * 生成从 from 递减到 to 的文章标题
+     *
+     * @param from 起始序号
+     * @param to   结束序号
+     * @return 标题数组
+     */
+    private static String[] expectedTitles(int from, int to) {
+        String[] titles = new String[from - to + 1];
+        for (int i = from; i >= to; i--) {
+            titles[from - i] = "文章" + i;
+        }
+        return titles;
+    }
+
+    /**
+     * 按出现顺序提取页面中的文章标题
+     *
+     * @param result 请求结果
+     * @return 标题
+     * @throws Exception 读取响应异常
+     */
+    private static List<String> titles(MvcResult result) throws Exception {
+        Matcher matcher = TITLE.matcher(result.getResponse().getContentAsString());
+        List<String> titles = new ArrayList<>();
+        while (matcher.find()) {
+            titles.add(matcher.group(1));
+        }
+        return titles;
+    }
+}
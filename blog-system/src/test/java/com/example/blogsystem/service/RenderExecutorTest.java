@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.config.RenderProperties;
+import com.example.blogsystem.util.MarkdownUtil;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 并行渲染执行器单元测试
+ *
+ * @author Weijue
+ */
+class RenderExecutorTest {
+
+    /**
+     * 测试共享的 MarkdownUtil 并行渲染结果与串行一致，且返回前全部完成
+     */
+    @Test
+    void testParallelRenderingMatchesSerial() {
+        RenderExecutor executor = newExecutor(4, 4);
+        MarkdownUtil markdownUtil = new MarkdownUtil();
+        List<String> sources = IntStream.range(0, 50)
+                .mapToObj(i -> "# 标题 " + i + "\n\n| a | b |\n|---|---|\n| " + i + " | `code` |\n\n**正文** " + i)
+                .toList();
+        String[] rendered = new String[sources.size()];
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        try {
+            executor.forEach(IntStream.range(0, sources.size()).boxed().toList(), i -> {
+                threads.add(Thread.currentThread().getName());
+                rendered[i] = markdownUtil.markdownToHtml(sources.get(i));
+            });
+        } finally {
+            executor.destroy();
+        }
+
+        for (int i = 0; i < sources.size(); i++) {
+            assertThat(rendered[i]).isEqualTo(markdownUtil.markdownToHtml(sources.get(i)));
+        }
+        assertThat(threads).hasSizeBetween(2, 4);
+    }
+
+    /**
+     * 测试渲染异常原样抛给调用方
+     */
+    @Test
+    void testFailurePropagatesToCaller() {
+        RenderExecutor executor = newExecutor(2, 2);
+        try {
+            assertThatThrownBy(() -> executor.forEach(List.of(1, 2, 3, 4), i -> {
+                if (i == 4) {
+                    throw new IllegalStateException("渲染失败");
+                }
+            })).isInstanceOf(IllegalStateException.class).hasMessage("渲染失败");
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    /**
+     * 创建执行器
+     *
+     * @param parallelism   线程池并行度
+     * @param maxPerRequest 单个请求最多任务数
+     * @return 执行器
+     */
+    private static RenderExecutor newExecutor(int parallelism, int maxPerRequest) {
+        return new RenderExecutor(new RenderProperties(true, false, 100,
+                new RenderProperties.Cache(DataSize.ofMegabytes(64)),
+                new RenderProperties.Executor(parallelism, maxPerRequest),
+                new RenderProperties.Highlight(DataSize.ofMegabytes(16))));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.service;
+
+import com.example.blogsystem.dto.MonthCount;
+import com.example.blogsystem.dto.PostRecord;
+import com.example.blogsystem.dto.Sidebar;
+import com.example.blogsystem.dto.TagCount;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.ArchiveMonthRepository;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.repository.TagRepository;
+import com.example.blogsystem.transfer.PostImportService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 标签与月度归档测试：计数随文章增删改增量维护，标签页与归档页按游标翻页，侧栏结果缓存到下次变更
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaxonomyServiceTest {
+
+    private static final Pattern TITLE = Pattern.compile("<h2 class=\"post-title\">\\s*<a [^>]*>([^<]+)</a>");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ArchiveMonthRepository archiveMonthRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private TaxonomyService taxonomyService;
+
+    /**
+     * 每个测试用例执行前清空文章、标签与归档计数
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        tagRepository.deleteAll();
+        archiveMonthRepository.deleteAll();
+    }
+
+    /**
+     * 测试标签与月份的文章数随发布、改标签与删除增量变化，标签云按文章数排序且不含空标签
+     */
+    @Test
+    void testCountsFollowWrites() {
+        Post first = postService.createPost("第一篇", "正文", "Weijue", List.of("Java", "Spring Boot"));
+        Post second = postService.createPost("第二篇", "正文", "Weijue", List.of("java", "随笔"));
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+
+        assertThat(taxonomyService.sidebar().tags()).extracting(TagCount::name, TagCount::postCount)
+                .containsExactly(tuple("Java", 2), tuple("Spring Boot", 1), tuple("随笔", 1));
+        assertThat(taxonomyService.sidebar().months()).containsExactly(new MonthCount(thisMonth, 2));
+        assertThat(taxonomyService.tagsOf(second.getId())).extracting(TagCount::slug).containsExactly("java", "随笔");
+
+        postService.updatePost(first.getId(), "第一篇", "正文", null, List.of("随笔", "Java"));
+        assertThat(taxonomyService.sidebar().tags()).extracting(TagCount::name, TagCount::postCount)
+                .containsExactly(tuple("Java", 2), tuple("随笔", 2));
+
+        postService.updatePost(second.getId(), "第二篇（修订）", "正文", null, null);
+        assertThat(taxonomyService.tagsOf(second.getId())).hasSize(2);
+
+        postService.deletePost(second.getId());
+        assertThat(taxonomyService.sidebar().tags()).extracting(TagCount::name, TagCount::postCount)
+                .containsExactly(tuple("Java", 1), tuple("随笔", 1));
+        assertThat(taxonomyService.sidebar().months()).containsExactly(new MonthCount(thisMonth, 1));
+    }
+
+    /**
+     * 测试只修改标签时文章的修改时间也会刷新，条件请求不会返回过期页面
+     */
+    @Test
+    void testRetagTouchesUpdateTime() {
+        Post post = postService.createPost("改标签", "正文", "Weijue", List.of("旧标签"));
+        LocalDateTime before = postRepository.findUpdateTimeById(post.getId()).orElseThrow();
+
+        postService.updatePost(post.getId(), "改标签", "正文", null, List.of("新标签"));
+        assertThat(postRepository.findUpdateTimeById(post.getId()).orElseThrow()).isAfter(before);
+    }
+
+    /**
+     * 测试侧栏结果在两次变更之间复用，变更提交后重新构建
+     */
+    @Test
+    void testSidebarIsCachedUntilNextChange() {
+        postService.createPost("缓存", "正文", "Weijue", List.of("缓存"));
+        Sidebar sidebar = taxonomyService.sidebar();
+        assertThat(taxonomyService.sidebar()).isSameAs(sidebar);
+
+        postService.createPost("再来一篇", "正文", "Weijue", List.of("缓存"));
+        assertThat(taxonomyService.sidebar()).isNotSameAs(sidebar);
+        assertThat(taxonomyService.sidebar().tags()).extracting(TagCount::postCount).containsExactly(2);
+    }
+
+    /**
+     * 测试标签页按 (createTime, id) 游标翻页，结果与发布顺序一致
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testTagPagesByCursor() throws Exception {
+        for (int i = 0; i < 13; i++) {
+            postService.createPost("分页 " + i, "正文", "Weijue", i % 2 == 0 ? List.of("分页") : List.of("其他"));
+        }
+
+        MvcResult first = mockMvc.perform(get("/tags/{slug}", "分页")).andExpect(status().isOk()).andReturn();
+        assertThat(titles(first)).containsExactly("分页 12", "分页 10", "分页 8", "分页 6", "分页 4", "分页 2", "分页 0");
+        assertThat(first.getModelAndView().getModel().get("olderCursor")).isNull();
+        assertThat(first.getResponse().getContentAsString()).contains("共 7 篇文章");
+
+        for (int i = 13; i < 20; i++) {
+            postService.createPost("分页 " + i, "正文", "Weijue", List.of("分页"));
+        }
+        MvcResult latest = mockMvc.perform(get("/tags/{slug}", "分页")).andExpect(status().isOk()).andReturn();
+        assertThat(titles(latest)).hasSize(10).startsWith("分页 19").endsWith("分页 8");
+        MvcResult older = mockMvc.perform(get("/tags/{slug}", "分页")
+                        .param("before", (String) latest.getModelAndView().getModel().get("olderCursor")))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(titles(older)).containsExactly("分页 6", "分页 4", "分页 2", "分页 0");
+
+        mockMvc.perform(get("/tags/{slug}", "不存在")).andExpect(status().isNotFound());
+    }
+
+    /**
+     * 测试导入的文章按月份计入归档，归档页只列出该月文章并按游标翻页
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testArchivePagesByCursor() throws Exception {
+        List<PostRecord> records = new ArrayList<>();
+        LocalDateTime march = LocalDateTime.of(2024, 3, 1, 0, 0);
+        records.add(new PostRecord(null, "二月", null, march.minusSeconds(1), null, "正文"));
+        for (int i = 0; i < 12; i++) {
+            records.add(new PostRecord(null, "三月 " + i, null, march.plusDays(i * 2L), null, "正文"));
+        }
+        records.add(new PostRecord(null, "四月", null, march.plusMonths(1), null, "正文"));
+        Collections.shuffle(records);
+        postImportService.importRecords(records.iterator(), "Weijue");
+
+        assertThat(taxonomyService.sidebar().months()).containsExactly(
+                new MonthCount(LocalDate.of(2024, 4, 1), 1),
+                new MonthCount(LocalDate.of(2024, 3, 1), 12),
+                new MonthCount(LocalDate.of(2024, 2, 1), 1));
+
+        MvcResult first = mockMvc.perform(get("/archive/2024/03")).andExpect(status().isOk()).andReturn();
+        assertThat(titles(first)).hasSize(10).startsWith("三月 11").endsWith("三月 2");
+        MvcResult second = mockMvc.perform(get("/archive/2024/3")
+                        .param("before", (String) first.getModelAndView().getModel().get("olderCursor")))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(titles(second)).containsExactly("三月 1", "三月 0");
+        assertThat(second.getModelAndView().getModel().get("olderCursor")).isNull();
+
+        MvcResult index = mockMvc.perform(get("/")).andExpect(status().isOk()).andReturn();
+        assertThat(index.getResponse().getContentAsString()).contains("/archive/2024/03", "2024 年 3 月");
+
+        mockMvc.perform(get("/archive/2024/13")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/archive/24/03")).andExpect(status().isNotFound());
+    }
+
+    /**
+     * 测试标签输入的解析：全角与半角逗号分隔、按链接标识去重，过多或过长时拒绝
+     */
+    @Test
+    void testParseTags() {
+        assertThat(TaxonomyService.parseTags(" Java，spring boot, JAVA ,, ")).containsExactly("Java", "spring boot");
+        assertThat(TaxonomyService.parseTags(null)).isEmpty();
+        assertThatThrownBy(() -> TaxonomyService.parseTags("a,b,c,d,e,f,g,h,i,j,k"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaxonomyService.parseTags("x".repeat(51)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaxonomyService.parseTags("!!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 提取列表页中的文章标题
+     *
+     * @param result 请求结果
+     * @return 按页面顺序排列的标题
+     * @throws Exception 读取响应失败
+     */
+    private static List<String> titles(MvcResult result) throws Exception {
+        List<String> titles = new ArrayList<>();
+        Matcher matcher = TITLE.matcher(result.getResponse().getContentAsString());
+        while (matcher.find()) {
+            titles.add(matcher.group(1));
+        }
+        return titles;
+    }
+}
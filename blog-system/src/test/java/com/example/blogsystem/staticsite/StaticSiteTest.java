@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.staticsite;
+
+import com.example.blogsystem.config.StaticSiteProperties;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.stats.ViewCounter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 静态站点模式集成测试
+ *
+ * @author Weijue
+ */
+@SpringBootTest(properties = {
+        "app.blog.static-site.enabled=true",
+        "app.blog.static-site.directory=target/static-site-test"
+})
+@AutoConfigureMockMvc
+class StaticSiteTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private StaticSiteGenerator generator;
+
+    @Autowired
+    private StaticSiteProperties staticSiteProperties;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    /**
+     * 每个测试用例执行前清空数据库并全量导出
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        generator.generateAll();
+    }
+
+    /**
+     * 测试写入后增量导出，公开页面由过滤器直接输出文件，不进入 Spring MVC；阅读数上报仍由应用处理
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testPublicPagesServedFromExportedFiles() throws Exception {
+        Post post = postService.createPost("静态文章", "静态 **正文**", "Weijue");
+        Path root = staticSiteProperties.directory();
+        Path postFile = root.resolve("posts/" + post.getId() + ".html");
+        assertThat(Files.readString(root.resolve("index.html"))).contains("静态文章");
+        assertThat(Files.readString(postFile)).contains("<strong>正文</strong>")
+                .containsPattern("href=\"/css/style-[0-9a-f]{32}\\.css\"");
+        assertThat(root.resolve("posts/" + post.getId() + ".html.gz")).exists();
+        assertThat(Files.readString(root.resolve("feed.xml"))).contains("静态文章");
+
+        MvcResult index = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/html;charset=UTF-8"))
+                .andReturn();
+        assertThat(index.getHandler()).isNull();
+        assertThat(index.getResponse().getContentAsByteArray()).isEqualTo(Files.readAllBytes(root.resolve("index.html")));
+
+        mockMvc.perform(get("/").header("If-None-Match", index.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/posts/{id}", post.getId()).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+        MvcResult bySlug = mockMvc.perform(get("/p/{slug}", post.getSlug()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<strong>正文</strong>")))
+                .andReturn();
+        assertThat(bySlug.getHandler()).isNull();
+
+        // 带游标的翻页仍由应用动态渲染
+        MvcResult paged = mockMvc.perform(get("/?before=1735732800000000_1"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(paged.getHandler()).isNotNull();
+
+        // 导出的文章页不含阅读数，由页面脚本向应用上报，静态站点模式下照常计数
+        assertThat(Files.readString(postFile)).contains("data-views-url=\"/posts/" + post.getId() + "/views\"")
+                .containsPattern("src=\"/js/post-views-[0-9a-f]{32}\\.js\"");
+        long views = viewCounter.views(post.getId());
+        mockMvc.perform(post("/posts/{id}/views", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Long.toString(views + 1)));
+
+        postService.deletePost(post.getId());
+        assertThat(postFile).doesNotExist();
+        assertThat(Files.readString(root.resolve("index.html"))).doesNotContain("静态文章");
+        mockMvc.perform(get("/posts/{id}", post.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 测试校验值取自内容而非文件时间：另一节点在不同时刻导出同一内容时 ETag 与 Last-Modified 不变，
+     * Last-Modified 为文章修改时间
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testValidatorsDoNotDependOnFileTimes() throws Exception {
+        Post post = postService.createPost("校验值", "正文", "Weijue");
+        MvcResult first = mockMvc.perform(get("/posts/{id}", post.getId())).andExpect(status().isOk()).andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        long lastModified = first.getResponse().getDateHeader("Last-Modified");
+        assertThat(lastModified).isEqualTo(post.getUpdateTime().atZone(ZoneId.systemDefault())
+                .toInstant().truncatedTo(ChronoUnit.SECONDS).toEpochMilli());
+
+        Thread.sleep(1_100);
+        generator.generateAll();
+        Path postFile = staticSiteProperties.directory().resolve("posts/" + post.getId() + ".html");
+        assertThat(Files.getLastModifiedTime(postFile).toMillis()).isGreaterThan(lastModified + 1_000);
+        mockMvc.perform(get("/posts/{id}", post.getId()))
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().dateValue("Last-Modified", lastModified));
+        mockMvc.perform(get("/posts/{id}", post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/posts/{id}", post.getId()).header("Accept-Encoding", "gzip"))
+                .andExpect(header().string("ETag", etag.substring(0, etag.length() - 1) + "-gzip\""));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 分段累加表测试
+ *
+ * @author Weijue
+ */
+class LongAdderMapTest {
+
+    /**
+     * 测试多线程同时累加（包括首次插入与扩容）后，取出的总数不丢失
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testConcurrentIncrementsAreNotLost() throws Exception {
+        LongAdderMap map = new LongAdderMap(4);
+        int threads = 8;
+        int keys = 1_000;
+        int rounds = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < rounds; round++) {
+                    for (int key = 1; key <= keys; key++) {
+                        map.increment((key + offset) % keys + 1);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Map<Long, Long> drained = new HashMap<>();
+        map.drain(drained::put);
+        assertThat(drained).hasSize(keys);
+        assertThat(drained.values()).allMatch(value -> value == (long) threads * rounds);
+    }
+
+    /**
+     * 测试取出后清零，只有新的累加才会出现在下一次结果中
+     */
+    @Test
+    void testDrainResetsValues() {
+        LongAdderMap map = new LongAdderMap(1);
+        map.add(7L, 3L);
+        map.increment(9L);
+        assertThat(map.sum(7L)).isEqualTo(3L);
+        assertThat(map.sum(8L)).isZero();
+
+        Map<Long, Long> first = new HashMap<>();
+        map.drain(first::put);
+        assertThat(first).containsOnly(Map.entry(7L, 3L), Map.entry(9L, 1L));
+        assertThat(map.sum(7L)).isZero();
+
+        map.increment(9L);
+        Map<Long, Long> second = new HashMap<>();
+        map.drain(second::put);
+        assertThat(second).containsOnly(Map.entry(9L, 1L));
+    }
+
+    /**
+     * 测试非正数键被拒绝（0 用作空槽标记）
+     */
+    @Test
+    void testRejectsNonPositiveKeys() {
+        LongAdderMap map = new LongAdderMap(2);
+        assertThatThrownBy(() -> map.increment(0L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.increment(-1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.stats;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 阅读数统计测试：由文章页脚本上报，请求只在内存中累加，批量写入后累加到 post_stats
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.blog.views.flush-interval=1h")
+class ViewCounterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 每个测试用例执行前清空数据库并写入已有增量
+     */
+    @BeforeEach
+    void setUp() {
+        viewCounter.flush();
+        postRepository.deleteAll();
+    }
+
+    /**
+     * 测试阅读数上报：写入前只在内存中，写入后新增行并在之后的写入中累加
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testViewsAreBatchedIntoPostStats() throws Exception {
+        Post post = postService.createPost("阅读数", "正文", "Weijue");
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+        }
+        assertThat(storedViews(post.getId())).isEmpty();
+        mockMvc.perform(post("/posts/{id}/views", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(content().string("4"));
+
+        assertThat(viewCounter.flush()).isEqualTo(1);
+        assertThat(storedViews(post.getId())).containsExactly(4L);
+
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+        viewCounter.flush();
+        assertThat(storedViews(post.getId())).containsExactly(5L);
+        assertThat(viewCounter.views(post.getId())).isEqualTo(5L);
+    }
+
+    /**
+     * 测试文章页本身不含阅读数也不计数：GET、HEAD 与返回 304 的条件请求都不累加，
+     * 上报阅读后页面的校验值不变，缓存的页面仍可复用
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testPageNeitherCountsNorEmbedsViews() throws Exception {
+        Post post = postService.createPost("页面", "正文", "Weijue");
+        MvcResult page = mockMvc.perform(get("/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "data-views-url=\"/posts/" + post.getId() + "/views\"")))
+                .andReturn();
+        String etag = page.getResponse().getHeader("ETag");
+        mockMvc.perform(head("/posts/{id}", post.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/posts/{id}", post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        // 上报接口只接受 POST
+        mockMvc.perform(head("/posts/{id}/views", post.getId()));
+        assertThat(viewCounter.views(post.getId())).isZero();
+
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(content().string("1"));
+        mockMvc.perform(get("/posts/{id}", post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * 测试预取与预渲染页面的上报只返回阅读数、不计数
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testPrefetchIsNotCounted() throws Exception {
+        Post post = postService.createPost("预取", "正文", "Weijue");
+        mockMvc.perform(post("/posts/{id}/views", post.getId()).header("Sec-Purpose", "prefetch;prerender"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+        mockMvc.perform(post("/posts/{id}/views", post.getId()).header("Purpose", "prefetch"))
+                .andExpect(status().isOk());
+        assertThat(viewCounter.views(post.getId())).isZero();
+
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+        assertThat(viewCounter.views(post.getId())).isEqualTo(1L);
+    }
+
+    /**
+     * 测试不存在的文章不计数，写入前被删除的文章被跳过
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testMissingAndDeletedPostsAreSkipped() throws Exception {
+        Post post = postService.createPost("将被删除", "正文", "Weijue");
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+        mockMvc.perform(post("/posts/{id}/views", post.getId() + 1000)).andExpect(status().isNotFound());
+        postService.deletePost(post.getId());
+
+        viewCounter.flush();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_stats", Long.class)).isZero();
+    }
+
+    /**
+     * 测试上报接口在缓存命中后不访问数据库：文章存在性与阅读数都取自缓存，不存在的文章同样缓存；
+     * 删除文章后淘汰对应条目
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testBeaconDoesNotQueryAfterFirstLookup() throws Exception {
+        Post post = postService.createPost("热路径", "正文", "Weijue");
+        long missing = post.getId() + 1000;
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+        mockMvc.perform(post("/posts/{id}/views", missing)).andExpect(status().isNotFound());
+
+        clearInvocations(jdbcTemplate);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isOk());
+            mockMvc.perform(post("/posts/{id}/views", missing)).andExpect(status().isNotFound());
+        }
+        verifyNoInteractions(jdbcTemplate);
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(content().string("5"));
+
+        postService.deletePost(post.getId());
+        mockMvc.perform(post("/posts/{id}/views", post.getId())).andExpect(status().isNotFound());
+    }
+
+    /**
+     * 查询已写入的阅读数
+     *
+     * @param postId 文章ID
+     * @return 阅读数，未写入时为空
+     */
+    private List<Long> storedViews(Long postId) {
+        return jdbcTemplate.queryForList("select views from post_stats where post_id = ?", Long.class, postId);
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.transfer;
+
+import com.example.blogsystem.dto.TagCount;
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.repository.TagRepository;
+import com.example.blogsystem.search.SearchService;
+import com.example.blogsystem.service.TaxonomyService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 文章批量导入导出测试
+ *
+ * @author Weijue
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostTransferTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TaxonomyService taxonomyService;
+
+    /**
+     * 每个测试用例执行前清空文章与标签
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    /**
+     * 测试 NDJSON 导入：按批提交、保留创建时间、短链接去重，导入后检索索引整体重建
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testImportNdjsonInBatches() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 120; i++) {
+            ndjson.append("{\"title\":\"迁移文章 ").append(i).append("\",\"content\":\"第 ").append(i)
+                    .append(" 篇 **旧平台** 内容\",\"createTime\":\"2020-01-01T08:00:00\"}\n");
+        }
+        ndjson.append("{\"title\":\"同名\",\"slug\":\"same\",\"author\":\"旧作者\",\"content\":\"a\"}\n")
+                .append("{\"title\":\"同名\",\"slug\":\"same\",\"content\":\"b\"}\n");
+
+        mockMvc.perform(importRequest(MediaType.APPLICATION_NDJSON, ndjson.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(122))
+                .andExpect(jsonPath("$.batches").value(3));
+
+        List<Post> posts = postRepository.findAll(Sort.by("id"));
+        assertThat(posts).hasSize(122);
+        assertThat(posts.get(0).getCreateTime()).isEqualTo(LocalDateTime.of(2020, 1, 1, 8, 0));
+        assertThat(posts.get(0).getExcerptHtml()).contains("<strong>旧平台</strong>");
+        assertThat(posts.get(0).getAuthor()).isEqualTo("admin");
+        assertThat(posts.get(120).getAuthor()).isEqualTo("旧作者");
+        assertThat(posts.subList(120, 122)).extracting(Post::getSlug).containsExactly("same", "same-2");
+        assertThat(searchService.search("旧平台")).hasSize(20);
+    }
+
+    /**
+     * 测试格式错误时停止导入，已提交的批次保留
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testImportStopsAtMalformedRecord() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 60; i++) {
+            ndjson.append("{\"title\":\"文章 ").append(i).append("\",\"content\":\"内容\"}\n");
+        }
+        ndjson.append("{\"content\":\"没有标题\"}\n");
+
+        mockMvc.perform(importRequest(MediaType.APPLICATION_NDJSON, ndjson.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest())
+                .andExpect(status().reason(containsString("第 61 篇文章导入失败（此前已导入 50 篇）：缺少标题")));
+        assertThat(postRepository.count()).isEqualTo(50);
+    }
+
+    /**
+     * 测试 zip 导入（front matter 与无 front matter 两种文件），以及 zip 导出后可原样导入
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testZipImportAndExportRoundTrip() throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(buffer, StandardCharsets.UTF_8)) {
+            zip.putNextEntry(new ZipEntry("blog/"));
+            zip.putNextEntry(new ZipEntry("blog/hello.md"));
+            zip.write("""
+                    ---
+                    title: "你好: 世界"
+                    author: Weijue
+                    date: 2019-05-04
+                    slug: hello
+                    ---
+
+                    正文 *一*
+                    """.getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("blog/notes.md"));
+            zip.write("# 读书笔记\n\n没有 front matter".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("blog/cover.png"));
+            zip.write(new byte[] {1, 2, 3});
+        }
+        mockMvc.perform(importRequest(MediaType.parseMediaType("application/zip"), buffer.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        Post hello = postRepository.findAll(Sort.by("id")).get(0);
+        assertThat(hello.getTitle()).isEqualTo("你好: 世界");
+        assertThat(hello.getSlug()).isEqualTo("hello");
+        assertThat(hello.getCreateTime()).isEqualTo(LocalDateTime.of(2019, 5, 4, 0, 0));
+        assertThat(hello.getContent()).isEqualTo("正文 *一*\n");
+        assertThat(postRepository.findAll()).extracting(Post::getTitle).contains("读书笔记");
+
+        byte[] exported = mockMvc.perform(get("/admin/posts/export").param("format", "zip")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"posts.zip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(entryNames(exported)).containsExactlyInAnyOrder("posts/hello.md", "posts/读书笔记.md");
+
+        mockMvc.perform(importRequest(MediaType.parseMediaType("application/zip"), exported))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+        Post copy = postRepository.findAll(Sort.by("id")).get(2);
+        assertThat(copy.getTitle()).isEqualTo(hello.getTitle());
+        assertThat(copy.getContent()).isEqualTo(hello.getContent());
+        assertThat(copy.getCreateTime()).isEqualTo(hello.getCreateTime());
+        assertThat(copy.getSlug()).isEqualTo("hello-2");
+    }
+
+    /**
+     * 测试 NDJSON 导出：每行一篇，按 id 顺序，跨越多个查询批次
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testExportNdjsonStreamsAllPosts() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 75; i++) {
+            ndjson.append("{\"title\":\"导出 ").append(i).append("\",\"content\":\"内容 ").append(i).append("\"}\n");
+        }
+        mockMvc.perform(importRequest(MediaType.APPLICATION_NDJSON, ndjson.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/admin/posts/export").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(75);
+        assertThat(lines[0]).contains("\"title\":\"导出 1\"", "\"content\":\"内容 1\"", "\"slug\":\"导出-1\"");
+        assertThat(lines[74]).contains("\"title\":\"导出 75\"");
+
+        mockMvc.perform(get("/admin/posts/export")).andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * 测试正文大小按 UTF-8 字节计算：中文每字 3 字节、增补平面字符 4 字节，与编码结果一致
+     */
+    @Test
+    void testContentSizeCountsUtf8Bytes() {
+        for (String text : new String[] {"", "abc", "é", "中文正文", "😀 emoji", "\uD800 孤立代理"}) {
+            assertThat(PostImportService.utf8Length(text)).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+        }
+        assertThat(PostImportService.utf8Length("中".repeat(1000))).isEqualTo(3000);
+    }
+
+    /**
+     * 测试迁移脚本的调用方式：HTTP Basic 认证、不带 CSRF 令牌即可导入导出，不创建会话；凭据错误时返回 401
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testScriptedTransferWithHttpBasic() throws Exception {
+        byte[] ndjson = "{\"title\":\"脚本导入\",\"content\":\"内容\"}\n".getBytes(StandardCharsets.UTF_8);
+        mockMvc.perform(post("/admin/posts/import").contentType(MediaType.APPLICATION_NDJSON).content(ndjson)
+                        .with(httpBasic("admin", "123456")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(header().doesNotExist("Set-Cookie"));
+        mockMvc.perform(get("/admin/posts/export").with(httpBasic("admin", "123456")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"title\":\"脚本导入\"")));
+
+        mockMvc.perform(post("/admin/posts/import").contentType(MediaType.APPLICATION_NDJSON).content(ndjson)
+                        .with(httpBasic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/admin/posts/import").contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isUnauthorized());
+        assertThat(postRepository.count()).isEqualTo(1);
+    }
+
+    /**
+     * 测试标签随 NDJSON 与 zip 导出并原样导入：按链接标识复用已有标签，文章数按批累加；
+     * front matter 也接受不带引号的列表，不合法的标签带位置报错
+     *
+     * @throws Exception 测试异常
+     */
+    @Test
+    void testTagsRoundTrip() throws Exception {
+        String ndjson = """
+                {"title":"第一篇","content":"一","tags":["Java","Spring Boot"]}
+                {"title":"第二篇","content":"二","tags":["java","随笔"]}
+                {"title":"第三篇","content":"三"}
+                """;
+        mockMvc.perform(importRequest(MediaType.APPLICATION_NDJSON, ndjson.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3));
+        List<Post> originals = postRepository.findAll(Sort.by("id"));
+        assertThat(taxonomyService.tagsOf(originals.get(1).getId())).extracting(TagCount::name)
+                .containsExactly("Java", "随笔");
+        assertThat(taxonomyService.sidebar().tags()).extracting(TagCount::name, TagCount::postCount)
+                .containsExactly(tuple("Java", 2), tuple("Spring Boot", 1), tuple("随笔", 1));
+
+        String exportedNdjson = mockMvc.perform(get("/admin/posts/export").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(exportedNdjson.split("\n")).satisfiesExactly(
+                line -> assertThat(line).contains("\"tags\":[\"Java\",\"Spring Boot\"]"),
+                line -> assertThat(line).contains("\"tags\":[\"Java\",\"随笔\"]"),
+                line -> assertThat(line).contains("\"tags\":[]"));
+
+        byte[] zip = mockMvc.perform(get("/admin/posts/export").param("format", "zip")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(entryText(zip, "posts/第一篇.md")).contains("tags: [\"Java\",\"Spring Boot\"]\n");
+        assertThat(entryText(zip, "posts/第三篇.md")).doesNotContain("tags:");
+
+        mockMvc.perform(importRequest(MediaType.parseMediaType("application/zip"), zip))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3));
+        List<Post> copies = postRepository.findAll(Sort.by("id")).subList(3, 6);
+        for (int i = 0; i < 3; i++) {
+            assertThat(taxonomyService.tagsOf(copies.get(i).getId())).extracting(TagCount::name)
+                    .isEqualTo(taxonomyService.tagsOf(originals.get(i).getId()).stream().map(TagCount::name).toList());
+        }
+        assertThat(taxonomyService.sidebar().tags()).extracting(TagCount::name, TagCount::postCount)
+                .containsExactly(tuple("Java", 4), tuple("Spring Boot", 2), tuple("随笔", 2));
+
+        mockMvc.perform(importRequest(MediaType.parseMediaType("application/zip"),
+                        zipOf("plain.md", "---\ntitle: 普通列表\ntags: [Kotlin, '随笔']\n---\n\n正文")))
+                .andExpect(status().isOk());
+        Post plain = postRepository.findAll(Sort.by("id")).get(6);
+        assertThat(taxonomyService.tagsOf(plain.getId())).extracting(TagCount::name).containsExactly("Kotlin", "随笔");
+
+        mockMvc.perform(importRequest(MediaType.parseMediaType("application/zip"),
+                        zipOf("bad.md", "---\ntitle: 坏标签\ntags: [\"!!!\"]\n---\n\n正文")))
+                .andExpect(status().isBadRequest())
+                .andExpect(status().reason(containsString("第 1 篇文章导入失败（此前已导入 0 篇）：标签须包含字母或数字")));
+        assertThat(postRepository.count()).isEqualTo(7);
+    }
+
+    /**
+     * 构造管理员导入请求
+     *
+     * @param contentType 请求体类型
+     * @param body        请求体
+     * @return 请求
+     */
+    private static MockHttpServletRequestBuilder importRequest(MediaType contentType, byte[] body) {
+        return post("/admin/posts/import")
+                .contentType(contentType)
+                .content(body)
+                .with(user("admin").roles("ADMIN"))
+                .with(csrf());
+    }
+
+    /**
+     * 构造只含一个文件的 zip
+     *
+     * @param name 文件名
+     * @param text 文件内容
+     * @return zip 字节
+     * @throws IOException 写入失败
+     */
+    private static byte[] zipOf(String name, String text) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(buffer, StandardCharsets.UTF_8)) {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 读取 zip 中指定条目的文本
+     *
+     * @param zip  zip 字节
+     * @param name 条目名
+     * @return 条目文本，不存在时为 {@code null}
+     * @throws IOException 读取失败
+     */
+    private static String entryText(byte[] zip, String name) throws IOException {
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (entry.getName().equals(name)) {
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 列出 zip 中的条目名
+     *
+     * @param zip zip 字节
+     * @return 条目名
+     * @throws IOException 读取失败
+     */
+    private static List<String> entryNames(byte[] zip) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
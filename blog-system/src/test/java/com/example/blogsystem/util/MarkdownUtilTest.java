@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Markdown 工具类单元测试
+ *
+ * @author Weijue
+ */
+class MarkdownUtilTest {
+
+    private final MarkdownUtil markdownUtil = new MarkdownUtil();
+
+    /**
+     * 测试节选按完整块截取，超出长度的后续块不输出
+     */
+    @Test
+    void testExcerptKeepsLeadingBlocks() {
+        String markdown = "# 标题\n\n第一段 **加粗**。\n\n" + "长段落。".repeat(100) + "\n\n结尾";
+        RenderedMarkdown rendered = markdownUtil.render(markdown);
+
+        assertThat(rendered.html()).contains("结尾");
+        assertThat(rendered.excerptHtml())
+                .contains("<h1>标题</h1>", "<strong>加粗</strong>")
+                .doesNotContain("长段落", "结尾");
+    }
+
+    /**
+     * 测试首块超长时截断：段落退化为纯文本，代码块按行截断
+     */
+    @Test
+    void testExcerptTruncatesOversizedFirstBlock() {
+        RenderedMarkdown paragraph = markdownUtil.render("*强调* " + "字".repeat(1000));
+        assertThat(paragraph.excerptHtml()).startsWith("<p>强调 字").endsWith("…</p>\n");
+        assertThat(paragraph.excerptHtml().length()).isLessThan(MarkdownUtil.EXCERPT_LENGTH + 20);
+
+        StringBuilder code = new StringBuilder("```java\n");
+        for (int i = 0; i < 200; i++) {
+            code.append("int value").append(i).append(" = ").append(i).append(";\n");
+        }
+        RenderedMarkdown codeBlock = markdownUtil.render(code.append("```\n").toString());
+        assertThat(codeBlock.excerptHtml())
+                .startsWith("<pre><code class=\"language-java\"><span class=\"hl-keyword\">int</span> value0 = "
+                        + "<span class=\"hl-number\">0</span>;\n")
+                .endsWith(";\n</code></pre>\n")
+                .doesNotContain("value199");
+    }
+
+    /**
+     * 测试短链接标识生成
+     */
+    @Test
+    void testSlugify() {
+        assertThat(SlugUtil.slugify("Spring Boot 实战笔记")).isEqualTo("spring-boot-实战笔记");
+        assertThat(SlugUtil.slugify("设计之美：少即是多")).isEqualTo("设计之美-少即是多");
+        assertThat(SlugUtil.slugify("  Hello, World!  ")).isEqualTo("hello-world");
+        assertThat(SlugUtil.slugify("！？")).isEqualTo("post");
+        assertThat(SlugUtil.slugify("a".repeat(200))).hasSize(SlugUtil.MAX_LENGTH);
+    }
+}
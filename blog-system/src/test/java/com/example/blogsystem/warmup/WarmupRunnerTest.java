@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Weijue. All rights reserved.
+ */
+package com.example.blogsystem.warmup;
+
+import com.example.blogsystem.entity.Post;
+import com.example.blogsystem.repository.PostRepository;
+import com.example.blogsystem.service.PostService;
+import com.example.blogsystem.service.RenderCache;
+import com.example.blogsystem.stats.ViewCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 启动预热测试：就绪之前已完成预热，各步骤按配置执行且预热请求不计入阅读数
+ *
+ * @author Weijue
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {"app.blog.warmup.posts=2", "app.blog.warmup.iterations=3"})
+class WarmupRunnerTest {
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private RenderCache renderCache;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 每个测试用例执行前清空数据库
+     */
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+    }
+
+    /**
+     * 测试启动时在切换为就绪状态之前已执行预热并记录各步骤耗时
+     */
+    @Test
+    void testWarmupRunsBeforeReadiness() {
+        assertThat(warmupRunner.getReport()).isNotNull();
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(warmupRunner.getReport().steps()).extracting(WarmupReport.Step::name)
+                .containsExactly("posts", "markdown", "templates", "pages");
+        assertThat(meterRegistry.find("blog.warmup").tag("step", "templates").timer()).isNotNull();
+    }
+
+    /**
+     * 测试预渲染最新文章进入渲染缓存，合成渲染与页面请求按轮数执行，且不计入阅读数
+     */
+    @Test
+    void testWarmupPreloadsLatestPosts() {
+        Post oldest = postService.createPost("最早", "最早的正文", "Weijue");
+        Post middle = postService.createPost("中间", "```java\nint views = 0;\n```", "Weijue");
+        Post newest = postService.createPost("最新", "最新的 **正文**", "Weijue");
+
+        WarmupReport report = warmupRunner.warmUp();
+
+        assertThat(report.steps()).extracting(WarmupReport.Step::count).containsExactly(2, 6, 4, 6);
+        long loads = (long) renderCache.stats().get("loadCount");
+        renderCache.render(newest.getContent());
+        renderCache.render(middle.getContent());
+        assertThat(renderCache.stats().get("loadCount")).isEqualTo(loads);
+        for (Post post : List.of(oldest, middle, newest)) {
+            assertThat(viewCounter.views(post.getId())).isZero();
+        }
+        assertThat(report.format()).contains("templates").contains("total");
+    }
+}